@@ -0,0 +1,36 @@
+package wooteco.subway.domain.fare;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.domain.line.LineExtraFare;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FareBenchmark {
+
+    private static final List<LineExtraFare> LINE_EXTRA_FARES = List.of(
+            new LineExtraFare(0), new LineExtraFare(500), new LineExtraFare(900));
+
+    @Param({"8", "40", "120"})
+    private int distance;
+
+    @Param({"5", "15", "30"})
+    private int age;
+
+    @Benchmark
+    public int applyPolicies() {
+        return new Fare()
+                .applyDistanceOverFarePolicies(distance)
+                .applyMaximumLineExtraFare(LINE_EXTRA_FARES)
+                .applyAgeDiscountPolicy(age)
+                .toInt();
+    }
+}
@@ -0,0 +1,67 @@
+package wooteco.subway.domain.path;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+// 축약 전처리 시간과 함께, 원본 간선 대비 추가된 지름길 수와 축약되지 않고 남은 핵심부의 크기를 보조 지표로 기록한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContractionHierarchyBenchmark {
+
+    private static final long SEED = 20220517L;
+    private static final int STATIONS_PER_LINE = 40;
+
+    @Param({"1000", "10000", "50000"})
+    private int stationCount;
+
+    private SectionGraph graph;
+
+    @Setup
+    public void setUp() {
+        int lineCount = Math.max(1, stationCount / STATIONS_PER_LINE);
+        SubwayNetwork network = new SubwayNetworkGenerator(SEED).generate(lineCount, stationCount);
+        graph = SectionGraph.of(network.toSections());
+    }
+
+    @Benchmark
+    public ContractionHierarchy contract(PreprocessingStatistics statistics) {
+        ContractionHierarchy hierarchy = ContractionHierarchy.contract(graph);
+        statistics.record(hierarchy, graph);
+        return hierarchy;
+    }
+
+    // 한 번의 측정에서 축약도 한 번만 이루어지므로, 누적하지 않고 마지막 축약의 값을 그대로 기록한다.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PreprocessingStatistics {
+
+        public long shortcuts;
+        public long originalEdges;
+        public long coreStations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            shortcuts = 0;
+            originalEdges = 0;
+            coreStations = 0;
+        }
+
+        void record(ContractionHierarchy hierarchy, SectionGraph graph) {
+            shortcuts = hierarchy.getShortcutCount();
+            originalEdges = graph.getArcCount() / 2;
+            coreStations = hierarchy.getCoreSize();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package wooteco.subway.domain.path;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NavigatorBenchmark {
+
+    private static final long SEED = 20220517L;
+    private static final int QUERY_COUNT = 1024;
+    private static final int STATIONS_PER_LINE = 40;
+
+    @Param({"100", "1000", "10000"})
+    private int stationCount;
+
+    @Param({"DIJKSTRA", "BIDIRECTIONAL_DIJKSTRA", "ALT", "CONTRACTION_HIERARCHIES", "DISTANCE_TABLE"})
+    private SearchStrategy strategy;
+
+    private List<Section> sections;
+    private Navigator navigator;
+    private Station[] sources;
+    private Station[] targets;
+    private int queryIndex = 0;
+
+    @Setup
+    public void setUp() {
+        int lineCount = Math.max(1, stationCount / STATIONS_PER_LINE);
+        SubwayNetwork network = new SubwayNetworkGenerator(SEED).generate(lineCount, stationCount);
+        sections = network.toSections();
+        navigator = new Navigator(sections, strategy);
+        sources = new Station[QUERY_COUNT];
+        targets = new Station[QUERY_COUNT];
+        Random random = new Random(SEED);
+        List<Station> stations = network.getStations();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            sources[i] = stations.get(random.nextInt(stations.size()));
+            do {
+                targets[i] = stations.get(random.nextInt(stations.size()));
+            } while (targets[i].equals(sources[i]));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Navigator construct() {
+        return new Navigator(sections, strategy);
+    }
+
+    @Benchmark
+    public List<Section> calculateShortestPath() {
+        int index = queryIndex++ & (QUERY_COUNT - 1);
+        return navigator.calculateShortestPath(sources[index], targets[index]);
+    }
+
+}
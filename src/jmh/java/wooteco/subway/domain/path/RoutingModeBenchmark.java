@@ -0,0 +1,88 @@
+package wooteco.subway.domain.path;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+import wooteco.subway.domain.line.Line;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+// 아래 탐색들은 거리 탐색 전략과 무관하게 동작하므로, NavigatorBenchmark와 달리 전략별로 반복하지 않는다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoutingModeBenchmark {
+
+    private static final long SEED = 20220517L;
+    private static final int QUERY_COUNT = 1024;
+    private static final int STATIONS_PER_LINE = 40;
+    private static final int ALTERNATIVE_COUNT = 5;
+
+    @Param({"100", "1000", "10000"})
+    private int stationCount;
+
+    private Navigator navigator;
+    private LineFareTable lineFareTable;
+    private Station[] sources;
+    private Station[] targets;
+    private int queryIndex = 0;
+
+    @Setup
+    public void setUp() {
+        int lineCount = Math.max(1, stationCount / STATIONS_PER_LINE);
+        SubwayNetwork network = new SubwayNetworkGenerator(SEED).generate(lineCount, stationCount);
+        navigator = new Navigator(network.toSections());
+        lineFareTable = LineFareTable.of(network.getLines()
+                .stream()
+                .collect(Collectors.toMap(Line::getId, Line::getExtraFare)));
+        sources = new Station[QUERY_COUNT];
+        targets = new Station[QUERY_COUNT];
+        Random random = new Random(SEED);
+        List<Station> stations = network.getStations();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            sources[i] = stations.get(random.nextInt(stations.size()));
+            do {
+                targets[i] = stations.get(random.nextInt(stations.size()));
+            } while (targets[i].equals(sources[i]));
+        }
+    }
+
+    // 최소 환승 탐색은 환승 그래프에서 다익스트라 탐색을 수행한다.
+    @Benchmark
+    public List<Section> calculateMinimumTransferPath() {
+        int index = queryIndex++ & (QUERY_COUNT - 1);
+        return navigator.calculateShortestPath(sources[index], targets[index], RoutingMode.MIN_TRANSFER);
+    }
+
+    @Benchmark
+    public List<Path> calculateAlternativePaths() {
+        int index = queryIndex++ & (QUERY_COUNT - 1);
+        return navigator.calculateAlternativePaths(sources[index], targets[index], ALTERNATIVE_COUNT);
+    }
+
+    // 파레토 탐색은 환승 그래프에서 다기준 라벨 탐색을 수행한다.
+    @Benchmark
+    public List<Path> calculateParetoPaths() {
+        int index = queryIndex++ & (QUERY_COUNT - 1);
+        return navigator.calculateParetoPaths(sources[index], targets[index], lineFareTable, AgeDiscountPolicy.ADULT);
+    }
+
+    @Benchmark
+    public Path calculateCheapestPath() {
+        int index = queryIndex++ & (QUERY_COUNT - 1);
+        return navigator.calculateCheapestPath(sources[index], targets[index], lineFareTable);
+    }
+}
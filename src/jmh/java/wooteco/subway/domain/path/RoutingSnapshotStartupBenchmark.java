@@ -0,0 +1,77 @@
+package wooteco.subway.domain.path;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+// 기동 후 첫 경로 조회까지 걸리는 시간으로, 구간 목록으로부터 그래프를 구성하는 경우(데이터베이스 조회 시간 제외)와
+// 스냅샷 파일을 매핑하여 읽는 경우를 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoutingSnapshotStartupBenchmark {
+
+    private static final long SEED = 20220517L;
+    private static final int STATIONS_PER_LINE = 40;
+    private static final SearchSettings SETTINGS = SearchSettings.of(SearchStrategy.DIJKSTRA);
+
+    @Param({"1000", "10000", "50000"})
+    private int stationCount;
+
+    private List<Section> sections;
+    private LineFareTable lineFareTable;
+    private Path snapshotFile;
+    private Station source;
+    private Station target;
+
+    @Setup
+    public void setUp() throws IOException {
+        int lineCount = Math.max(1, stationCount / STATIONS_PER_LINE);
+        SubwayNetwork network = new SubwayNetworkGenerator(SEED).generate(lineCount, stationCount);
+        sections = network.toSections();
+        lineFareTable = LineFareTable.of(Map.of());
+        snapshotFile = Files.createTempFile("routing-snapshot", ".bin");
+        Files.write(snapshotFile, RoutingSnapshotCodec.encode(RoutingSnapshot.of(1L, sections, lineFareTable, SETTINGS)));
+        source = sections.get(0).getUpStation();
+        target = sections.get(sections.size() - 1).getDownStation();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Benchmark
+    public List<Section> buildFromSections() {
+        RoutingSnapshot snapshot = RoutingSnapshot.of(1L, sections, lineFareTable, SETTINGS);
+        return snapshot.getNavigator().calculateShortestPath(source, target);
+    }
+
+    @Benchmark
+    public List<Section> loadFromSnapshotFile() throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            RoutingSnapshot snapshot = RoutingSnapshotCodec.decode(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), 1L, SETTINGS);
+            return snapshot.getNavigator().calculateShortestPath(source, target);
+        }
+    }
+}
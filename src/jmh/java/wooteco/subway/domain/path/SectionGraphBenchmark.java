@@ -0,0 +1,58 @@
+package wooteco.subway.domain.path;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SectionGraphBenchmark {
+
+    private static final long SEED = 20220517L;
+    private static final int STATIONS_PER_LINE = 40;
+
+    @Param({"1000", "10000", "50000"})
+    private int stationCount;
+
+    private List<Section> sections;
+    private SectionGraph graph;
+    private List<Section> removedSections;
+    private List<Section> addedSections;
+
+    // 기존 구간 사이에 새로운 역을 추가하는 변경으로, 구간 하나가 삭제되고 두 개가 추가된다.
+    @Setup
+    public void setUp() {
+        int lineCount = Math.max(1, stationCount / STATIONS_PER_LINE);
+        SubwayNetwork network = new SubwayNetworkGenerator(SEED).generate(lineCount, stationCount);
+        sections = network.toSections();
+        graph = SectionGraph.of(sections);
+        Section splitSection = sections.get(sections.size() / 2);
+        Station middleStation = new Station((long) stationCount + 1, "새로운역");
+        removedSections = List.of(splitSection);
+        addedSections = List.of(
+                new Section(splitSection.getLineId(), splitSection.getUpStation(), middleStation, 1),
+                new Section(splitSection.getLineId(), middleStation, splitSection.getDownStation(), 1));
+    }
+
+    @Benchmark
+    public SectionGraph rebuild() {
+        return SectionGraph.of(sections);
+    }
+
+    @Benchmark
+    public SectionGraph patch() {
+        return graph.patch(removedSections, addedSections).get();
+    }
+}
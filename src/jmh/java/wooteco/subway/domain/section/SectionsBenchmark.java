@@ -0,0 +1,72 @@
+package wooteco.subway.domain.section;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SectionsBenchmark {
+
+    private static final long SEED = 20220517L;
+
+    @Param({"10", "100", "1000"})
+    private int sectionCount;
+
+    private List<Section> shuffledSections;
+    private SectionsManager sectionsManager;
+    private Section middleSection;
+    private Station middleStation;
+
+    @Setup
+    public void setUp() {
+        List<Section> sortedSections = new SubwayNetworkGenerator(SEED)
+                .generate(1, sectionCount + 1)
+                .toSections();
+        shuffledSections = new ArrayList<>(sortedSections);
+        Collections.shuffle(shuffledSections, new Random(SEED));
+        sectionsManager = new SectionsManager(shuffledSections);
+        Section splittableSection = findSplittableSection(sortedSections);
+        middleStation = splittableSection.getUpStation();
+        Station newStation = new Station((long) sectionCount + 2, "새로운역");
+        middleSection = new Section(1L, middleStation, newStation, splittableSection.getDistance() - 1);
+    }
+
+    // 기존 구간보다 짧아야 중간에 새로운 구간을 등록할 수 있으므로, 노선 중간의 거리가 2 이상인 구간을 찾는다.
+    private Section findSplittableSection(List<Section> sortedSections) {
+        for (int i = sortedSections.size() / 2; i < sortedSections.size(); i++) {
+            if (sortedSections.get(i).getDistance() > 1) {
+                return sortedSections.get(i);
+            }
+        }
+        return sortedSections.get(sortedSections.size() - 1);
+    }
+
+    @Benchmark
+    public Sections construct() {
+        return new Sections(shuffledSections);
+    }
+
+    @Benchmark
+    public Sections saveMiddleSection() {
+        return sectionsManager.save(middleSection);
+    }
+
+    @Benchmark
+    public Sections deleteMiddleStation() {
+        return sectionsManager.delete(middleStation);
+    }
+}
@@ -0,0 +1,55 @@
+package wooteco.subway.dao;
+
+import java.sql.Time;
+import java.util.List;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import wooteco.subway.domain.line.LineTimetable;
+
+@Repository
+public class TimetableDao {
+
+    private static final RowMapper<LineTimetable> ROW_MAPPER = (resultSet, rowNum) ->
+            new LineTimetable(resultSet.getLong("line_id"),
+                    resultSet.getTime("first_departure").toLocalTime(),
+                    resultSet.getTime("last_departure").toLocalTime(),
+                    resultSet.getInt("headway"),
+                    resultSet.getInt("speed"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TimetableDao(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<LineTimetable> findAll() {
+        final String sql = "SELECT * FROM timetable";
+
+        return jdbcTemplate.query(sql, new EmptySqlParameterSource(), ROW_MAPPER);
+    }
+
+    // 노선마다 하나의 시간표만 저장하므로, 이미 등록된 노선의 시간표는 새로운 시간표로 덮어쓴다.
+    public void save(LineTimetable lineTimetable) {
+        final String sql = "MERGE INTO timetable(line_id, first_departure, last_departure, headway, speed) "
+                + "KEY(line_id) VALUES(:lineId, :firstDeparture, :lastDeparture, :headway, :speed)";
+        MapSqlParameterSource paramSource = new MapSqlParameterSource();
+        paramSource.addValue("lineId", lineTimetable.getLineId());
+        paramSource.addValue("firstDeparture", Time.valueOf(lineTimetable.getFirstDeparture()));
+        paramSource.addValue("lastDeparture", Time.valueOf(lineTimetable.getLastDeparture()));
+        paramSource.addValue("headway", lineTimetable.getHeadway());
+        paramSource.addValue("speed", lineTimetable.getSpeed());
+
+        jdbcTemplate.update(sql, paramSource);
+    }
+
+    public void deleteByLineId(Long lineId) {
+        final String sql = "DELETE FROM timetable WHERE line_id = :lineId";
+        MapSqlParameterSource paramSource = new MapSqlParameterSource();
+        paramSource.addValue("lineId", lineId);
+
+        jdbcTemplate.update(sql, paramSource);
+    }
+}
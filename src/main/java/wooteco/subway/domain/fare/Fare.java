@@ -37,7 +37,10 @@ public class Fare {
     }
 
     public Fare applyAgeDiscountPolicy(int age) {
-        AgeDiscountPolicy ageDiscountPolicy = AgeDiscountPolicy.of(age);
+        return applyAgeDiscountPolicy(AgeDiscountPolicy.of(age));
+    }
+
+    public Fare applyAgeDiscountPolicy(AgeDiscountPolicy ageDiscountPolicy) {
         return new Fare(ageDiscountPolicy.applyDiscount(value));
     }
 
@@ -0,0 +1,74 @@
+package wooteco.subway.domain.line;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import wooteco.subway.domain.section.Section;
+
+public class LineFareTable {
+
+    public static final int NO_EXTRA_FARE = 0;
+
+    private final long[] lineIds;
+    private final LineExtraFare[] extraFares;
+
+    private LineFareTable(long[] lineIds, LineExtraFare[] extraFares) {
+        this.lineIds = lineIds;
+        this.extraFares = extraFares;
+    }
+
+    public static LineFareTable of(Map<Long, Integer> extraFaresByLineId) {
+        long[] lineIds = extraFaresByLineId.keySet()
+                .stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        LineExtraFare[] extraFares = new LineExtraFare[lineIds.length];
+        for (int i = 0; i < lineIds.length; i++) {
+            extraFares[i] = new LineExtraFare(extraFaresByLineId.get(lineIds[i]));
+        }
+        return new LineFareTable(lineIds, extraFares);
+    }
+
+    // 등록되지 않은 노선의 id는 데이터베이스 조회와 마찬가지로 결과에서 제외된다.
+    public List<LineExtraFare> findExtraFares(List<Long> ids) {
+        List<LineExtraFare> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            int index = Arrays.binarySearch(lineIds, id);
+            if (index >= 0) {
+                found.add(extraFares[index]);
+            }
+        }
+        return found;
+    }
+
+    public Map<Long, Integer> toExtraFaresByLineId() {
+        Map<Long, Integer> extraFaresByLineId = new LinkedHashMap<>();
+        for (int i = 0; i < lineIds.length; i++) {
+            extraFaresByLineId.put(lineIds[i], extraFares[i].getValue());
+        }
+        return extraFaresByLineId;
+    }
+
+    public Optional<LineExtraFare> findExtraFare(long id) {
+        int index = Arrays.binarySearch(lineIds, id);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(extraFares[index]);
+    }
+
+    // 노선이 지정되지 않았거나 등록되지 않은 노선의 구간은 추가요금이 없는 것으로 본다.
+    public int findExtraFareOf(Section section) {
+        Long lineId = section.getLineId();
+        if (lineId == null) {
+            return NO_EXTRA_FARE;
+        }
+        return findExtraFare(lineId)
+                .map(LineExtraFare::getValue)
+                .orElse(NO_EXTRA_FARE);
+    }
+}
@@ -0,0 +1,130 @@
+package wooteco.subway.domain.line;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+public class LineTimetable {
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String INVALID_TIME_FORMAT_EXCEPTION = "첫차와 막차 출발 시각은 HH:mm 형식이어야 합니다.";
+    private static final String INVALID_DEPARTURE_ORDER_EXCEPTION = "막차 출발 시각은 첫차 출발 시각보다 이를 수 없습니다.";
+    private static final String INVALID_HEADWAY_EXCEPTION = "배차 간격은 1분 이상이어야 합니다.";
+    private static final String INVALID_SPEED_EXCEPTION = "운행 속도는 1km/h 이상이어야 합니다.";
+
+    private final Long lineId;
+    private final LocalTime firstDeparture;
+    private final LocalTime lastDeparture;
+    private final int headway;
+    private final int speed;
+
+    public LineTimetable(Long lineId, LocalTime firstDeparture, LocalTime lastDeparture, int headway, int speed) {
+        validateDepartureOrder(firstDeparture, lastDeparture);
+        validatePositive(headway, INVALID_HEADWAY_EXCEPTION);
+        validatePositive(speed, INVALID_SPEED_EXCEPTION);
+        this.lineId = lineId;
+        this.firstDeparture = firstDeparture;
+        this.lastDeparture = lastDeparture;
+        this.headway = headway;
+        this.speed = speed;
+    }
+
+    public static LineTimetable of(Long lineId, String firstDeparture, String lastDeparture, int headway, int speed) {
+        return new LineTimetable(lineId, parseTime(firstDeparture), parseTime(lastDeparture), headway, speed);
+    }
+
+    private static LocalTime parseTime(String value) {
+        try {
+            return LocalTime.parse(value, TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_TIME_FORMAT_EXCEPTION);
+        }
+    }
+
+    private void validateDepartureOrder(LocalTime firstDeparture, LocalTime lastDeparture) {
+        if (lastDeparture.isBefore(firstDeparture)) {
+            throw new IllegalArgumentException(INVALID_DEPARTURE_ORDER_EXCEPTION);
+        }
+    }
+
+    private void validatePositive(int value, String exceptionMessage) {
+        if (value < 1) {
+            throw new IllegalArgumentException(exceptionMessage);
+        }
+    }
+
+    // 열차는 첫차부터 배차 간격마다 양쪽 종점에서 출발하며, 막차 출발 시각 이후에는 출발하지 않는다.
+    public int getFirstDepartureSecond() {
+        return firstDeparture.toSecondOfDay();
+    }
+
+    public int getHeadwaySeconds() {
+        return headway * SECONDS_PER_MINUTE;
+    }
+
+    public int getTripCount() {
+        int serviceSeconds = lastDeparture.toSecondOfDay() - firstDeparture.toSecondOfDay();
+        return serviceSeconds / getHeadwaySeconds() + 1;
+    }
+
+    // 시간표와 마찬가지로, 구간을 지나는 데 걸리는 시간은 분 단위로 올림한다.
+    public int calculateRunningSeconds(int distance) {
+        int runningMinutes = (distance * MINUTES_PER_HOUR + speed - 1) / speed;
+        return runningMinutes * SECONDS_PER_MINUTE;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public LocalTime getFirstDeparture() {
+        return firstDeparture;
+    }
+
+    public LocalTime getLastDeparture() {
+        return lastDeparture;
+    }
+
+    public int getHeadway() {
+        return headway;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LineTimetable that = (LineTimetable) o;
+        return headway == that.headway
+                && speed == that.speed
+                && Objects.equals(lineId, that.lineId)
+                && Objects.equals(firstDeparture, that.firstDeparture)
+                && Objects.equals(lastDeparture, that.lastDeparture);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineId, firstDeparture, lastDeparture, headway, speed);
+    }
+
+    @Override
+    public String toString() {
+        return "LineTimetable{" +
+                "lineId=" + lineId +
+                ", firstDeparture=" + firstDeparture +
+                ", lastDeparture=" + lastDeparture +
+                ", headway=" + headway +
+                ", speed=" + speed +
+                '}';
+    }
+}
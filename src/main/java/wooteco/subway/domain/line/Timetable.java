@@ -0,0 +1,52 @@
+package wooteco.subway.domain.line;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public class Timetable {
+
+    public static final Timetable EMPTY = new Timetable(new LineTimetable[0]);
+
+    private final LineTimetable[] lineTimetables;
+
+    private Timetable(LineTimetable[] lineTimetables) {
+        this.lineTimetables = lineTimetables;
+    }
+
+    public static Timetable of(List<LineTimetable> lineTimetables) {
+        LineTimetable[] sorted = lineTimetables.stream()
+                .sorted(Comparator.comparingLong(LineTimetable::getLineId))
+                .toArray(LineTimetable[]::new);
+        return new Timetable(sorted);
+    }
+
+    // 시간표가 등록되지 않은 노선은 운행하지 않는 것으로 본다.
+    public Optional<LineTimetable> findLineTimetable(long lineId) {
+        int low = 0;
+        int high = lineTimetables.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleId = lineTimetables[middle].getLineId();
+            if (middleId == lineId) {
+                return Optional.of(lineTimetables[middle]);
+            }
+            if (middleId < lineId) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<LineTimetable> toLineTimetables() {
+        return List.of(lineTimetables);
+    }
+
+    @Override
+    public String toString() {
+        return "Timetable{" + "lineTimetables=" + Arrays.toString(lineTimetables) + '}';
+    }
+}
@@ -0,0 +1,55 @@
+package wooteco.subway.domain.path;
+
+class AltPathFinder implements PathFinder {
+
+    private final SectionGraph graph;
+    private final Landmarks landmarks;
+    private final SearchSpacePool searchSpaces;
+
+    AltPathFinder(SectionGraph graph) {
+        this(graph, Landmarks.select(graph, Landmarks.DEFAULT_COUNT));
+    }
+
+    AltPathFinder(SectionGraph graph, Landmarks landmarks) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.searchSpaces = new SearchSpacePool(graph.getStationCount());
+    }
+
+    @Override
+    public Route findRoute(int source, int target) {
+        if (landmarks.lowerBound(source, target) == Landmarks.UNREACHABLE) {
+            return Route.NOT_CONNECTED;
+        }
+        SearchSpace space = searchSpaces.borrow();
+        try {
+            return findRoute(space, source, target);
+        } finally {
+            searchSpaces.giveBack(space);
+        }
+    }
+
+    private Route findRoute(SearchSpace space, int source, int target) {
+        space.start(source);
+        while (space.hasNext()) {
+            int vertex = space.settleNext();
+            if (vertex == target) {
+                return Route.backtrack(graph, space, target);
+            }
+            relaxOutgoingArcs(space, vertex, target);
+        }
+        return Route.NOT_CONNECTED;
+    }
+
+    private void relaxOutgoingArcs(SearchSpace space, int vertex, int target) {
+        int distance = space.distanceOf(vertex);
+        for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+            int head = graph.headOf(arc);
+            if (space.isSettled(head)) {
+                continue;
+            }
+            int headDistance = distance + graph.weightOf(arc);
+            space.relax(head, headDistance, arc, headDistance + landmarks.lowerBound(head, target));
+        }
+    }
+}
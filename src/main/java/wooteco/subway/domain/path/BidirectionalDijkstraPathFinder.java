@@ -0,0 +1,87 @@
+package wooteco.subway.domain.path;
+
+class BidirectionalDijkstraPathFinder implements PathFinder {
+
+    private final SectionGraph graph;
+    private final SearchSpacePool searchSpaces;
+
+    BidirectionalDijkstraPathFinder(SectionGraph graph) {
+        this.graph = graph;
+        this.searchSpaces = new SearchSpacePool(graph.getStationCount());
+    }
+
+    @Override
+    public Route findRoute(int source, int target) {
+        SearchSpace forward = searchSpaces.borrow();
+        SearchSpace backward = searchSpaces.borrow();
+        try {
+            return findRoute(forward, backward, source, target);
+        } finally {
+            searchSpaces.giveBack(forward);
+            searchSpaces.giveBack(backward);
+        }
+    }
+
+    private Route findRoute(SearchSpace forward, SearchSpace backward, int source, int target) {
+        forward.start(source);
+        backward.start(target);
+        Meeting meeting = new Meeting(source, target);
+        while (forward.hasNext() && backward.hasNext()
+                && (long) forward.peekDistance() + backward.peekDistance() < meeting.distance) {
+            if (forward.peekDistance() <= backward.peekDistance()) {
+                scan(forward, backward, meeting, true);
+            } else {
+                scan(backward, forward, meeting, false);
+            }
+        }
+        return meeting.toRoute(graph, forward, backward);
+    }
+
+    private void scan(SearchSpace space, SearchSpace opposite, Meeting meeting, boolean isForward) {
+        int vertex = space.settleNext();
+        int distance = space.distanceOf(vertex);
+        for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+            int head = graph.headOf(arc);
+            int headDistance = distance + graph.weightOf(arc);
+            if (!space.isSettled(head)) {
+                space.relax(head, headDistance, arc);
+            }
+            if (opposite.isReached(head)) {
+                meeting.update(headDistance + (long) opposite.distanceOf(head), vertex, head, arc, isForward);
+            }
+        }
+    }
+
+    private static class Meeting {
+
+        long distance;
+        int forwardVertex;
+        int backwardVertex;
+        int arc = SearchSpace.NO_ARC;
+
+        Meeting(int source, int target) {
+            this.distance = source == target ? 0 : Long.MAX_VALUE;
+            this.forwardVertex = source;
+            this.backwardVertex = target;
+        }
+
+        void update(long distance, int vertex, int head, int arc, boolean isForward) {
+            if (distance >= this.distance) {
+                return;
+            }
+            this.distance = distance;
+            this.arc = arc;
+            this.forwardVertex = isForward ? vertex : head;
+            this.backwardVertex = isForward ? head : vertex;
+        }
+
+        Route toRoute(SectionGraph graph, SearchSpace forward, SearchSpace backward) {
+            if (distance == Long.MAX_VALUE) {
+                return Route.NOT_CONNECTED;
+            }
+            Route forwardHalf = Route.backtrack(graph, forward, forwardVertex);
+            Route backwardHalf = Route.backtrack(graph, backward, backwardVertex);
+            return forwardHalf.join(arc, backwardHalf.reverse());
+        }
+    }
+}
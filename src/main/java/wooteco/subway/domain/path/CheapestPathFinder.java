@@ -0,0 +1,152 @@
+package wooteco.subway.domain.path;
+
+import java.util.stream.IntStream;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+import wooteco.subway.domain.line.LineFareTable;
+
+// 요금은 거리에 대한 계단 함수와 경로상 최대 노선 추가비용의 합이므로 구간별로 더할 수 없다.
+// 대신 노선 추가비용의 상한을 하나씩 정해 상한 이하의 노선만으로 최단경로를 구하면, 그중 요금이 가장 낮은 경로가 최저 요금 경로가 된다.
+class CheapestPathFinder implements PathFinder {
+
+    private final SectionGraph graph;
+    private final LineFareTable lineFareTable;
+    private final ClosureOverlay closures;
+    private final SearchSpacePool searchSpaces;
+    private final int[] arcExtraFares;
+    private final int[] extraFareLimits;
+
+    CheapestPathFinder(SectionGraph graph, LineFareTable lineFareTable) {
+        this(graph, lineFareTable, ClosureOverlay.NONE);
+    }
+
+    CheapestPathFinder(SectionGraph graph, LineFareTable lineFareTable, ClosureOverlay closures) {
+        this.graph = graph;
+        this.lineFareTable = lineFareTable;
+        this.closures = closures;
+        this.searchSpaces = new SearchSpacePool(graph.getStationCount());
+        this.arcExtraFares = IntStream.range(0, graph.getArcCount())
+                .map(arc -> lineFareTable.findExtraFareOf(graph.getSectionOf(arc)))
+                .toArray();
+        this.extraFareLimits = IntStream.of(arcExtraFares)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    boolean isPricedBy(LineFareTable lineFareTable) {
+        return this.lineFareTable == lineFareTable;
+    }
+
+    @Override
+    public Route findRoute(int source, int target) {
+        SearchSpace space = searchSpaces.borrow();
+        try {
+            return findRoute(space, source, target);
+        } finally {
+            searchSpaces.giveBack(space);
+        }
+    }
+
+    // 제한 없는 최단경로를 먼저 구하고, 그보다 요금이 낮아질 여지가 있는 상한에 대해서만 낮은 상한부터 탐색한다.
+    private Route findRoute(SearchSpace space, int source, int target) {
+        Route shortest = findRoute(space, source, target, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        if (!shortest.isConnected()) {
+            return Route.NOT_CONNECTED;
+        }
+        int shortestDistance = space.distanceOf(target);
+        Cheapest cheapest = new Cheapest(shortest, shortestDistance, fareOf(shortestDistance, maxExtraFareOf(shortest)));
+        for (int extraFareLimit : extraFareLimits) {
+            if (!cheapest.isImprovedBy(shortestDistance, extraFareLimit)) {
+                break;
+            }
+            space.reset();
+            Route route = findRoute(space, source, target, extraFareLimit, cheapest.findDistanceLimit(extraFareLimit));
+            if (route.isConnected()) {
+                int distance = space.distanceOf(target);
+                cheapest = cheapest.compareWith(route, distance, fareOf(distance, maxExtraFareOf(route)));
+            }
+        }
+        return cheapest.route;
+    }
+
+    private Route findRoute(SearchSpace space, int source, int target, int extraFareLimit, int distanceLimit) {
+        space.start(source);
+        while (space.hasNext() && space.peekDistance() <= distanceLimit) {
+            int vertex = space.settleNext();
+            if (vertex == target) {
+                return Route.backtrack(graph, space, target);
+            }
+            relaxOutgoingArcs(space, vertex, extraFareLimit);
+        }
+        return Route.NOT_CONNECTED;
+    }
+
+    private void relaxOutgoingArcs(SearchSpace space, int vertex, int extraFareLimit) {
+        int distance = space.distanceOf(vertex);
+        for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+            int head = graph.headOf(arc);
+            if (arcExtraFares[arc] <= extraFareLimit && !space.isSettled(head) && !closures.isClosed(arc)) {
+                space.relax(head, distance + graph.weightOf(arc), arc);
+            }
+        }
+    }
+
+    private int maxExtraFareOf(Route route) {
+        return route.streamArcs()
+                .map(arc -> arcExtraFares[arc])
+                .max()
+                .orElse(LineFareTable.NO_EXTRA_FARE);
+    }
+
+    // 나이와 무관하게 할인 전 요금으로 비교하므로, 할인이 없는 성인 요금으로 계산한다.
+    private static int fareOf(int distance, int extraFare) {
+        return PricedTreeSearch.calculateFare(distance, extraFare, AgeDiscountPolicy.ADULT);
+    }
+
+    // 요금이 같다면 거리가 더 짧은 경로를 선택한다.
+    private static class Cheapest {
+
+        private final Route route;
+        private final int distance;
+        private final int fare;
+
+        Cheapest(Route route, int distance, int fare) {
+            this.route = route;
+            this.distance = distance;
+            this.fare = fare;
+        }
+
+        boolean isImprovedBy(int otherDistance, int otherExtraFare) {
+            int otherFare = fareOf(otherDistance, otherExtraFare);
+            return otherFare < fare || (otherFare == fare && otherDistance < distance);
+        }
+
+        Cheapest compareWith(Route other, int otherDistance, int otherFare) {
+            if (otherFare < fare || (otherFare == fare && otherDistance < distance)) {
+                return new Cheapest(other, otherDistance, otherFare);
+            }
+            return this;
+        }
+
+        // 요금은 거리에 대해 단조 증가하므로, 더 나은 경로가 될 수 있는 가장 긴 거리를 이분 탐색으로 찾는다.
+        int findDistanceLimit(int extraFare) {
+            int upper = Math.max(distance, 1);
+            while (isImprovedBy(upper, extraFare)) {
+                if (upper > Integer.MAX_VALUE / 2) {
+                    return Integer.MAX_VALUE;
+                }
+                upper *= 2;
+            }
+            int lower = 0;
+            while (lower < upper) {
+                int middle = lower + (upper - lower) / 2;
+                if (isImprovedBy(middle, extraFare)) {
+                    lower = middle + 1;
+                } else {
+                    upper = middle;
+                }
+            }
+            return lower - 1;
+        }
+    }
+}
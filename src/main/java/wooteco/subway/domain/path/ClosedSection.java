@@ -0,0 +1,73 @@
+package wooteco.subway.domain.path;
+
+import java.util.Objects;
+import wooteco.subway.domain.section.Section;
+
+// 제외된 구간은 노선과 양 끝 역으로만 식별하므로, 같은 역들을 잇는 구간의 거리가 바뀌어도 계속 제외된다.
+public class ClosedSection {
+
+    private final Long lineId;
+    private final Long upStationId;
+    private final Long downStationId;
+
+    public ClosedSection(Long lineId, Long upStationId, Long downStationId) {
+        this.lineId = lineId;
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+    }
+
+    public static ClosedSection of(Section section) {
+        return new ClosedSection(section.getLineId(), section.getUpStationId(), section.getDownStationId());
+    }
+
+    public boolean matches(Section section) {
+        return Objects.equals(lineId, section.getLineId())
+                && connects(section.getUpStationId(), section.getDownStationId());
+    }
+
+    // 역 목록만으로는 노선을 알 수 없는 경우를 위해, 방향과 무관하게 양 끝 역만 비교한다.
+    public boolean connects(Long stationId, Long otherStationId) {
+        return (upStationId.equals(stationId) && downStationId.equals(otherStationId))
+                || (upStationId.equals(otherStationId) && downStationId.equals(stationId));
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ClosedSection that = (ClosedSection) o;
+        return Objects.equals(lineId, that.lineId)
+                && Objects.equals(upStationId, that.upStationId)
+                && Objects.equals(downStationId, that.downStationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineId, upStationId, downStationId);
+    }
+
+    @Override
+    public String toString() {
+        return "ClosedSection{" +
+                "lineId=" + lineId +
+                ", upStationId=" + upStationId +
+                ", downStationId=" + downStationId +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package wooteco.subway.domain.path;
+
+import java.util.BitSet;
+
+// 제외된 역과 구간을 그래프의 간선 인덱스에 대한 비트 집합으로 옮겨, 탐색 중에는 간선마다 비트 하나만 확인한다.
+// 제외된 역은 그 역에 닿는 모든 간선을 제외하는 것으로 대신하므로, 출발역이나 도착역으로도 사용할 수 없다.
+class ClosureOverlay {
+
+    static final ClosureOverlay NONE = new ClosureOverlay(new BitSet());
+
+    private final BitSet closedArcs;
+
+    private ClosureOverlay(BitSet closedArcs) {
+        this.closedArcs = closedArcs;
+    }
+
+    // 그래프에 없는 역이나 구간은 제외할 간선이 없으므로 무시한다.
+    static ClosureOverlay of(SectionGraph graph, Disruption disruption) {
+        if (disruption.isEmpty()) {
+            return NONE;
+        }
+        BitSet closedArcs = new BitSet(graph.getArcCount());
+        for (Long stationId : disruption.getClosedStationIds()) {
+            closeStation(graph, closedArcs, stationId);
+        }
+        for (ClosedSection section : disruption.getClosedSections()) {
+            closeSection(graph, closedArcs, section);
+        }
+        return new ClosureOverlay(closedArcs);
+    }
+
+    private static void closeStation(SectionGraph graph, BitSet closedArcs, Long stationId) {
+        int vertex = graph.indexOfStationId(stationId);
+        if (vertex == SectionGraph.NOT_FOUND) {
+            return;
+        }
+        for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+            closedArcs.set(arc);
+            closeReverseArcs(graph, closedArcs, graph.headOf(arc), graph.sectionIndexOf(arc));
+        }
+    }
+
+    // 거리와 무관하게 노선과 양 끝 역이 같은 구간을 모두 제외한다.
+    private static void closeSection(SectionGraph graph, BitSet closedArcs, ClosedSection section) {
+        int vertex = graph.indexOfStationId(section.getUpStationId());
+        if (vertex == SectionGraph.NOT_FOUND) {
+            return;
+        }
+        for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+            if (section.matches(graph.getSectionOf(arc))) {
+                closedArcs.set(arc);
+                closeReverseArcs(graph, closedArcs, graph.headOf(arc), graph.sectionIndexOf(arc));
+            }
+        }
+    }
+
+    private static void closeReverseArcs(SectionGraph graph, BitSet closedArcs, int head, int sectionIndex) {
+        for (int arc = graph.firstArc(head); arc < graph.endArc(head); arc++) {
+            if (graph.sectionIndexOf(arc) == sectionIndex) {
+                closedArcs.set(arc);
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return closedArcs.isEmpty();
+    }
+
+    boolean isClosed(int arc) {
+        return closedArcs.get(arc);
+    }
+}
@@ -0,0 +1,385 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+class ContractionHierarchy {
+
+    // 지름길 간선에는 대응하는 원본 간선(arc)이 없고, 원본 간선에는 건너뛰는 간선(skip)이 없다.
+    static final int NO_ARC = -1;
+    static final int NO_SKIP = -1;
+
+    private final int[] edgeEnds;
+    private final int[] edgeWeights;
+    private final int[] edgeSkips;
+    private final int[] edgeArcs;
+    private final boolean[] contracted;
+    private final int[] upwardOffsets;
+    private final int[] upwardEdges;
+    private final int shortcutCount;
+    private final long preprocessingNanos;
+
+    private ContractionHierarchy(Contractor contractor, int[] ranks, long preprocessingNanos) {
+        this.contracted = contractor.contracted;
+        this.edgeEnds = Arrays.copyOf(contractor.edgeEnds, contractor.edgeCount * 2);
+        this.edgeWeights = Arrays.copyOf(contractor.edgeWeights, contractor.edgeCount);
+        this.edgeSkips = Arrays.copyOf(contractor.edgeSkips, contractor.edgeCount * 2);
+        this.edgeArcs = Arrays.copyOf(contractor.edgeArcs, contractor.edgeCount);
+        this.shortcutCount = contractor.edgeCount - contractor.originalEdgeCount;
+        this.preprocessingNanos = preprocessingNanos;
+        this.upwardOffsets = new int[ranks.length + 1];
+        this.upwardEdges = new int[contractor.edgeCount * 2];
+        fillUpwardEdges(ranks);
+    }
+
+    static ContractionHierarchy contract(SectionGraph graph) {
+        long startedAt = System.nanoTime();
+        Contractor contractor = new Contractor(graph);
+        int[] ranks = contractor.contractAll();
+        return new ContractionHierarchy(contractor, ranks, System.nanoTime() - startedAt);
+    }
+
+    // 축약되지 않고 남은 핵심부(core) 안의 간선은 양 끝 모두에서 위쪽 간선으로 취급하여, 핵심부에서는 일반 탐색이 이루어지게 한다.
+    private void fillUpwardEdges(int[] ranks) {
+        int edgeCount = edgeWeights.length;
+        for (int end = 0; end < edgeCount * 2; end++) {
+            if (isUpwardFrom(end / 2, edgeEnds[end], ranks)) {
+                upwardOffsets[edgeEnds[end] + 1]++;
+            }
+        }
+        for (int vertex = 0; vertex < ranks.length; vertex++) {
+            upwardOffsets[vertex + 1] += upwardOffsets[vertex];
+        }
+        int[] cursors = Arrays.copyOf(upwardOffsets, ranks.length);
+        for (int end = 0; end < edgeCount * 2; end++) {
+            if (isUpwardFrom(end / 2, edgeEnds[end], ranks)) {
+                upwardEdges[cursors[edgeEnds[end]]++] = end / 2;
+            }
+        }
+    }
+
+    private boolean isUpwardFrom(int edge, int vertex, int[] ranks) {
+        int opposite = oppositeEndOf(edge, vertex);
+        if (!contracted[vertex] && !contracted[opposite]) {
+            return true;
+        }
+        return ranks[vertex] < ranks[opposite];
+    }
+
+    int firstUpwardEdge(int vertex) {
+        return upwardOffsets[vertex];
+    }
+
+    int endUpwardEdge(int vertex) {
+        return upwardOffsets[vertex + 1];
+    }
+
+    int upwardEdgeAt(int index) {
+        return upwardEdges[index];
+    }
+
+    int weightOf(int edge) {
+        return edgeWeights[edge];
+    }
+
+    int oppositeEndOf(int edge, int vertex) {
+        int first = edgeEnds[edge * 2];
+        if (first == vertex) {
+            return edgeEnds[edge * 2 + 1];
+        }
+        return first;
+    }
+
+    // 지름길 간선들을 원본 간선들로 풀어, 각 간선을 froms 에서 출발하는 순서대로 이어붙인 경로를 반환한다.
+    int[] unpack(int[] edges, int[] froms, int count) {
+        int[] arcs = new int[count];
+        int length = 0;
+        int[] stack = new int[16];
+        for (int i = 0; i < count; i++) {
+            int top = push(stack, 0, edges[i], froms[i]);
+            stack = growIfFull(stack, top);
+            while (top > 0) {
+                top -= 2;
+                int edge = stack[top];
+                int from = stack[top + 1];
+                if (edgeArcs[edge] != NO_ARC) {
+                    arcs = growIfFull(arcs, length);
+                    arcs[length++] = edgeArcs[edge];
+                    continue;
+                }
+                int firstSkip = edgeSkips[edge * 2];
+                int secondSkip = edgeSkips[edge * 2 + 1];
+                if (edgeEnds[edge * 2] != from) {
+                    int swap = firstSkip;
+                    firstSkip = secondSkip;
+                    secondSkip = swap;
+                }
+                stack = growIfFull(stack, top + 4);
+                top = push(stack, top, secondSkip, oppositeEndOf(firstSkip, from));
+                top = push(stack, top, firstSkip, from);
+            }
+        }
+        return Arrays.copyOf(arcs, length);
+    }
+
+    private static int push(int[] stack, int top, int edge, int from) {
+        stack[top] = edge;
+        stack[top + 1] = from;
+        return top + 2;
+    }
+
+    private static int[] growIfFull(int[] array, int size) {
+        if (size < array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(array.length * 2, size + 1));
+    }
+
+    int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    int getCoreSize() {
+        int coreSize = 0;
+        for (boolean isContracted : contracted) {
+            if (!isContracted) {
+                coreSize++;
+            }
+        }
+        return coreSize;
+    }
+
+    long getPreprocessingNanos() {
+        return preprocessingNanos;
+    }
+
+    private static class Contractor {
+
+        static final int WITNESS_SETTLE_LIMIT = 200;
+        static final int CORE_DEGREE = 16;
+        static final int INITIAL_DEGREE = 4;
+
+        final SectionGraph graph;
+        final int stationCount;
+        final int originalEdgeCount;
+        int[] edgeEnds;
+        int[] edgeWeights;
+        int[] edgeSkips;
+        int[] edgeArcs;
+        int edgeCount = 0;
+
+        final int[][] incidentEdges;
+        final int[] degrees;
+        final boolean[] contracted;
+        final int[] contractedNeighbors;
+
+        final int[] neighbors;
+        final int[] neighborEdges;
+        final int[] neighborSlots;
+        int neighborCount = 0;
+
+        final IndexedMinHeap witnessQueue;
+        final int[] witnessDistances;
+        final int[] witnessMarks;
+        int witnessMark = 0;
+
+        Contractor(SectionGraph graph) {
+            this.graph = graph;
+            this.stationCount = graph.getStationCount();
+            this.originalEdgeCount = graph.getArcCount() / 2;
+            this.edgeEnds = new int[originalEdgeCount * 4 + 2];
+            this.edgeWeights = new int[originalEdgeCount * 2 + 1];
+            this.edgeSkips = new int[originalEdgeCount * 4 + 2];
+            this.edgeArcs = new int[originalEdgeCount * 2 + 1];
+            this.incidentEdges = new int[stationCount][INITIAL_DEGREE];
+            this.degrees = new int[stationCount];
+            this.contracted = new boolean[stationCount];
+            this.contractedNeighbors = new int[stationCount];
+            this.neighbors = new int[stationCount];
+            this.neighborEdges = new int[stationCount];
+            this.neighborSlots = new int[stationCount];
+            Arrays.fill(neighborSlots, -1);
+            this.witnessQueue = new IndexedMinHeap(stationCount);
+            this.witnessDistances = new int[stationCount];
+            this.witnessMarks = new int[stationCount];
+            addOriginalEdges();
+        }
+
+        private void addOriginalEdges() {
+            for (int arc = 0; arc < graph.getArcCount(); arc++) {
+                if (graph.tailOf(arc) < graph.headOf(arc)) {
+                    addEdge(graph.tailOf(arc), graph.headOf(arc), graph.weightOf(arc), NO_SKIP, NO_SKIP, arc);
+                }
+            }
+        }
+
+        int[] contractAll() {
+            IndexedMinHeap order = new IndexedMinHeap(stationCount);
+            for (int vertex = 0; vertex < stationCount; vertex++) {
+                order.upsert(vertex, priorityOf(vertex));
+            }
+            int[] ranks = new int[stationCount];
+            int rank = 0;
+            while (!order.isEmpty()) {
+                int vertex = order.poll();
+                int priority = priorityOf(vertex);
+                if (!order.isEmpty() && priority > order.peekKey()) {
+                    order.upsert(vertex, priority);
+                    continue;
+                }
+                if (neighborCount > CORE_DEGREE) {
+                    ranks[vertex] = rank++;
+                    break;
+                }
+                contractVertex(vertex);
+                ranks[vertex] = rank++;
+                updateNeighborPriorities(order);
+            }
+            while (!order.isEmpty()) {
+                ranks[order.poll()] = rank++;
+            }
+            return ranks;
+        }
+
+        private void updateNeighborPriorities(IndexedMinHeap order) {
+            int[] contractedVertexNeighbors = Arrays.copyOf(neighbors, neighborCount);
+            for (int neighbor : contractedVertexNeighbors) {
+                order.update(neighbor, priorityOf(neighbor));
+            }
+        }
+
+        private int priorityOf(int vertex) {
+            collectNeighbors(vertex);
+            if (neighborCount > CORE_DEGREE) {
+                return neighborCount * neighborCount;
+            }
+            int shortcuts = addShortcuts(vertex, false);
+            return shortcuts - neighborCount + contractedNeighbors[vertex];
+        }
+
+        private void contractVertex(int vertex) {
+            addShortcuts(vertex, true);
+            contracted[vertex] = true;
+            for (int i = 0; i < neighborCount; i++) {
+                contractedNeighbors[neighbors[i]]++;
+            }
+        }
+
+        // 정점을 제거했을 때 최단거리가 유지되도록 필요한 지름길의 수를 세고, apply 인 경우 실제로 추가한다.
+        private int addShortcuts(int vertex, boolean apply) {
+            collectNeighbors(vertex);
+            int maxWeight = 0;
+            for (int i = 0; i < neighborCount; i++) {
+                maxWeight = Math.max(maxWeight, edgeWeights[neighborEdges[i]]);
+            }
+            int shortcuts = 0;
+            for (int i = 0; i < neighborCount - 1; i++) {
+                int from = neighbors[i];
+                int fromWeight = edgeWeights[neighborEdges[i]];
+                searchWitness(from, vertex, fromWeight + maxWeight);
+                for (int j = i + 1; j < neighborCount; j++) {
+                    int viaWeight = fromWeight + edgeWeights[neighborEdges[j]];
+                    if (witnessDistanceOf(neighbors[j]) <= viaWeight) {
+                        continue;
+                    }
+                    shortcuts++;
+                    if (apply) {
+                        addEdge(from, neighbors[j], viaWeight, neighborEdges[i], neighborEdges[j], NO_ARC);
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        private void collectNeighbors(int vertex) {
+            for (int i = 0; i < neighborCount; i++) {
+                neighborSlots[neighbors[i]] = -1;
+            }
+            neighborCount = 0;
+            for (int i = 0; i < degrees[vertex]; i++) {
+                int edge = incidentEdges[vertex][i];
+                int neighbor = oppositeEnd(edge, vertex);
+                if (contracted[neighbor]) {
+                    continue;
+                }
+                int slot = neighborSlots[neighbor];
+                if (slot == -1) {
+                    neighborSlots[neighbor] = neighborCount;
+                    neighbors[neighborCount] = neighbor;
+                    neighborEdges[neighborCount++] = edge;
+                } else if (edgeWeights[edge] < edgeWeights[neighborEdges[slot]]) {
+                    neighborEdges[slot] = edge;
+                }
+            }
+        }
+
+        private void searchWitness(int source, int excluded, int maxDistance) {
+            witnessQueue.clear();
+            witnessMark++;
+            reachWitness(source, 0);
+            int settled = 0;
+            while (!witnessQueue.isEmpty() && settled++ < WITNESS_SETTLE_LIMIT) {
+                int vertex = witnessQueue.poll();
+                int distance = witnessDistances[vertex];
+                if (distance > maxDistance) {
+                    return;
+                }
+                for (int i = 0; i < degrees[vertex]; i++) {
+                    int edge = incidentEdges[vertex][i];
+                    int head = oppositeEnd(edge, vertex);
+                    if (head != excluded && !contracted[head]) {
+                        reachWitness(head, distance + edgeWeights[edge]);
+                    }
+                }
+            }
+        }
+
+        private void reachWitness(int vertex, int distance) {
+            if (witnessMarks[vertex] == witnessMark && witnessDistances[vertex] <= distance) {
+                return;
+            }
+            witnessMarks[vertex] = witnessMark;
+            witnessDistances[vertex] = distance;
+            witnessQueue.upsert(vertex, distance);
+        }
+
+        private int witnessDistanceOf(int vertex) {
+            if (witnessMarks[vertex] != witnessMark) {
+                return Integer.MAX_VALUE;
+            }
+            return witnessDistances[vertex];
+        }
+
+        private int oppositeEnd(int edge, int vertex) {
+            int first = edgeEnds[edge * 2];
+            if (first == vertex) {
+                return edgeEnds[edge * 2 + 1];
+            }
+            return first;
+        }
+
+        private void addEdge(int first, int second, int weight, int firstSkip, int secondSkip, int arc) {
+            if (edgeCount == edgeWeights.length) {
+                edgeEnds = Arrays.copyOf(edgeEnds, edgeCount * 4);
+                edgeWeights = Arrays.copyOf(edgeWeights, edgeCount * 2);
+                edgeSkips = Arrays.copyOf(edgeSkips, edgeCount * 4);
+                edgeArcs = Arrays.copyOf(edgeArcs, edgeCount * 2);
+            }
+            int edge = edgeCount++;
+            edgeEnds[edge * 2] = first;
+            edgeEnds[edge * 2 + 1] = second;
+            edgeWeights[edge] = weight;
+            edgeSkips[edge * 2] = firstSkip;
+            edgeSkips[edge * 2 + 1] = secondSkip;
+            edgeArcs[edge] = arc;
+            attach(first, edge);
+            attach(second, edge);
+        }
+
+        private void attach(int vertex, int edge) {
+            if (degrees[vertex] == incidentEdges[vertex].length) {
+                incidentEdges[vertex] = Arrays.copyOf(incidentEdges[vertex], degrees[vertex] * 2);
+            }
+            incidentEdges[vertex][degrees[vertex]++] = edge;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package wooteco.subway.domain.path;
+
+class ContractionHierarchyPathFinder implements PathFinder {
+
+    private final ContractionHierarchy hierarchy;
+    private final SearchSpacePool searchSpaces;
+
+    ContractionHierarchyPathFinder(SectionGraph graph) {
+        this(graph, ContractionHierarchy.contract(graph));
+    }
+
+    ContractionHierarchyPathFinder(SectionGraph graph, ContractionHierarchy hierarchy) {
+        this.hierarchy = hierarchy;
+        this.searchSpaces = new SearchSpacePool(graph.getStationCount());
+    }
+
+    @Override
+    public Route findRoute(int source, int target) {
+        SearchSpace forward = searchSpaces.borrow();
+        SearchSpace backward = searchSpaces.borrow();
+        try {
+            return findRoute(forward, backward, source, target);
+        } finally {
+            searchSpaces.giveBack(forward);
+            searchSpaces.giveBack(backward);
+        }
+    }
+
+    // 양쪽 모두 자신보다 순위가 높은 역으로만 탐색하며, 두 탐색이 만나는 가장 높은 역을 기준으로 경로를 잇는다.
+    private Route findRoute(SearchSpace forward, SearchSpace backward, int source, int target) {
+        forward.start(source);
+        backward.start(target);
+        long bestDistance = Long.MAX_VALUE;
+        int meetingVertex = -1;
+        while (canProceed(forward, bestDistance) || canProceed(backward, bestDistance)) {
+            SearchSpace space = forward;
+            SearchSpace opposite = backward;
+            if (!canProceed(forward, bestDistance)
+                    || (canProceed(backward, bestDistance) && backward.peekDistance() < forward.peekDistance())) {
+                space = backward;
+                opposite = forward;
+            }
+            int vertex = space.settleNext();
+            if (opposite.isReached(vertex)) {
+                long distance = (long) space.distanceOf(vertex) + opposite.distanceOf(vertex);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    meetingVertex = vertex;
+                }
+            }
+            if (!isStalled(space, vertex)) {
+                relaxUpwardEdges(space, vertex);
+            }
+        }
+        if (meetingVertex == -1) {
+            return Route.NOT_CONNECTED;
+        }
+        return toRoute(forward, backward, source, meetingVertex);
+    }
+
+    private boolean canProceed(SearchSpace space, long bestDistance) {
+        return space.hasNext() && space.peekDistance() < bestDistance;
+    }
+
+    // 더 높은 순위의 역을 거쳐 더 짧게 도달할 수 있다면, 이 역에서 시작하는 탐색은 최단경로가 될 수 없다.
+    private boolean isStalled(SearchSpace space, int vertex) {
+        int distance = space.distanceOf(vertex);
+        for (int i = hierarchy.firstUpwardEdge(vertex); i < hierarchy.endUpwardEdge(vertex); i++) {
+            int edge = hierarchy.upwardEdgeAt(i);
+            int head = hierarchy.oppositeEndOf(edge, vertex);
+            if ((long) space.distanceOf(head) + hierarchy.weightOf(edge) < distance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void relaxUpwardEdges(SearchSpace space, int vertex) {
+        int distance = space.distanceOf(vertex);
+        for (int i = hierarchy.firstUpwardEdge(vertex); i < hierarchy.endUpwardEdge(vertex); i++) {
+            int edge = hierarchy.upwardEdgeAt(i);
+            int head = hierarchy.oppositeEndOf(edge, vertex);
+            if (!space.isSettled(head)) {
+                space.relax(head, distance + hierarchy.weightOf(edge), edge);
+            }
+        }
+    }
+
+    private Route toRoute(SearchSpace forward, SearchSpace backward, int source, int meetingVertex) {
+        int forwardLength = countEdges(forward, meetingVertex);
+        int backwardLength = countEdges(backward, meetingVertex);
+        int[] edges = new int[forwardLength + backwardLength];
+        int[] froms = new int[forwardLength + backwardLength];
+        int vertex = meetingVertex;
+        for (int i = forwardLength - 1; i >= 0; i--) {
+            edges[i] = forward.parentArcOf(vertex);
+            vertex = hierarchy.oppositeEndOf(edges[i], vertex);
+            froms[i] = vertex;
+        }
+        vertex = meetingVertex;
+        for (int i = forwardLength; i < edges.length; i++) {
+            edges[i] = backward.parentArcOf(vertex);
+            froms[i] = vertex;
+            vertex = hierarchy.oppositeEndOf(edges[i], vertex);
+        }
+        return new Route(hierarchy.unpack(edges, froms, edges.length));
+    }
+
+    private int countEdges(SearchSpace space, int vertex) {
+        int count = 0;
+        while (space.parentArcOf(vertex) != SearchSpace.NO_ARC) {
+            vertex = hierarchy.oppositeEndOf(space.parentArcOf(vertex), vertex);
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,34 @@
+package wooteco.subway.domain.path;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+public class DepartureTime {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String INVALID_DEPARTURE_TIME_EXCEPTION = "출발 시각은 HH:mm 형식이어야 합니다.";
+
+    private final LocalTime value;
+
+    private DepartureTime(LocalTime value) {
+        this.value = value;
+    }
+
+    public static DepartureTime of(String value) {
+        try {
+            return new DepartureTime(LocalTime.parse(value, FORMATTER));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_DEPARTURE_TIME_EXCEPTION);
+        }
+    }
+
+    int toSecondOfDay() {
+        return value.toSecondOfDay();
+    }
+
+    @Override
+    public String toString() {
+        return "DepartureTime{" + "value=" + value + '}';
+    }
+}
@@ -0,0 +1,50 @@
+package wooteco.subway.domain.path;
+
+class DijkstraPathFinder implements PathFinder {
+
+    private final SectionGraph graph;
+    private final ClosureOverlay closures;
+    private final SearchSpacePool searchSpaces;
+
+    DijkstraPathFinder(SectionGraph graph) {
+        this(graph, ClosureOverlay.NONE);
+    }
+
+    DijkstraPathFinder(SectionGraph graph, ClosureOverlay closures) {
+        this.graph = graph;
+        this.closures = closures;
+        this.searchSpaces = new SearchSpacePool(graph.getStationCount());
+    }
+
+    @Override
+    public Route findRoute(int source, int target) {
+        SearchSpace space = searchSpaces.borrow();
+        try {
+            return findRoute(space, source, target);
+        } finally {
+            searchSpaces.giveBack(space);
+        }
+    }
+
+    private Route findRoute(SearchSpace space, int source, int target) {
+        space.start(source);
+        while (space.hasNext()) {
+            int vertex = space.settleNext();
+            if (vertex == target) {
+                return Route.backtrack(graph, space, target);
+            }
+            relaxOutgoingArcs(graph, space, vertex, closures);
+        }
+        return Route.NOT_CONNECTED;
+    }
+
+    static void relaxOutgoingArcs(SectionGraph graph, SearchSpace space, int vertex, ClosureOverlay closures) {
+        int distance = space.distanceOf(vertex);
+        for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+            int head = graph.headOf(arc);
+            if (!space.isSettled(head) && !closures.isClosed(arc)) {
+                space.relax(head, distance + graph.weightOf(arc), arc);
+            }
+        }
+    }
+}
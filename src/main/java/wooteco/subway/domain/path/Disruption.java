@@ -0,0 +1,113 @@
+package wooteco.subway.domain.path;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+// 장애 등으로 경로 탐색에서 잠시 제외한 역과 구간의 목록으로, 구간 정보 자체는 변경하지 않는다.
+// 변경할 때마다 새로운 객체를 만들므로, 이미 조회 중인 스냅샷에는 영향이 없다.
+public class Disruption {
+
+    public static final Disruption NONE = new Disruption(Set.of(), Set.of());
+
+    private final Set<Long> closedStationIds;
+    private final Set<ClosedSection> closedSections;
+
+    private Disruption(Set<Long> closedStationIds, Set<ClosedSection> closedSections) {
+        this.closedStationIds = Collections.unmodifiableSet(closedStationIds);
+        this.closedSections = Collections.unmodifiableSet(closedSections);
+    }
+
+    public Disruption closeStation(Long stationId) {
+        Set<Long> stationIds = new TreeSet<>(closedStationIds);
+        stationIds.add(stationId);
+        return new Disruption(stationIds, closedSections);
+    }
+
+    public Disruption reopenStation(Long stationId) {
+        Set<Long> stationIds = new TreeSet<>(closedStationIds);
+        stationIds.remove(stationId);
+        return new Disruption(stationIds, closedSections);
+    }
+
+    public Disruption closeSection(Section section) {
+        Set<ClosedSection> sections = new LinkedHashSet<>(closedSections);
+        sections.add(ClosedSection.of(section));
+        return new Disruption(closedStationIds, sections);
+    }
+
+    // 구간이 제외된 이후 노선의 구간이 변경되었더라도 다시 개방할 수 있도록, 노선과 양 끝 역의 id로 찾는다.
+    public Disruption reopenSection(Long lineId, Long stationId, Long otherStationId) {
+        Set<ClosedSection> sections = new LinkedHashSet<>(closedSections);
+        sections.removeIf(section -> section.getLineId().equals(lineId)
+                && section.connects(stationId, otherStationId));
+        return new Disruption(closedStationIds, sections);
+    }
+
+    public boolean isEmpty() {
+        return closedStationIds.isEmpty() && closedSections.isEmpty();
+    }
+
+    // 이 목록이 다른 목록의 역과 구간을 모두 제외하고 있다면, 다른 목록으로 구한 경로는 더 짧아질 여지가 없다.
+    public boolean includes(Disruption other) {
+        return closedStationIds.containsAll(other.closedStationIds)
+                && closedSections.containsAll(other.closedSections);
+    }
+
+    // 역 목록만으로는 어느 노선의 구간을 지났는지 알 수 없으므로, 제외된 구간과 양 끝 역이 같다면 지나는 것으로 본다.
+    public boolean isPassedBy(List<Station> stations) {
+        for (int i = 0; i < stations.size(); i++) {
+            if (closedStationIds.contains(stations.get(i).getId())) {
+                return true;
+            }
+            if (i > 0 && isClosedBetween(stations.get(i - 1), stations.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isClosedBetween(Station station, Station otherStation) {
+        return closedSections.stream()
+                .anyMatch(section -> section.connects(station.getId(), otherStation.getId()));
+    }
+
+    public Set<Long> getClosedStationIds() {
+        return closedStationIds;
+    }
+
+    public Set<ClosedSection> getClosedSections() {
+        return closedSections;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Disruption that = (Disruption) o;
+        return Objects.equals(closedStationIds, that.closedStationIds)
+                && Objects.equals(closedSections, that.closedSections);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(closedStationIds, closedSections);
+    }
+
+    @Override
+    public String toString() {
+        return "Disruption{" +
+                "closedStationIds=" + closedStationIds +
+                ", closedSections=" + closedSections +
+                '}';
+    }
+}
@@ -0,0 +1,104 @@
+package wooteco.subway.domain.path;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+class DistanceTablePathFinder implements PathFinder {
+
+    private static final long MAX_TABLE_LENGTH = Integer.MAX_VALUE - 8;
+    private static final int BUILD_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private final SectionGraph graph;
+    private final int stationCount;
+    private final int[] distances;
+    private final int[] nextArcs;
+
+    DistanceTablePathFinder(SectionGraph graph) {
+        this.graph = graph;
+        this.stationCount = graph.getStationCount();
+        this.distances = new int[stationCount * stationCount];
+        this.nextArcs = new int[stationCount * stationCount];
+        fillTables(new SearchSpacePool(stationCount));
+    }
+
+    // 표의 크기가 메모리 예산을 넘는 큰 노선도에서는 표를 만들지 않고 매번 탐색한다.
+    static PathFinder withinBudget(SectionGraph graph, long maxBytes) {
+        long tableLength = (long) graph.getStationCount() * graph.getStationCount();
+        if (tableLength > MAX_TABLE_LENGTH || requiredBytes(graph.getStationCount()) > maxBytes) {
+            return new DijkstraPathFinder(graph);
+        }
+        return new DistanceTablePathFinder(graph);
+    }
+
+    static long requiredBytes(int stationCount) {
+        return 2L * Integer.BYTES * stationCount * stationCount;
+    }
+
+    // 구간은 양방향이므로, 도착역에서 시작한 최단경로 트리의 부모 간선이 곧 각 역에서 도착역으로 향하는 다음 구간이 된다.
+    // 공용 ForkJoinPool 은 일괄 경로 조회와 경로표 조회가 사용하므로, 표를 만드는 동안 이들이 밀리지 않도록
+    // 코어의 절반만 사용하는 전용 풀에서 계산한다. 풀 안에서 시작한 병렬 스트림은 해당 풀의 스레드에서 실행된다.
+    private void fillTables(SearchSpacePool searchSpaces) {
+        ForkJoinPool buildPool = new ForkJoinPool(BUILD_PARALLELISM);
+        try {
+            buildPool.submit(() -> IntStream.range(0, stationCount)
+                            .parallel()
+                            .forEach(target -> fillColumn(searchSpaces, target)))
+                    .join();
+        } finally {
+            buildPool.shutdown();
+        }
+    }
+
+    private void fillColumn(SearchSpacePool searchSpaces, int target) {
+        SearchSpace space = searchSpaces.borrow();
+        try {
+            fillColumn(space, target);
+        } finally {
+            searchSpaces.giveBack(space);
+        }
+    }
+
+    private void fillColumn(SearchSpace space, int target) {
+        space.start(target);
+        space.exhaust(graph);
+        int offset = target * stationCount;
+        for (int vertex = 0; vertex < stationCount; vertex++) {
+            distances[offset + vertex] = space.distanceOf(vertex);
+            nextArcs[offset + vertex] = toNextArc(space, vertex);
+        }
+    }
+
+    private int toNextArc(SearchSpace space, int vertex) {
+        if (!space.isReached(vertex)) {
+            return SearchSpace.NO_ARC;
+        }
+        return space.parentArcOf(vertex);
+    }
+
+    @Override
+    public Route findRoute(int source, int target) {
+        int offset = target * stationCount;
+        if (distances[offset + source] == SearchSpace.INFINITE_DISTANCE) {
+            return Route.NOT_CONNECTED;
+        }
+        int[] arcs = new int[countArcs(offset, source)];
+        int vertex = source;
+        for (int i = 0; i < arcs.length; i++) {
+            arcs[i] = nextArcs[offset + vertex];
+            vertex = graph.tailOf(arcs[i]);
+        }
+        return new Route(arcs);
+    }
+
+    private int countArcs(int offset, int source) {
+        int count = 0;
+        for (int vertex = source; nextArcs[offset + vertex] != SearchSpace.NO_ARC; count++) {
+            vertex = graph.tailOf(nextArcs[offset + vertex]);
+        }
+        return count;
+    }
+
+    int distanceOf(int source, int target) {
+        return distances[target * stationCount + source];
+    }
+}
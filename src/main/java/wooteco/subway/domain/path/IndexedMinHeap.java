@@ -0,0 +1,114 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+class IndexedMinHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final int[] keys;
+    private final int[] positions;
+    private int size = 0;
+
+    IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.keys = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int peekKey() {
+        return keys[heap[0]];
+    }
+
+    void upsert(int element, int key) {
+        int position = positions[element];
+        if (position == ABSENT) {
+            keys[element] = key;
+            heap[size] = element;
+            positions[element] = size;
+            siftUp(size++);
+            return;
+        }
+        if (key < keys[element]) {
+            keys[element] = key;
+            siftUp(position);
+        }
+    }
+
+    void update(int element, int key) {
+        int position = positions[element];
+        if (position == ABSENT || key <= keys[element]) {
+            upsert(element, key);
+            return;
+        }
+        keys[element] = key;
+        siftDown(position);
+    }
+
+    int poll() {
+        int min = heap[0];
+        positions[min] = ABSENT;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int element = heap[position];
+        int key = keys[element];
+        while (position > 0) {
+            int parentPosition = (position - 1) >>> 1;
+            int parent = heap[parentPosition];
+            if (keys[parent] <= key) {
+                break;
+            }
+            place(parent, position);
+            position = parentPosition;
+        }
+        place(element, position);
+    }
+
+    private void siftDown(int position) {
+        int element = heap[position];
+        int key = keys[element];
+        int half = size >>> 1;
+        while (position < half) {
+            int childPosition = position * 2 + 1;
+            int child = heap[childPosition];
+            int rightPosition = childPosition + 1;
+            if (rightPosition < size && keys[heap[rightPosition]] < keys[child]) {
+                childPosition = rightPosition;
+                child = heap[childPosition];
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            place(child, position);
+            position = childPosition;
+        }
+        place(element, position);
+    }
+
+    private void place(int element, int position) {
+        heap[position] = element;
+        positions[element] = position;
+    }
+}
@@ -0,0 +1,307 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Yen의 알고리즘으로 순환이 없는 k개의 최단경로를 찾는다.
+// 도착역에서 시작한 최단경로 트리의 거리를 정확한 추정치로 사용하므로, 우회 경로 탐색은 대부분 트리의 경로를 그대로 따라간다.
+class KShortestPathSearch {
+
+    private final SectionGraph graph;
+    private final SearchSpacePool searchSpaces;
+    private final ClosureOverlay closures;
+
+    KShortestPathSearch(SectionGraph graph, SearchSpacePool searchSpaces) {
+        this(graph, searchSpaces, ClosureOverlay.NONE);
+    }
+
+    KShortestPathSearch(SectionGraph graph, SearchSpacePool searchSpaces, ClosureOverlay closures) {
+        this.graph = graph;
+        this.searchSpaces = searchSpaces;
+        this.closures = closures;
+    }
+
+    List<Route> search(int source, int target, int count) {
+        SearchSpace tree = searchSpaces.borrow();
+        SearchSpace spur = searchSpaces.borrow();
+        try {
+            tree.start(target);
+            tree.exhaust(graph, closures);
+            return search(tree, spur, source, target, count);
+        } finally {
+            searchSpaces.giveBack(tree);
+            searchSpaces.giveBack(spur);
+        }
+    }
+
+    private List<Route> search(SearchSpace tree, SearchSpace spur, int source, int target, int count) {
+        if (!tree.isReached(source)) {
+            return List.of();
+        }
+        List<Candidate> found = new ArrayList<>();
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingInt(Candidate::getDistance)
+                .thenComparing(Candidate::isPending)
+                .thenComparingInt(Candidate::getOrder));
+        Set<Candidate> seen = new HashSet<>();
+        Candidate shortest = followTree(tree, source, Candidate.startingAt(source), 0);
+        seen.add(shortest);
+        candidates.add(shortest);
+        while (found.size() < count && !candidates.isEmpty()) {
+            Candidate candidate = candidates.poll();
+            if (candidate.isPending()) {
+                int limit = findDistanceLimit(candidates, count - found.size());
+                Candidate deviation = findSpurPath(tree, spur, candidate, target, limit, seen.size());
+                if (deviation != null && seen.add(deviation)) {
+                    candidates.add(deviation);
+                }
+                continue;
+            }
+            found.add(candidate);
+            addDeviations(tree, found, candidate, candidates);
+        }
+        List<Route> routes = new ArrayList<>(found.size());
+        for (Candidate candidate : found) {
+            routes.add(new Route(candidate.arcs));
+        }
+        return routes;
+    }
+
+    // 직전 경로의 각 역에서 갈라져 나가는 경로를 후보로 추가하며, 갈라지기 전까지의 역들은 다시 지나지 않는다.
+    // 직전 경로가 갈라져 나온 역보다 앞쪽의 역들은 이미 이전 경로에서 다루었으므로 건너뛴다(Lawler).
+    // 우회 경로는 바로 탐색하지 않고 거리의 하한만 계산해 두었다가, 후보 중 가장 짧아질 때 비로소 탐색한다.
+    private void addDeviations(SearchSpace tree, List<Candidate> found, Candidate previous,
+                               PriorityQueue<Candidate> candidates) {
+        for (int i = previous.deviation; i < previous.arcs.length; i++) {
+            int[] bannedSections = findBannedSections(found, previous, i);
+            Candidate root = previous.prefix(i, graph);
+            int bound = findLowerBound(tree, root, bannedSections);
+            if (bound != Integer.MAX_VALUE) {
+                candidates.add(root.pending(i, bannedSections, bound));
+            }
+        }
+    }
+
+    // 같은 역들을 거쳐 갈라지는 역에 도착한 경로들이 이미 사용한 다음 구간은 다시 사용하지 않는다.
+    private int[] findBannedSections(List<Candidate> found, Candidate previous, int spurIndex) {
+        return found.stream()
+                .filter(candidate -> candidate.arcs.length > spurIndex && candidate.sharesPrefix(previous, spurIndex))
+                .mapToInt(candidate -> candidate.sections[spurIndex])
+                .toArray();
+    }
+
+    // 갈라지는 역에서 한 구간을 이동한 뒤 최단경로 트리를 따르는 거리 중 가장 짧은 값
+    private int findLowerBound(SearchSpace tree, Candidate root, int[] bannedSections) {
+        int spurVertex = root.lastVertex();
+        int bound = Integer.MAX_VALUE;
+        for (int arc = graph.firstArc(spurVertex); arc < graph.endArc(spurVertex); arc++) {
+            int head = graph.headOf(arc);
+            if (!tree.isReached(head) || contains(root.vertices, head) || closures.isClosed(arc)
+                    || contains(bannedSections, graph.sectionIndexOf(arc))) {
+                continue;
+            }
+            bound = Math.min(bound, root.distance + graph.weightOf(arc) + tree.distanceOf(head));
+        }
+        return bound;
+    }
+
+    // 이미 찾은 후보만으로 남은 개수를 채울 수 있다면, 그 후보들보다 긴 우회 경로는 더 탐색하지 않는다.
+    private int findDistanceLimit(PriorityQueue<Candidate> candidates, int remaining) {
+        int[] distances = candidates.stream()
+                .filter(candidate -> !candidate.isPending())
+                .mapToInt(Candidate::getDistance)
+                .sorted()
+                .toArray();
+        if (distances.length < remaining) {
+            return Integer.MAX_VALUE;
+        }
+        return distances[remaining - 1];
+    }
+
+    // 추정치가 가장 작은 역에서 최단경로 트리를 따라 도착역까지 막힘없이 갈 수 있다면, 그 경로가 가장 짧은 우회 경로이다.
+    private Candidate findSpurPath(SearchSpace tree, SearchSpace spur, Candidate pending, int target, int limit,
+                                   int order) {
+        Candidate root = pending.resolved(graph);
+        int spurVertex = root.lastVertex();
+        spur.reset();
+        for (int i = 0; i < root.vertices.length - 1; i++) {
+            spur.block(root.vertices[i]);
+        }
+        spur.relax(spurVertex, root.distance, SearchSpace.NO_ARC, root.distance + tree.distanceOf(spurVertex));
+        while (spur.hasNext() && spur.peekDistance() <= limit) {
+            int vertex = spur.settleNext();
+            if (isClearTreePath(tree, spur, vertex, target, pending.bannedSections)) {
+                Candidate reached = backtrack(spur, root, vertex);
+                return followTree(tree, vertex, reached, order);
+            }
+            relaxOutgoingArcs(tree, spur, vertex, pending.bannedSections);
+        }
+        return null;
+    }
+
+    private boolean isClearTreePath(SearchSpace tree, SearchSpace spur, int vertex, int target,
+                                    int[] bannedSections) {
+        while (vertex != target) {
+            int arc = tree.parentArcOf(vertex);
+            vertex = graph.tailOf(arc);
+            if (spur.isSettled(vertex) || contains(bannedSections, graph.sectionIndexOf(arc))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void relaxOutgoingArcs(SearchSpace tree, SearchSpace spur, int vertex, int[] bannedSections) {
+        int distance = spur.distanceOf(vertex);
+        for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+            int head = graph.headOf(arc);
+            if (spur.isSettled(head) || !tree.isReached(head) || closures.isClosed(arc)
+                    || contains(bannedSections, graph.sectionIndexOf(arc))) {
+                continue;
+            }
+            int headDistance = distance + graph.weightOf(arc);
+            spur.relax(head, headDistance, arc, headDistance + tree.distanceOf(head));
+        }
+    }
+
+    private Candidate backtrack(SearchSpace spur, Candidate root, int vertex) {
+        int length = 0;
+        for (int current = vertex; spur.parentArcOf(current) != SearchSpace.NO_ARC; length++) {
+            current = graph.tailOf(spur.parentArcOf(current));
+        }
+        int[] arcs = new int[length];
+        for (int i = length - 1, current = vertex; i >= 0; i--) {
+            arcs[i] = spur.parentArcOf(current);
+            current = graph.tailOf(arcs[i]);
+        }
+        return root.extend(arcs, graph);
+    }
+
+    // 트리의 간선은 도착역에서 뻗어 나온 방향이므로, 간선의 꼬리를 따라가면 도착역에 이른다.
+    private Candidate followTree(SearchSpace tree, int vertex, Candidate reached, int order) {
+        int length = 0;
+        for (int current = vertex; tree.parentArcOf(current) != SearchSpace.NO_ARC; length++) {
+            current = graph.tailOf(tree.parentArcOf(current));
+        }
+        int[] arcs = new int[length];
+        for (int i = 0, current = vertex; i < length; i++) {
+            arcs[i] = tree.parentArcOf(current);
+            current = graph.tailOf(arcs[i]);
+        }
+        return reached.extend(arcs, graph).withOrder(order);
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int candidate : values) {
+            if (candidate == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Candidate {
+
+        private final int[] vertices;
+        private final int[] arcs;
+        private final int[] sections;
+        private final int distance;
+        private final int deviation;
+        private final int order;
+        private final int[] bannedSections;
+
+        Candidate(int[] vertices, int[] arcs, int[] sections, int distance, int deviation, int order,
+                  int[] bannedSections) {
+            this.vertices = vertices;
+            this.arcs = arcs;
+            this.sections = sections;
+            this.distance = distance;
+            this.deviation = deviation;
+            this.order = order;
+            this.bannedSections = bannedSections;
+        }
+
+        static Candidate startingAt(int vertex) {
+            return new Candidate(new int[]{vertex}, new int[0], new int[0], 0, 0, 0, null);
+        }
+
+        Candidate prefix(int length, SectionGraph graph) {
+            int prefixDistance = 0;
+            for (int i = 0; i < length; i++) {
+                prefixDistance += graph.weightOf(arcs[i]);
+            }
+            return new Candidate(Arrays.copyOf(vertices, length + 1), Arrays.copyOf(arcs, length),
+                    Arrays.copyOf(sections, length), prefixDistance, deviation, order, null);
+        }
+
+        // 이어 붙이는 간선의 방향과 무관하게, 마지막 역의 반대편 역으로 이동한다.
+        Candidate extend(int[] nextArcs, SectionGraph graph) {
+            int[] nextVertices = Arrays.copyOf(vertices, vertices.length + nextArcs.length);
+            int[] joinedArcs = Arrays.copyOf(arcs, arcs.length + nextArcs.length);
+            int[] nextSections = Arrays.copyOf(sections, sections.length + nextArcs.length);
+            int nextDistance = distance;
+            for (int i = 0; i < nextArcs.length; i++) {
+                int from = nextVertices[vertices.length - 1 + i];
+                int arc = nextArcs[i];
+                joinedArcs[arcs.length + i] = arc;
+                nextSections[sections.length + i] = graph.sectionIndexOf(arc);
+                nextVertices[vertices.length + i] = graph.headOf(arc) == from ? graph.tailOf(arc) : graph.headOf(arc);
+                nextDistance += graph.weightOf(arc);
+            }
+            return new Candidate(nextVertices, joinedArcs, nextSections, nextDistance, deviation, order, null);
+        }
+
+        // 아직 탐색하지 않은 우회 경로로, 거리 대신 거리의 하한을 가진다.
+        Candidate pending(int spurIndex, int[] nextBannedSections, int bound) {
+            return new Candidate(vertices, arcs, sections, bound, spurIndex, spurIndex, nextBannedSections);
+        }
+
+        Candidate resolved(SectionGraph graph) {
+            return prefix(arcs.length, graph);
+        }
+
+        Candidate withOrder(int nextOrder) {
+            return new Candidate(vertices, arcs, sections, distance, deviation, nextOrder, null);
+        }
+
+        boolean isPending() {
+            return bannedSections != null;
+        }
+
+        boolean sharesPrefix(Candidate other, int length) {
+            return Arrays.equals(sections, 0, length, other.sections, 0, length);
+        }
+
+        int lastVertex() {
+            return vertices[vertices.length - 1];
+        }
+
+        int getDistance() {
+            return distance;
+        }
+
+        int getOrder() {
+            return order;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return Arrays.equals(sections, ((Candidate) o).sections);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(sections);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+class Landmarks {
+
+    static final int DEFAULT_COUNT = 8;
+    static final int UNREACHABLE = SearchSpace.INFINITE_DISTANCE;
+
+    private final int stationCount;
+    private final int[] landmarks;
+    private final int[] distances;
+
+    private Landmarks(int stationCount, int[] landmarks, int[] distances) {
+        this.stationCount = stationCount;
+        this.landmarks = landmarks;
+        this.distances = distances;
+    }
+
+    // 가장 먼 역을 차례로 고르므로, 서로 연결되지 않은 영역에도 빠짐없이 기준역이 배치된다.
+    static Landmarks select(SectionGraph graph, int count) {
+        int stationCount = graph.getStationCount();
+        int landmarkCount = Math.min(count, stationCount);
+        int[] landmarks = new int[landmarkCount];
+        int[] distances = new int[landmarkCount * stationCount];
+        int[] nearestLandmarkDistances = new int[stationCount];
+        Arrays.fill(nearestLandmarkDistances, UNREACHABLE);
+        SearchSpace space = new SearchSpace(stationCount);
+        int landmark = 0;
+        for (int i = 0; i < landmarkCount; i++) {
+            landmarks[i] = landmark;
+            space.reset();
+            space.start(landmark);
+            space.exhaust(graph);
+            for (int vertex = 0; vertex < stationCount; vertex++) {
+                int distance = space.distanceOf(vertex);
+                distances[i * stationCount + vertex] = distance;
+                nearestLandmarkDistances[vertex] = Math.min(nearestLandmarkDistances[vertex], distance);
+            }
+            landmark = toFarthestVertex(nearestLandmarkDistances);
+        }
+        return new Landmarks(stationCount, landmarks, distances);
+    }
+
+    private static int toFarthestVertex(int[] nearestLandmarkDistances) {
+        int farthest = 0;
+        for (int vertex = 1; vertex < nearestLandmarkDistances.length; vertex++) {
+            if (nearestLandmarkDistances[vertex] > nearestLandmarkDistances[farthest]) {
+                farthest = vertex;
+            }
+        }
+        return farthest;
+    }
+
+    // 삼각부등식 |d(L, t) - d(L, v)| <= d(v, t) 중 가장 큰 값을 하한으로 사용한다.
+    int lowerBound(int vertex, int target) {
+        int bound = 0;
+        for (int i = 0; i < landmarks.length; i++) {
+            int offset = i * stationCount;
+            int toTarget = distances[offset + target];
+            int toVertex = distances[offset + vertex];
+            if (toTarget == UNREACHABLE || toVertex == UNREACHABLE) {
+                if (toTarget != toVertex) {
+                    return UNREACHABLE;
+                }
+                continue;
+            }
+            bound = Math.max(bound, Math.abs(toTarget - toVertex));
+        }
+        return bound;
+    }
+
+    int getCount() {
+        return landmarks.length;
+    }
+}
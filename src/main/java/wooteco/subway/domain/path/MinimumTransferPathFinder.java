@@ -0,0 +1,78 @@
+package wooteco.subway.domain.path;
+
+class MinimumTransferPathFinder implements PathFinder {
+
+    private final TransferGraph transferGraph;
+    private final ClosureOverlay closures;
+    private final SearchSpacePool searchSpaces;
+
+    MinimumTransferPathFinder(TransferGraph transferGraph) {
+        this(transferGraph, ClosureOverlay.NONE);
+    }
+
+    MinimumTransferPathFinder(TransferGraph transferGraph, ClosureOverlay closures) {
+        this.transferGraph = transferGraph;
+        this.closures = closures;
+        this.searchSpaces = new SearchSpacePool(transferGraph.getStateCount());
+    }
+
+    @Override
+    public Route findRoute(int source, int target) {
+        SearchSpace space = searchSpaces.borrow();
+        try {
+            return findRoute(space, transferGraph.stationStateOf(source), target);
+        } finally {
+            searchSpaces.giveBack(space);
+        }
+    }
+
+    // 도착역의 역 상태는 하차 가중치가 더해진 뒤에야 확정되므로, 도착역의 노선 상태가 처음 확정될 때 탐색을 멈춘다.
+    private Route findRoute(SearchSpace space, int sourceState, int target) {
+        space.start(sourceState);
+        while (space.hasNext()) {
+            int state = space.settleNext();
+            if (transferGraph.stationOf(state) == target) {
+                return backtrack(space, state);
+            }
+            relaxOutgoingArcs(space, state);
+        }
+        return Route.NOT_CONNECTED;
+    }
+
+    private void relaxOutgoingArcs(SearchSpace space, int state) {
+        int distance = space.distanceOf(state);
+        for (int arc = transferGraph.firstArc(state); arc < transferGraph.endArc(state); arc++) {
+            int head = transferGraph.headOf(arc);
+            if (!space.isSettled(head) && !isClosed(arc)) {
+                space.relax(head, distance + transferGraph.weightOf(arc), arc);
+            }
+        }
+    }
+
+    // 승차와 하차 간선은 구간에 해당하지 않으므로, 역이 제외되었다면 그 역의 구간 간선들이 대신 막는다.
+    private boolean isClosed(int arc) {
+        int sectionArc = transferGraph.sectionArcOf(arc);
+        return sectionArc != SearchSpace.NO_ARC && closures.isClosed(sectionArc);
+    }
+
+    // 승차와 하차 간선을 제외한 구간 간선만 모아 원래 그래프의 경로로 되돌린다.
+    private Route backtrack(SearchSpace space, int target) {
+        int length = 0;
+        for (int state = target; space.parentArcOf(state) != SearchSpace.NO_ARC; ) {
+            int arc = space.parentArcOf(state);
+            if (transferGraph.sectionArcOf(arc) != SearchSpace.NO_ARC) {
+                length++;
+            }
+            state = transferGraph.tailOf(arc);
+        }
+        int[] arcs = new int[length];
+        for (int state = target; space.parentArcOf(state) != SearchSpace.NO_ARC; ) {
+            int arc = space.parentArcOf(state);
+            if (transferGraph.sectionArcOf(arc) != SearchSpace.NO_ARC) {
+                arcs[--length] = transferGraph.sectionArcOf(arc);
+            }
+            state = transferGraph.tailOf(arc);
+        }
+        return new Route(arcs);
+    }
+}
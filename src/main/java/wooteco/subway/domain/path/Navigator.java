@@ -1,111 +1,277 @@
 package wooteco.subway.domain.path;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
-import org.jgrapht.GraphPath;
-import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
-import org.jgrapht.graph.DefaultWeightedEdge;
-import org.jgrapht.graph.WeightedMultigraph;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.line.Timetable;
 import wooteco.subway.domain.section.Section;
 import wooteco.subway.domain.station.Station;
 
 public class Navigator {
 
     private static final String PATH_NOT_CONNECTED_EXCEPTION = "해당 역으로 이동하는 경로는 존재하지 않습니다.";
+    private static final String STATION_NOT_REGISTERED_EXCEPTION = "구간에 등록되지 않은 지하철역입니다.";
+    private static final String FARE_TABLE_REQUIRED_EXCEPTION = "최저 요금 경로는 노선별 추가 요금 정보와 함께 조회해야 합니다.";
+    private static final String NO_SCHEDULED_TRIP_EXCEPTION = "출발 시각 이후 해당 역으로 이동하는 열차가 없습니다.";
+    private static final int MAX_ALTERNATIVE_COUNT = 10;
+    private static final String INVALID_ALTERNATIVE_COUNT_EXCEPTION =
+            String.format("경로의 개수는 1 이상 %d 이하여야 합니다.", MAX_ALTERNATIVE_COUNT);
 
-    private final DijkstraShortestPath<Station, SectionEdge> dijkstraPath;
+    private final Navigator base;
+    private final SectionGraph graph;
+    private final SearchSettings settings;
+    private final ClosureOverlay closures;
+    private final PathFinder pathFinder;
+    private final boolean preprocessed;
+    private final SearchSpacePool treeSearchSpaces;
+    private volatile TransferGraph transferGraph;
+    private volatile PathFinder minimumTransferPathFinder;
+    private volatile CheapestPathFinder cheapestPathFinder;
+    private volatile TimetableNetwork timetableNetwork;
 
-    private Navigator(DijkstraShortestPath<Station, SectionEdge> dijkstraPath) {
-        this.dijkstraPath = dijkstraPath;
+    Navigator(SectionGraph graph, SearchSettings settings) {
+        this(graph, settings, settings.createPathFinder(graph), true);
+    }
+
+    private Navigator(SectionGraph graph, SearchSettings settings, PathFinder pathFinder, boolean preprocessed) {
+        this.base = this;
+        this.graph = graph;
+        this.settings = settings;
+        this.closures = ClosureOverlay.NONE;
+        this.pathFinder = pathFinder;
+        this.preprocessed = preprocessed;
+        this.treeSearchSpaces = new SearchSpacePool(graph.getStationCount());
+    }
+
+    // 제외된 역과 구간이 있는 동안에는 미리 계산한 최단거리 자료를 사용할 수 없으므로, 다익스트라 탐색으로 대신한다.
+    // 그래프와 환승 그래프, 시간표는 제외 여부와 무관하므로 원래 내비게이터의 것을 함께 사용한다.
+    private Navigator(Navigator base, ClosureOverlay closures) {
+        this.base = base;
+        this.graph = base.graph;
+        this.settings = base.settings;
+        this.closures = closures;
+        this.pathFinder = new DijkstraPathFinder(graph, closures);
+        this.preprocessed = base.preprocessed;
+        this.treeSearchSpaces = base.treeSearchSpaces;
+    }
+
+    public Navigator(List<Section> sections, SearchSettings settings) {
+        this(SectionGraph.of(sections), settings);
+    }
+
+    public Navigator(List<Section> sections, SearchStrategy strategy) {
+        this(sections, SearchSettings.of(strategy));
     }
 
     public Navigator(List<Section> sections) {
-        this(new DijkstraShortestPath<>(toGraph(sections)));
+        this(sections, SearchStrategy.DIJKSTRA);
+    }
+
+    // 기존 그래프는 그대로 두고 변경을 반영한 새로운 내비게이터를 만들므로, 기존 내비게이터를 사용 중인 조회에는 영향이 없다.
+    // 선행 계산이 필요한 탐색 방식이라도 구간 변경마다 다시 계산하지 않고, preprocess 를 호출하기 전까지는 다익스트라 탐색으로 조회한다.
+    public Optional<Navigator> applySectionUpdates(List<Section> removedSections, List<Section> addedSections) {
+        return graph.patch(removedSections, addedSections)
+                .map(this::toPatchedNavigator);
     }
 
-    private static WeightedMultigraph<Station, SectionEdge> toGraph(List<Section> sections) {
-        WeightedMultigraph<Station, SectionEdge> graph = new WeightedMultigraph<>(SectionEdge.class);
-        for (Station vertex : toVertices(sections)) {
-            graph.addVertex(vertex);
+    private Navigator toPatchedNavigator(SectionGraph patchedGraph) {
+        if (!settings.requiresPreprocessing()) {
+            return new Navigator(patchedGraph, settings);
         }
-        for (SectionEdge edge : toEdges(sections)) {
-            graph.addEdge(edge.getSourceVertex(), edge.getTargetVertex(), edge);
+        return new Navigator(patchedGraph, settings, new DijkstraPathFinder(patchedGraph), false);
+    }
+
+    public boolean isPreprocessed() {
+        return preprocessed;
+    }
+
+    // 같은 그래프에 대해 탐색 방식의 선행 계산을 마친, 제외된 역과 구간이 없는 내비게이터를 반환한다.
+    public Navigator preprocess() {
+        if (preprocessed) {
+            return base;
         }
-        return graph;
+        return new Navigator(graph, settings);
     }
 
-    private static List<Station> toVertices(List<Section> sections) {
-        Set<Station> vertices = new HashSet<>();
-        for (Section section : sections) {
-            vertices.addAll(section.toStations());
+    public Navigator withDisruption(Disruption disruption) {
+        ClosureOverlay overlay = ClosureOverlay.of(graph, disruption);
+        if (overlay.isEmpty()) {
+            return base;
         }
-        return new ArrayList<>(vertices);
+        return new Navigator(base, overlay);
     }
 
-    private static List<SectionEdge> toEdges(List<Section> sections) {
-        return sections.stream()
-                .map(SectionEdge::new)
-                .collect(Collectors.toList());
+    SectionGraph getGraph() {
+        return graph;
     }
 
     public List<Section> calculateShortestPath(Station source, Station target) {
-        GraphPath<Station, SectionEdge> path = toValidShortestPath(source, target);
-        return path.getEdgeList()
-                .stream()
-                .map(SectionEdge::toSection)
-                .collect(Collectors.toList());
+        return calculateShortestPath(source, target, RoutingMode.DISTANCE);
     }
 
-    private GraphPath<Station, SectionEdge> toValidShortestPath(Station source, Station target) {
-        return Optional.ofNullable(dijkstraPath.getPath(source, target))
-                .orElseThrow(() -> new IllegalArgumentException(PATH_NOT_CONNECTED_EXCEPTION));
+    public List<Section> calculateShortestPath(Station source, Station target, RoutingMode mode) {
+        int sourceIndex = toRegisteredIndex(source);
+        int targetIndex = toRegisteredIndex(target);
+        Route route = pathFinderOf(mode).findRoute(sourceIndex, targetIndex);
+        if (!route.isConnected()) {
+            throw new IllegalArgumentException(PATH_NOT_CONNECTED_EXCEPTION);
+        }
+        return route.toSections(graph);
     }
 
-    private static class SectionEdge extends DefaultWeightedEdge {
+    public Path calculateCheapestPath(Station source, Station target, LineFareTable lineFareTable) {
+        int sourceIndex = toRegisteredIndex(source);
+        int targetIndex = toRegisteredIndex(target);
+        Route route = getCheapestPathFinder(lineFareTable).findRoute(sourceIndex, targetIndex);
+        if (!route.isConnected()) {
+            throw new IllegalArgumentException(PATH_NOT_CONNECTED_EXCEPTION);
+        }
+        return new Path(source, target, route.toSections(graph));
+    }
 
-        final Section section;
+    // 출발 시각 이후 도착역에 가장 먼저 도착하는 경로를 반환하며, 도착 시각이 같다면 환승 횟수가 더 적은 경로를 반환한다.
+    public ScheduledPath calculateEarliestArrivalPath(Station source,
+                                                      Station target,
+                                                      DepartureTime departureTime,
+                                                      Timetable timetable) {
+        int sourceIndex = toRegisteredIndex(source);
+        int targetIndex = toRegisteredIndex(target);
+        return new RaptorSearch(graph, getTimetableNetwork(timetable), closures)
+                .search(sourceIndex, targetIndex, departureTime.toSecondOfDay())
+                .orElseThrow(() -> new IllegalArgumentException(NO_SCHEDULED_TRIP_EXCEPTION));
+    }
 
-        SectionEdge(Section section) {
-            this.section = section;
+    // 최단경로부터 거리 순서대로 최대 count개의 경로를 반환하며, 각 경로는 같은 역을 두 번 지나지 않는다.
+    public List<Path> calculateAlternativePaths(Station source, Station target, int count) {
+        validateAlternativeCount(count);
+        int sourceIndex = toRegisteredIndex(source);
+        int targetIndex = toRegisteredIndex(target);
+        List<Route> routes = new KShortestPathSearch(graph, treeSearchSpaces, closures).search(sourceIndex, targetIndex, count);
+        if (routes.isEmpty()) {
+            throw new IllegalArgumentException(PATH_NOT_CONNECTED_EXCEPTION);
         }
+        return routes.stream()
+                .map(route -> new Path(source, target, route.toSections(graph)))
+                .collect(Collectors.toList());
+    }
 
-        Station getSourceVertex() {
-            return section.getUpStation();
+    private void validateAlternativeCount(int count) {
+        if (count < 1 || count > MAX_ALTERNATIVE_COUNT) {
+            throw new IllegalArgumentException(INVALID_ALTERNATIVE_COUNT_EXCEPTION);
         }
+    }
+
+    // 다른 경로보다 거리, 요금, 환승 횟수가 모두 크거나 같은 경로를 제외한 파레토 최적 경로들을 거리 순서대로 반환한다.
+    public List<Path> calculateParetoPaths(Station source,
+                                           Station target,
+                                           LineFareTable lineFareTable,
+                                           AgeDiscountPolicy ageDiscountPolicy) {
+        int sourceIndex = toRegisteredIndex(source);
+        int targetIndex = toRegisteredIndex(target);
+        List<Route> routes = new ParetoRouteSearch(graph, getTransferGraph(), treeSearchSpaces, lineFareTable,
+                ageDiscountPolicy, closures).search(sourceIndex, targetIndex);
+        if (routes.isEmpty()) {
+            throw new IllegalArgumentException(PATH_NOT_CONNECTED_EXCEPTION);
+        }
+        return routes.stream()
+                .map(route -> new Path(source, target, route.toSections(graph)))
+                .collect(Collectors.toList());
+    }
 
-        Station getTargetVertex() {
-            return section.getDownStation();
+    private PathFinder pathFinderOf(RoutingMode mode) {
+        if (mode == RoutingMode.CHEAPEST) {
+            throw new IllegalArgumentException(FARE_TABLE_REQUIRED_EXCEPTION);
+        }
+        if (mode == RoutingMode.MIN_TRANSFER) {
+            return getMinimumTransferPathFinder();
         }
+        return pathFinder;
+    }
 
-        @Override
-        protected double getWeight() {
-            return section.getDistance();
+    // 노선별 추가 요금은 스냅샷마다 정해지므로, 마지막으로 사용한 추가 요금 정보에 대한 탐색기를 재사용한다.
+    private CheapestPathFinder getCheapestPathFinder(LineFareTable lineFareTable) {
+        CheapestPathFinder finder = cheapestPathFinder;
+        if (finder == null || !finder.isPricedBy(lineFareTable)) {
+            finder = new CheapestPathFinder(graph, lineFareTable, closures);
+            cheapestPathFinder = finder;
         }
+        return finder;
+    }
 
-        Section toSection() {
-            return section;
+    private TimetableNetwork getTimetableNetwork(Timetable timetable) {
+        if (base != this) {
+            return base.getTimetableNetwork(timetable);
+        }
+        TimetableNetwork network = timetableNetwork;
+        if (network == null || !network.isScheduledBy(timetable)) {
+            network = TimetableNetwork.of(graph, timetable);
+            timetableNetwork = network;
         }
+        return network;
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
+    private PathFinder getMinimumTransferPathFinder() {
+        PathFinder finder = minimumTransferPathFinder;
+        if (finder != null) {
+            return finder;
+        }
+        synchronized (this) {
+            if (minimumTransferPathFinder == null) {
+                minimumTransferPathFinder = new MinimumTransferPathFinder(getTransferGraph(), closures);
             }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+            return minimumTransferPathFinder;
+        }
+    }
+
+    // 환승 그래프는 환승을 고려하는 경로를 처음 조회할 때 스냅샷마다 한 번만 구성하므로, 구간 변경의 반영 비용은 늘어나지 않는다.
+    private TransferGraph getTransferGraph() {
+        if (base != this) {
+            return base.getTransferGraph();
+        }
+        TransferGraph built = transferGraph;
+        if (built != null) {
+            return built;
+        }
+        synchronized (this) {
+            if (transferGraph == null) {
+                transferGraph = TransferGraph.of(graph, settings.getTransferPenalty());
             }
-            SectionEdge that = (SectionEdge) o;
-            return Objects.equals(section, that.section);
+            return transferGraph;
         }
+    }
+
+    public ShortestPathTree calculateShortestPathTree(Station source,
+                                                      LineFareTable lineFareTable,
+                                                      AgeDiscountPolicy ageDiscountPolicy) {
+        int sourceIndex = toRegisteredIndex(source);
+        PricedTreeSearch treeSearch = new PricedTreeSearch(graph, lineFareTable, closures);
+        return new ShortestPathTree(graph, treeSearchSpaces, treeSearch, sourceIndex, ageDiscountPolicy);
+    }
+
+    public RouteMatrix calculateRouteMatrix(List<Station> sources,
+                                            List<Station> targets,
+                                            LineFareTable lineFareTable,
+                                            AgeDiscountPolicy ageDiscountPolicy) {
+        int[] sourceIndexes = toRegisteredIndexes(sources);
+        int[] targetIndexes = toRegisteredIndexes(targets);
+        PricedTreeSearch treeSearch = new PricedTreeSearch(graph, lineFareTable, closures);
+        return new RouteMatrixSearch(graph, treeSearchSpaces, treeSearch, ageDiscountPolicy, targetIndexes)
+                .search(sources, targets, sourceIndexes);
+    }
+
+    private int[] toRegisteredIndexes(List<Station> stations) {
+        return stations.stream()
+                .mapToInt(this::toRegisteredIndex)
+                .toArray();
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(section);
+    private int toRegisteredIndex(Station station) {
+        int index = graph.indexOf(station);
+        if (index == SectionGraph.NOT_FOUND) {
+            throw new IllegalArgumentException(STATION_NOT_REGISTERED_EXCEPTION);
         }
+        return index;
     }
 }
@@ -0,0 +1,373 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+import wooteco.subway.domain.line.LineFareTable;
+
+// 환승 그래프의 상태마다 (거리, 경로상 최대 노선 추가비용, 환승 횟수) 라벨을 여러 개 두는 다기준 탐색
+// 요금은 거리와 최대 노선 추가비용에 대해 단조 증가하므로, 같은 상태에서 세 값이 모두 크거나 같은 라벨은 버린다.
+// 라벨은 도착역까지의 최단거리를 더한 값의 순서로 꺼내며, 이미 찾은 경로보다 나아질 수 없는 라벨은 더 이어가지 않는다.
+class ParetoRouteSearch {
+
+    private static final int NO_LABEL = -1;
+    private static final int NOT_CALCULATED = -1;
+
+    private final SectionGraph graph;
+    private final TransferGraph transferGraph;
+    private final SearchSpacePool searchSpaces;
+    private final LineFareTable lineFareTable;
+    private final AgeDiscountPolicy ageDiscountPolicy;
+    private final ClosureOverlay closures;
+
+    ParetoRouteSearch(SectionGraph graph,
+                      TransferGraph transferGraph,
+                      SearchSpacePool searchSpaces,
+                      LineFareTable lineFareTable,
+                      AgeDiscountPolicy ageDiscountPolicy) {
+        this(graph, transferGraph, searchSpaces, lineFareTable, ageDiscountPolicy, ClosureOverlay.NONE);
+    }
+
+    ParetoRouteSearch(SectionGraph graph,
+                      TransferGraph transferGraph,
+                      SearchSpacePool searchSpaces,
+                      LineFareTable lineFareTable,
+                      AgeDiscountPolicy ageDiscountPolicy,
+                      ClosureOverlay closures) {
+        this.graph = graph;
+        this.transferGraph = transferGraph;
+        this.searchSpaces = searchSpaces;
+        this.lineFareTable = lineFareTable;
+        this.ageDiscountPolicy = ageDiscountPolicy;
+        this.closures = closures;
+    }
+
+    // 거리, 요금, 환승 횟수 순으로 정렬된 파레토 최적 경로들을 반환하며, 세 값이 모두 같은 경로는 하나만 남긴다.
+    List<Route> search(int source, int target) {
+        SearchSpace tree = searchSpaces.borrow();
+        try {
+            tree.start(target);
+            tree.exhaust(graph, closures);
+            if (!tree.isReached(source)) {
+                return List.of();
+            }
+            return new LabelSearch(tree, target).search(transferGraph.stationStateOf(source));
+        } finally {
+            searchSpaces.giveBack(tree);
+        }
+    }
+
+    private int fareOf(int distance, int extraFare) {
+        return PricedTreeSearch.calculateFare(distance, extraFare, ageDiscountPolicy);
+    }
+
+    private class LabelSearch {
+
+        private final SearchSpace tree;
+        private final int target;
+        private final Labels labels = new Labels();
+        private final LabelQueue queue = new LabelQueue();
+        private final int[] lineChanges;
+        private final int[] firstLabels;
+        private final List<Integer> results = new ArrayList<>();
+        private final List<Integer> resultFares = new ArrayList<>();
+
+        LabelSearch(SearchSpace tree, int target) {
+            this.tree = tree;
+            this.target = target;
+            this.lineChanges = transferGraph.countLineChangesTo(target);
+            this.firstLabels = new int[transferGraph.getStateCount()];
+            Arrays.fill(firstLabels, NO_LABEL);
+        }
+
+        List<Route> search(int sourceState) {
+            addLabel(sourceState, 0, LineFareTable.NO_EXTRA_FARE, 0, NO_LABEL, SearchSpace.NO_ARC);
+            while (!queue.isEmpty()) {
+                int label = queue.poll();
+                if (labels.isRemoved(label) || isDominatedByResults(labels.stateOf(label), labels.distanceOf(label),
+                        labels.extraFareOf(label), labels.transferCountOf(label))) {
+                    continue;
+                }
+                if (transferGraph.stationOf(labels.stateOf(label)) == target) {
+                    results.add(label);
+                    resultFares.add(fareOf(label));
+                    continue;
+                }
+                extend(label);
+            }
+            return collectRoutes();
+        }
+
+        private void extend(int label) {
+            int state = labels.stateOf(label);
+            int distance = labels.distanceOf(label);
+            int extraFare = labels.extraFareOf(label);
+            int transferCount = labels.transferCountOf(label);
+            for (int arc = transferGraph.firstArc(state); arc < transferGraph.endArc(state); arc++) {
+                int head = transferGraph.headOf(arc);
+                if (!tree.isReached(transferGraph.stationOf(head))) {
+                    continue;
+                }
+                int sectionArc = transferGraph.sectionArcOf(arc);
+                if (sectionArc != SearchSpace.NO_ARC && closures.isClosed(sectionArc)) {
+                    continue;
+                }
+                if (sectionArc != SearchSpace.NO_ARC) {
+                    int sectionExtraFare = lineFareTable.findExtraFareOf(graph.getSectionOf(sectionArc));
+                    addLabel(head, distance + graph.weightOf(sectionArc),
+                            Math.max(extraFare, sectionExtraFare), transferCount, label, arc);
+                } else if (transferGraph.isAlightingArc(arc)) {
+                    addLabel(head, distance, extraFare, transferCount + 1, label, arc);
+                } else {
+                    addLabel(head, distance, extraFare, transferCount, label, arc);
+                }
+            }
+        }
+
+        // 새 라벨이 기존 라벨에 지배되면 버리고, 새 라벨이 지배하는 기존 라벨은 목록에서 제거한다.
+        private void addLabel(int state, int distance, int extraFare, int transferCount, int parent, int arc) {
+            if (isDominatedByResults(state, distance, extraFare, transferCount)) {
+                return;
+            }
+            int previous = NO_LABEL;
+            for (int label = firstLabels[state]; label != NO_LABEL; label = labels.nextOf(label)) {
+                if (labels.dominates(label, distance, extraFare, transferCount)) {
+                    return;
+                }
+                if (labels.isDominatedBy(label, distance, extraFare, transferCount)) {
+                    labels.remove(label);
+                    unlink(state, previous, label);
+                    continue;
+                }
+                previous = label;
+            }
+            int label = labels.add(state, distance, extraFare, transferCount, parent, arc, firstLabels[state]);
+            firstLabels[state] = label;
+            queue.add(label, distance + tree.distanceOf(transferGraph.stationOf(state)));
+        }
+
+        private void unlink(int state, int previous, int label) {
+            if (previous == NO_LABEL) {
+                firstLabels[state] = labels.nextOf(label);
+                return;
+            }
+            labels.link(previous, labels.nextOf(label));
+        }
+
+        // 도착역까지의 최단거리와 최소 환승 횟수를 더해도 이미 찾은 경로보다 거리, 요금, 환승 횟수가 모두 크거나 같다면
+        // 더 나아질 수 없다.
+        private boolean isDominatedByResults(int state, int distance, int extraFare, int transferCount) {
+            int distanceBound = distance + tree.distanceOf(transferGraph.stationOf(state));
+            int transferBound = transferCount + countLineChanges(state);
+            int fareBound = NOT_CALCULATED;
+            for (int i = 0; i < results.size(); i++) {
+                int result = results.get(i);
+                if (labels.distanceOf(result) > distanceBound || labels.transferCountOf(result) > transferBound) {
+                    continue;
+                }
+                if (fareBound == NOT_CALCULATED) {
+                    fareBound = ParetoRouteSearch.this.fareOf(distanceBound, extraFare);
+                }
+                if (resultFares.get(i) <= fareBound) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 역 상태에서는 승차가 무료이므로, 역을 지나는 노선들 중 가장 적은 값을 사용한다.
+        private int countLineChanges(int state) {
+            if (!transferGraph.isStationState(state)) {
+                return lineChanges[transferGraph.lineIndexOf(state)];
+            }
+            int minimum = TransferGraph.UNREACHABLE;
+            for (int arc = transferGraph.firstArc(state); arc < transferGraph.endArc(state); arc++) {
+                minimum = Math.min(minimum, lineChanges[transferGraph.lineIndexOf(transferGraph.headOf(arc))]);
+            }
+            return minimum;
+        }
+
+        // 거리 순으로 정렬했으므로, 앞서 남긴 경로보다 요금과 환승 횟수가 모두 크거나 같은 경로는 지배된다.
+        private List<Route> collectRoutes() {
+            results.sort(Comparator.<Integer>comparingInt(labels::distanceOf)
+                    .thenComparingInt(this::fareOf)
+                    .thenComparingInt(labels::transferCountOf));
+            List<Integer> kept = new ArrayList<>(results.size());
+            for (int label : results) {
+                if (kept.stream().noneMatch(other -> fareOf(other) <= fareOf(label)
+                        && labels.transferCountOf(other) <= labels.transferCountOf(label))) {
+                    kept.add(label);
+                }
+            }
+            List<Route> routes = new ArrayList<>(kept.size());
+            for (int label : kept) {
+                routes.add(backtrack(label));
+            }
+            return routes;
+        }
+
+        private int fareOf(int label) {
+            return ParetoRouteSearch.this.fareOf(labels.distanceOf(label), labels.extraFareOf(label));
+        }
+
+        // 승차와 하차 간선을 제외한 구간 간선만 모아 원래 그래프의 경로로 되돌린다.
+        private Route backtrack(int label) {
+            int length = 0;
+            for (int current = label; labels.parentOf(current) != NO_LABEL; current = labels.parentOf(current)) {
+                if (transferGraph.sectionArcOf(labels.arcOf(current)) != SearchSpace.NO_ARC) {
+                    length++;
+                }
+            }
+            int[] arcs = new int[length];
+            for (int current = label; labels.parentOf(current) != NO_LABEL; current = labels.parentOf(current)) {
+                int sectionArc = transferGraph.sectionArcOf(labels.arcOf(current));
+                if (sectionArc != SearchSpace.NO_ARC) {
+                    arcs[--length] = sectionArc;
+                }
+            }
+            return new Route(arcs);
+        }
+    }
+
+    // 라벨의 값들을 객체 대신 라벨 번호로 접근하는 배열들에 나누어 저장한다.
+    private static class Labels {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private int[] states = new int[INITIAL_CAPACITY];
+        private int[] distances = new int[INITIAL_CAPACITY];
+        private int[] extraFares = new int[INITIAL_CAPACITY];
+        private int[] transferCounts = new int[INITIAL_CAPACITY];
+        private int[] parents = new int[INITIAL_CAPACITY];
+        private int[] arcs = new int[INITIAL_CAPACITY];
+        private int[] nexts = new int[INITIAL_CAPACITY];
+        private boolean[] removed = new boolean[INITIAL_CAPACITY];
+        private int size = 0;
+
+        int add(int state, int distance, int extraFare, int transferCount, int parent, int arc, int next) {
+            if (size == states.length) {
+                grow();
+            }
+            states[size] = state;
+            distances[size] = distance;
+            extraFares[size] = extraFare;
+            transferCounts[size] = transferCount;
+            parents[size] = parent;
+            arcs[size] = arc;
+            nexts[size] = next;
+            return size++;
+        }
+
+        private void grow() {
+            int capacity = states.length * 2;
+            states = Arrays.copyOf(states, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+            extraFares = Arrays.copyOf(extraFares, capacity);
+            transferCounts = Arrays.copyOf(transferCounts, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            arcs = Arrays.copyOf(arcs, capacity);
+            nexts = Arrays.copyOf(nexts, capacity);
+            removed = Arrays.copyOf(removed, capacity);
+        }
+
+        boolean dominates(int label, int distance, int extraFare, int transferCount) {
+            return distances[label] <= distance
+                    && extraFares[label] <= extraFare
+                    && transferCounts[label] <= transferCount;
+        }
+
+        boolean isDominatedBy(int label, int distance, int extraFare, int transferCount) {
+            return distance <= distances[label]
+                    && extraFare <= extraFares[label]
+                    && transferCount <= transferCounts[label];
+        }
+
+        // 제거된 라벨은 우선순위 큐에 남아 있더라도 꺼낼 때 건너뛴다.
+        void remove(int label) {
+            removed[label] = true;
+        }
+
+        boolean isRemoved(int label) {
+            return removed[label];
+        }
+
+        void link(int label, int next) {
+            nexts[label] = next;
+        }
+
+        int nextOf(int label) {
+            return nexts[label];
+        }
+
+        int stateOf(int label) {
+            return states[label];
+        }
+
+        int distanceOf(int label) {
+            return distances[label];
+        }
+
+        int extraFareOf(int label) {
+            return extraFares[label];
+        }
+
+        int transferCountOf(int label) {
+            return transferCounts[label];
+        }
+
+        int parentOf(int label) {
+            return parents[label];
+        }
+
+        int arcOf(int label) {
+            return arcs[label];
+        }
+    }
+
+    // 우선순위를 상위 32비트에, 라벨 번호를 하위 32비트에 담은 값을 이진 힙으로 관리한다.
+    private static class LabelQueue {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private long[] heap = new long[INITIAL_CAPACITY];
+        private int size = 0;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(int label, int priority) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            long entry = ((long) priority << Integer.SIZE) | label;
+            int position = size++;
+            while (position > 0 && heap[(position - 1) / 2] > entry) {
+                heap[position] = heap[(position - 1) / 2];
+                position = (position - 1) / 2;
+            }
+            heap[position] = entry;
+        }
+
+        int poll() {
+            int label = (int) heap[0];
+            long last = heap[--size];
+            int position = 0;
+            while (position * 2 + 1 < size) {
+                int child = position * 2 + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (heap[child] >= last) {
+                    break;
+                }
+                heap[position] = heap[child];
+                position = child;
+            }
+            heap[position] = last;
+            return label;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package wooteco.subway.domain.path;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import wooteco.subway.domain.fare.Fare;
 import wooteco.subway.domain.line.LineExtraFare;
@@ -16,12 +17,22 @@ public class Path {
     private final List<Section> route;
 
     public Path(Station source, Station target, Navigator navigator) {
+        this(source, target, navigator, RoutingMode.DISTANCE);
+    }
+
+    public Path(Station source, Station target, Navigator navigator, RoutingMode mode) {
+        validateNonSelfLoop(source, target);
+        this.source = source;
+        this.route = navigator.calculateShortestPath(source, target, mode);
+    }
+
+    Path(Station source, Station target, List<Section> route) {
         validateNonSelfLoop(source, target);
         this.source = source;
-        this.route = navigator.calculateShortestPath(source, target);
+        this.route = route;
     }
 
-    private static void validateNonSelfLoop(Station source, Station target) {
+    public static void validateNonSelfLoop(Station source, Station target) {
         if (source.equals(target)) {
             throw new IllegalArgumentException(SELF_LOOP_EXCEPTION);
         }
@@ -43,6 +54,16 @@ public class Path {
                 .sum();
     }
 
+    public int getTransferCount() {
+        int count = 0;
+        for (int i = 1; i < route.size(); i++) {
+            if (!Objects.equals(route.get(i - 1).getLineId(), route.get(i).getLineId())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     public List<Long> getPassingLineIds() {
         return route.stream()
                 .map(Section::getLineId)
@@ -51,10 +72,14 @@ public class Path {
     }
 
     public int calculateFare(List<LineExtraFare> extraFares, int age) {
-        return new Fare()
-                .applyDistanceOverFarePolicies(getDistance())
-                .applyMaximumLineExtraFare(extraFares)
+        return calculateBaseFare(extraFares)
                 .applyAgeDiscountPolicy(age)
                 .toInt();
     }
+
+    public Fare calculateBaseFare(List<LineExtraFare> extraFares) {
+        return new Fare()
+                .applyDistanceOverFarePolicies(getDistance())
+                .applyMaximumLineExtraFare(extraFares);
+    }
 }
@@ -0,0 +1,6 @@
+package wooteco.subway.domain.path;
+
+interface PathFinder {
+
+    Route findRoute(int source, int target);
+}
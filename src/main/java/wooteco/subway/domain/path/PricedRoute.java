@@ -0,0 +1,81 @@
+package wooteco.subway.domain.path;
+
+import java.util.List;
+import java.util.Objects;
+import wooteco.subway.domain.fare.Fare;
+import wooteco.subway.domain.line.LineExtraFare;
+import wooteco.subway.domain.station.Station;
+
+public class PricedRoute {
+
+    private final List<Station> stations;
+    private final int distance;
+    private final Fare baseFare;
+    private final int transferCount;
+
+    public PricedRoute(List<Station> stations, int distance, Fare baseFare, int transferCount) {
+        this.stations = List.copyOf(stations);
+        this.distance = distance;
+        this.baseFare = baseFare;
+        this.transferCount = transferCount;
+    }
+
+    public PricedRoute(List<Station> stations, int distance, Fare baseFare) {
+        this(stations, distance, baseFare, 0);
+    }
+
+    public static PricedRoute of(Path path, List<LineExtraFare> extraFares) {
+        return new PricedRoute(path.toStations(), path.getDistance(), path.calculateBaseFare(extraFares),
+                path.getTransferCount());
+    }
+
+    public int calculateFare(int age) {
+        return baseFare.applyAgeDiscountPolicy(age).toInt();
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public Fare getBaseFare() {
+        return baseFare;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PricedRoute that = (PricedRoute) o;
+        return distance == that.distance
+                && transferCount == that.transferCount
+                && Objects.equals(stations, that.stations)
+                && Objects.equals(baseFare, that.baseFare);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stations, distance, baseFare, transferCount);
+    }
+
+    @Override
+    public String toString() {
+        return "PricedRoute{" +
+                "stations=" + stations +
+                ", distance=" + distance +
+                ", baseFare=" + baseFare.toInt() +
+                ", transferCount=" + transferCount +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package wooteco.subway.domain.path;
+
+import java.util.List;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+import wooteco.subway.domain.fare.Fare;
+import wooteco.subway.domain.line.LineExtraFare;
+import wooteco.subway.domain.line.LineFareTable;
+
+class PricedTreeSearch {
+
+    private final SectionGraph graph;
+    private final LineFareTable lineFareTable;
+    private final ClosureOverlay closures;
+
+    PricedTreeSearch(SectionGraph graph, LineFareTable lineFareTable) {
+        this(graph, lineFareTable, ClosureOverlay.NONE);
+    }
+
+    PricedTreeSearch(SectionGraph graph, LineFareTable lineFareTable, ClosureOverlay closures) {
+        this.graph = graph;
+        this.lineFareTable = lineFareTable;
+        this.closures = closures;
+    }
+
+    // 역이 확정되는 시점에는 부모 역도 이미 확정되어 있으므로, 경로상 최대 노선 추가비용을 부모로부터 이어받는다.
+    void search(SearchSpace space, int source, SettledVertexVisitor visitor) {
+        space.start(source);
+        space.label(source, LineFareTable.NO_EXTRA_FARE);
+        while (space.hasNext()) {
+            int vertex = space.settleNext();
+            int parentArc = space.parentArcOf(vertex);
+            int extraFare = LineFareTable.NO_EXTRA_FARE;
+            if (parentArc != SearchSpace.NO_ARC) {
+                extraFare = Math.max(space.labelOf(graph.tailOf(parentArc)),
+                        lineFareTable.findExtraFareOf(graph.getSectionOf(parentArc)));
+                space.label(vertex, extraFare);
+            }
+            if (!visitor.visit(vertex, space.distanceOf(vertex), extraFare)) {
+                return;
+            }
+            DijkstraPathFinder.relaxOutgoingArcs(graph, space, vertex, closures);
+        }
+    }
+
+    static int calculateFare(int distance, int extraFare, AgeDiscountPolicy ageDiscountPolicy) {
+        return new Fare()
+                .applyDistanceOverFarePolicies(distance)
+                .applyMaximumLineExtraFare(List.of(new LineExtraFare(extraFare)))
+                .applyAgeDiscountPolicy(ageDiscountPolicy)
+                .toInt();
+    }
+
+    interface SettledVertexVisitor {
+
+        // false를 반환하면 탐색을 중단한다.
+        boolean visit(int vertex, int distance, int extraFare);
+    }
+}
@@ -0,0 +1,139 @@
+package wooteco.subway.domain.path;
+
+import static wooteco.subway.domain.path.RaptorSearchSpace.NO_STOP;
+import static wooteco.subway.domain.path.RaptorSearchSpace.UNREACHED;
+import static wooteco.subway.domain.path.TimetableNetwork.NO_TRIP;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import wooteco.subway.domain.section.Section;
+
+// 우선순위 큐 대신 라운드마다 열차를 한 번 더 갈아탄 도착 시각을 구하며, 라운드 k의 도착 시각은 k-1번 환승한 경로의 것이다.
+// 각 라운드는 직전 라운드에 도착 시각이 앞당겨진 역을 지나는 운행 계통만, 그 역들 중 가장 앞선 정차역부터 차례로 훑는다.
+// 도착 시각이 목적지의 현재 도착 시각보다 늦은 역은 기록하지 않으며, 환승에 걸리는 시간은 고려하지 않는다.
+class RaptorSearch {
+
+    private final SectionGraph graph;
+    private final TimetableNetwork network;
+    private final ClosureOverlay closures;
+
+    RaptorSearch(SectionGraph graph, TimetableNetwork network) {
+        this(graph, network, ClosureOverlay.NONE);
+    }
+
+    RaptorSearch(SectionGraph graph, TimetableNetwork network, ClosureOverlay closures) {
+        this.graph = graph;
+        this.network = network;
+        this.closures = closures;
+    }
+
+    Optional<ScheduledPath> search(int source, int target, int departure) {
+        RaptorSearchSpace space = network.borrowSearchSpace();
+        try {
+            return search(space, source, target, departure);
+        } finally {
+            network.giveBack(space);
+        }
+    }
+
+    private Optional<ScheduledPath> search(RaptorSearchSpace space, int source, int target, int departure) {
+        space.start(source, departure);
+        int round = 0;
+        while (space.markedCountOf(round) > 0) {
+            round++;
+            space.openRound(round);
+            queueRoutes(space, round - 1, target);
+            scanQueuedRoutes(space, round, target);
+        }
+        if (space.bestArrivalOf(target) == UNREACHED) {
+            return Optional.empty();
+        }
+        return Optional.of(toScheduledPath(space, source, target, round));
+    }
+
+    private void queueRoutes(RaptorSearchSpace space, int round, int target) {
+        for (int i = 0; i < space.markedCountOf(round); i++) {
+            int station = space.markedStationOf(round, i);
+            if (space.arrivalOf(round, station) >= space.bestArrivalOf(target)) {
+                continue;
+            }
+            for (int index = network.firstStopOf(station); index < network.endStopOfStation(station); index++) {
+                int stop = network.stationStopOf(index);
+                int route = network.routeOf(stop);
+                if (stop + 1 < network.endStopOf(route)) {
+                    space.queueRoute(route, stop);
+                }
+            }
+        }
+    }
+
+    private void scanQueuedRoutes(RaptorSearchSpace space, int round, int target) {
+        for (int i = 0; i < space.queuedRouteCount(); i++) {
+            int route = space.queuedRouteOf(i);
+            scanRoute(space, round, target, route, space.startStopOf(route));
+        }
+        space.clearQueuedRoutes();
+    }
+
+    // 타고 있는 열차로 각 정차역의 도착 시각을 앞당기고, 직전 라운드에 도착한 역에서는 더 이른 열차로 갈아탈 수 있는지 확인한다.
+    // 제외된 구간을 지나야 하는 열차는 그 구간 앞에서 내려야 하므로, 구간을 지난 정차역부터는 다시 승차해야 한다.
+    private void scanRoute(RaptorSearchSpace space, int round, int target, int route, int startStop) {
+        int tripStart = NO_TRIP;
+        int boardStop = NO_STOP;
+        for (int stop = startStop; stop < network.endStopOf(route); stop++) {
+            if (stop > startStop && closures.isClosed(network.arcOf(stop - 1))) {
+                tripStart = NO_TRIP;
+                boardStop = NO_STOP;
+            }
+            int station = network.stationOf(stop);
+            int arrival = tripStart == NO_TRIP ? UNREACHED : tripStart + network.timeOf(stop);
+            if (arrival < space.bestArrivalOf(station) && arrival < space.bestArrivalOf(target)) {
+                space.improve(round, station, arrival, boardStop);
+            }
+            int previousArrival = space.arrivalOf(round - 1, station);
+            if (previousArrival < arrival) {
+                int earlierTripStart = network.findTripStart(stop, previousArrival);
+                if (earlierTripStart != NO_TRIP && (tripStart == NO_TRIP || earlierTripStart < tripStart)) {
+                    tripStart = earlierTripStart;
+                    boardStop = stop;
+                }
+            }
+        }
+    }
+
+    // 목적지에서부터 각 라운드의 승차 정차역을 거슬러 올라가며 구간을 모은다.
+    private ScheduledPath toScheduledPath(RaptorSearchSpace space, int source, int target, int lastRound) {
+        int round = lastRound;
+        while (space.arrivalOf(round, target) == UNREACHED) {
+            round--;
+        }
+        int arrival = space.arrivalOf(round, target);
+        int departure = arrival;
+        List<Section> sections = new ArrayList<>();
+        int station = target;
+        while (station != source) {
+            int boardStop = space.boardStopOf(round, station);
+            int alightStop = findAlightStop(boardStop, station);
+            int tripStart = space.arrivalOf(round, station) - network.timeOf(alightStop);
+            for (int stop = alightStop - 1; stop >= boardStop; stop--) {
+                sections.add(network.sectionOf(stop));
+            }
+            departure = tripStart + network.timeOf(boardStop);
+            station = network.stationOf(boardStop);
+            round--;
+        }
+        Collections.reverse(sections);
+        Path path = new Path(graph.getStation(source), graph.getStation(target), sections);
+        return new ScheduledPath(path, departure, arrival);
+    }
+
+    private int findAlightStop(int boardStop, int station) {
+        int stop = boardStop + 1;
+        while (network.stationOf(stop) != station) {
+            stop++;
+        }
+        return stop;
+    }
+}
@@ -0,0 +1,123 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 라운드마다 도착 시각이 앞당겨진 역과 그 역에 내린 열차의 승차 정차역을 기록한다.
+// 기록한 역만 되돌리므로, 재사용할 때 전체 배열을 초기화하지 않는다.
+class RaptorSearchSpace {
+
+    static final int UNREACHED = Integer.MAX_VALUE;
+    static final int NO_STOP = -1;
+
+    private final int stationCount;
+    private final int[] bestArrivals;
+    private final List<int[]> roundArrivals = new ArrayList<>();
+    private final List<int[]> roundBoardStops = new ArrayList<>();
+    private final List<int[]> roundMarkedStations = new ArrayList<>();
+    private int[] markedCounts = new int[0];
+    private int roundCount = 0;
+    private final int[] routeStartStops;
+    private final int[] queuedRoutes;
+    private int queuedCount = 0;
+
+    RaptorSearchSpace(int stationCount, int routeCount) {
+        this.stationCount = stationCount;
+        this.bestArrivals = new int[stationCount];
+        this.routeStartStops = new int[routeCount];
+        this.queuedRoutes = new int[routeCount];
+        Arrays.fill(bestArrivals, UNREACHED);
+        Arrays.fill(routeStartStops, NO_STOP);
+    }
+
+    void start(int station, int departure) {
+        reset();
+        openRound(0);
+        improve(0, station, departure, NO_STOP);
+    }
+
+    private void reset() {
+        for (int round = 0; round < roundCount; round++) {
+            int[] arrivals = roundArrivals.get(round);
+            int[] markedStations = roundMarkedStations.get(round);
+            for (int i = 0; i < markedCounts[round]; i++) {
+                arrivals[markedStations[i]] = UNREACHED;
+                bestArrivals[markedStations[i]] = UNREACHED;
+            }
+        }
+        roundCount = 0;
+    }
+
+    void openRound(int round) {
+        if (round == roundArrivals.size()) {
+            int[] arrivals = new int[stationCount];
+            Arrays.fill(arrivals, UNREACHED);
+            roundArrivals.add(arrivals);
+            roundBoardStops.add(new int[stationCount]);
+            roundMarkedStations.add(new int[stationCount]);
+            markedCounts = Arrays.copyOf(markedCounts, round + 1);
+        }
+        markedCounts[round] = 0;
+        roundCount = round + 1;
+    }
+
+    void improve(int round, int station, int arrival, int boardStop) {
+        int[] arrivals = roundArrivals.get(round);
+        if (arrivals[station] == UNREACHED) {
+            roundMarkedStations.get(round)[markedCounts[round]++] = station;
+        }
+        arrivals[station] = arrival;
+        roundBoardStops.get(round)[station] = boardStop;
+        bestArrivals[station] = arrival;
+    }
+
+    int bestArrivalOf(int station) {
+        return bestArrivals[station];
+    }
+
+    // 해당 라운드에 도착 시각이 앞당겨지지 않은 역은 UNREACHED를 반환한다.
+    int arrivalOf(int round, int station) {
+        return roundArrivals.get(round)[station];
+    }
+
+    int boardStopOf(int round, int station) {
+        return roundBoardStops.get(round)[station];
+    }
+
+    int markedCountOf(int round) {
+        return markedCounts[round];
+    }
+
+    int markedStationOf(int round, int index) {
+        return roundMarkedStations.get(round)[index];
+    }
+
+    void queueRoute(int route, int stop) {
+        if (routeStartStops[route] == NO_STOP) {
+            queuedRoutes[queuedCount++] = route;
+            routeStartStops[route] = stop;
+            return;
+        }
+        routeStartStops[route] = Math.min(routeStartStops[route], stop);
+    }
+
+    int queuedRouteCount() {
+        return queuedCount;
+    }
+
+    int queuedRouteOf(int index) {
+        return queuedRoutes[index];
+    }
+
+    int startStopOf(int route) {
+        return routeStartStops[route];
+    }
+
+    void clearQueuedRoutes() {
+        for (int i = 0; i < queuedCount; i++) {
+            routeStartStops[queuedRoutes[i]] = NO_STOP;
+        }
+        queuedCount = 0;
+    }
+}
@@ -0,0 +1,51 @@
+package wooteco.subway.domain.path;
+
+public class ReachabilityBudget {
+
+    static final ReachabilityBudget UNLIMITED = new ReachabilityBudget(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    private static final String BUDGET_NOT_FOUND_EXCEPTION = "최대 거리나 최대 요금 중 하나 이상을 입력해야 합니다.";
+    private static final String NEGATIVE_BUDGET_EXCEPTION = "최대 거리와 최대 요금은 0 이상이어야 합니다.";
+
+    private final int maxDistance;
+    private final int maxFare;
+
+    private ReachabilityBudget(int maxDistance, int maxFare) {
+        this.maxDistance = maxDistance;
+        this.maxFare = maxFare;
+    }
+
+    // 입력되지 않은 기준은 제한하지 않는다.
+    public static ReachabilityBudget of(Integer maxDistance, Integer maxFare) {
+        if (maxDistance == null && maxFare == null) {
+            throw new IllegalArgumentException(BUDGET_NOT_FOUND_EXCEPTION);
+        }
+        return new ReachabilityBudget(toLimit(maxDistance), toLimit(maxFare));
+    }
+
+    private static int toLimit(Integer value) {
+        if (value == null) {
+            return Integer.MAX_VALUE;
+        }
+        if (value < 0) {
+            throw new IllegalArgumentException(NEGATIVE_BUDGET_EXCEPTION);
+        }
+        return value;
+    }
+
+    public boolean allowsDistance(int distance) {
+        return distance <= maxDistance;
+    }
+
+    public boolean allowsFare(int fare) {
+        return fare <= maxFare;
+    }
+
+    @Override
+    public String toString() {
+        return "ReachabilityBudget{" +
+                "maxDistance=" + maxDistance +
+                ", maxFare=" + maxFare +
+                '}';
+    }
+}
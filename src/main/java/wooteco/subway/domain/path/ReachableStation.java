@@ -0,0 +1,57 @@
+package wooteco.subway.domain.path;
+
+import java.util.Objects;
+import wooteco.subway.domain.station.Station;
+
+public class ReachableStation {
+
+    private final Station station;
+    private final int distance;
+    private final int fare;
+
+    public ReachableStation(Station station, int distance, int fare) {
+        this.station = station;
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReachableStation that = (ReachableStation) o;
+        return distance == that.distance
+                && fare == that.fare
+                && Objects.equals(station, that.station);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(station, distance, fare);
+    }
+
+    @Override
+    public String toString() {
+        return "ReachableStation{" +
+                "station=" + station +
+                ", distance=" + distance +
+                ", fare=" + fare +
+                '}';
+    }
+}
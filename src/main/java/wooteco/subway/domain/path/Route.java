@@ -0,0 +1,67 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import wooteco.subway.domain.section.Section;
+
+class Route {
+
+    static final Route NOT_CONNECTED = new Route(new int[0]);
+
+    private final int[] arcs;
+
+    Route(int[] arcs) {
+        this.arcs = arcs;
+    }
+
+    static Route backtrack(SectionGraph graph, SearchSpace space, int target) {
+        int length = 0;
+        for (int vertex = target; space.parentArcOf(vertex) != SearchSpace.NO_ARC; length++) {
+            vertex = graph.tailOf(space.parentArcOf(vertex));
+        }
+        int[] arcs = new int[length];
+        int vertex = target;
+        for (int i = length - 1; i >= 0; i--) {
+            arcs[i] = space.parentArcOf(vertex);
+            vertex = graph.tailOf(arcs[i]);
+        }
+        return new Route(arcs);
+    }
+
+    Route reverse() {
+        int[] reversed = new int[arcs.length];
+        for (int i = 0; i < arcs.length; i++) {
+            reversed[i] = arcs[arcs.length - 1 - i];
+        }
+        return new Route(reversed);
+    }
+
+    Route join(int bridgeArc, Route next) {
+        int bridgeLength = bridgeArc == SearchSpace.NO_ARC ? 0 : 1;
+        int[] joined = new int[arcs.length + bridgeLength + next.arcs.length];
+        System.arraycopy(arcs, 0, joined, 0, arcs.length);
+        if (bridgeLength == 1) {
+            joined[arcs.length] = bridgeArc;
+        }
+        System.arraycopy(next.arcs, 0, joined, arcs.length + bridgeLength, next.arcs.length);
+        return new Route(joined);
+    }
+
+    boolean isConnected() {
+        return this != NOT_CONNECTED;
+    }
+
+    IntStream streamArcs() {
+        return Arrays.stream(arcs);
+    }
+
+    List<Section> toSections(SectionGraph graph) {
+        List<Section> sections = new ArrayList<>(arcs.length);
+        for (int arc : arcs) {
+            sections.add(graph.getSectionOf(arc));
+        }
+        return sections;
+    }
+}
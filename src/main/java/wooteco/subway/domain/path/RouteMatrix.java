@@ -0,0 +1,57 @@
+package wooteco.subway.domain.path;
+
+import java.util.List;
+import wooteco.subway.domain.station.Station;
+
+public class RouteMatrix {
+
+    public static final int UNREACHABLE = -1;
+
+    private final List<Station> sources;
+    private final List<Station> targets;
+    private final int[][] distances;
+    private final int[][] fares;
+
+    RouteMatrix(List<Station> sources, List<Station> targets, int[][] distances, int[][] fares) {
+        this.sources = List.copyOf(sources);
+        this.targets = List.copyOf(targets);
+        this.distances = distances;
+        this.fares = fares;
+    }
+
+    public boolean isReachable(int row, int column) {
+        return distances[row][column] != UNREACHABLE;
+    }
+
+    public int getDistance(int row, int column) {
+        return distances[row][column];
+    }
+
+    public int getFare(int row, int column) {
+        return fares[row][column];
+    }
+
+    public List<Station> getSources() {
+        return sources;
+    }
+
+    public List<Station> getTargets() {
+        return targets;
+    }
+
+    public int[][] getDistances() {
+        return distances;
+    }
+
+    public int[][] getFares() {
+        return fares;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteMatrix{" +
+                "sources=" + sources.size() +
+                ", targets=" + targets.size() +
+                '}';
+    }
+}
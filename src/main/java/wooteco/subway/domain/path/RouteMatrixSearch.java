@@ -0,0 +1,82 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+import wooteco.subway.domain.station.Station;
+
+class RouteMatrixSearch {
+
+    private static final int NO_COLUMN = -1;
+
+    private final SearchSpacePool searchSpaces;
+    private final PricedTreeSearch treeSearch;
+    private final AgeDiscountPolicy ageDiscountPolicy;
+    private final int[] firstColumns;
+    private final int[] nextColumns;
+    private final int distinctTargetCount;
+
+    // 같은 역이 도착역 목록에 여러 번 포함될 수 있으므로, 역마다 해당하는 열들을 연결 목록으로 잇는다.
+    RouteMatrixSearch(SectionGraph graph,
+                      SearchSpacePool searchSpaces,
+                      PricedTreeSearch treeSearch,
+                      AgeDiscountPolicy ageDiscountPolicy,
+                      int[] targets) {
+        this.searchSpaces = searchSpaces;
+        this.treeSearch = treeSearch;
+        this.ageDiscountPolicy = ageDiscountPolicy;
+        this.firstColumns = new int[graph.getStationCount()];
+        this.nextColumns = new int[targets.length];
+        Arrays.fill(firstColumns, NO_COLUMN);
+        int distinctCount = 0;
+        for (int column = targets.length - 1; column >= 0; column--) {
+            if (firstColumns[targets[column]] == NO_COLUMN) {
+                distinctCount++;
+            }
+            nextColumns[column] = firstColumns[targets[column]];
+            firstColumns[targets[column]] = column;
+        }
+        this.distinctTargetCount = distinctCount;
+    }
+
+    // 출발역마다 하나의 최단경로 트리를 병렬로 탐색하며, 모든 도착역이 확정되면 해당 트리의 탐색을 멈춘다.
+    RouteMatrix search(List<Station> sourceStations, List<Station> targetStations, int[] sources) {
+        int[][] distances = new int[sources.length][nextColumns.length];
+        int[][] fares = new int[sources.length][nextColumns.length];
+        IntStream.range(0, sources.length)
+                .parallel()
+                .forEach(row -> fillRow(sources[row], distances[row], fares[row]));
+        return new RouteMatrix(sourceStations, targetStations, distances, fares);
+    }
+
+    private void fillRow(int source, int[] distances, int[] fares) {
+        Arrays.fill(distances, RouteMatrix.UNREACHABLE);
+        Arrays.fill(fares, RouteMatrix.UNREACHABLE);
+        int[] remainingTargets = {distinctTargetCount};
+        SearchSpace space = searchSpaces.borrow();
+        try {
+            treeSearch.search(space, source, (vertex, distance, extraFare) -> {
+                if (firstColumns[vertex] == NO_COLUMN) {
+                    return true;
+                }
+                int fare = toFare(vertex == source, distance, extraFare);
+                for (int column = firstColumns[vertex]; column != NO_COLUMN; column = nextColumns[column]) {
+                    distances[column] = distance;
+                    fares[column] = fare;
+                }
+                return --remainingTargets[0] > 0;
+            });
+        } finally {
+            searchSpaces.giveBack(space);
+        }
+    }
+
+    // 출발역과 도착역이 같은 칸은 이동하지 않으므로 거리와 요금이 모두 0이다.
+    private int toFare(boolean isSource, int distance, int extraFare) {
+        if (isSource) {
+            return 0;
+        }
+        return PricedTreeSearch.calculateFare(distance, extraFare, ageDiscountPolicy);
+    }
+}
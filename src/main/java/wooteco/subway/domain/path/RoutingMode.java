@@ -0,0 +1,20 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+public enum RoutingMode {
+
+    DISTANCE,
+    MIN_TRANSFER,
+    CHEAPEST,
+    ;
+
+    private static final String INVALID_ROUTING_MODE_EXCEPTION = "지원하지 않는 경로 탐색 방식입니다.";
+
+    public static RoutingMode of(String name) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equals(name))
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException(INVALID_ROUTING_MODE_EXCEPTION));
+    }
+}
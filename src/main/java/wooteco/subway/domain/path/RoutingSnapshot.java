@@ -0,0 +1,98 @@
+package wooteco.subway.domain.path;
+
+import java.util.List;
+import java.util.Optional;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.line.Timetable;
+import wooteco.subway.domain.section.Section;
+
+public class RoutingSnapshot {
+
+    private final long version;
+    private final Navigator navigator;
+    private final LineFareTable lineFareTable;
+    private final Timetable timetable;
+    private final Disruption disruption;
+
+    public RoutingSnapshot(long version, Navigator navigator, LineFareTable lineFareTable, Timetable timetable) {
+        this(version, navigator, lineFareTable, timetable, Disruption.NONE);
+    }
+
+    private RoutingSnapshot(long version,
+                            Navigator navigator,
+                            LineFareTable lineFareTable,
+                            Timetable timetable,
+                            Disruption disruption) {
+        this.version = version;
+        this.navigator = navigator;
+        this.lineFareTable = lineFareTable;
+        this.timetable = timetable;
+        this.disruption = disruption;
+    }
+
+    public static RoutingSnapshot of(long version,
+                                     List<Section> sections,
+                                     LineFareTable lineFareTable,
+                                     SearchSettings settings) {
+        return of(version, sections, lineFareTable, Timetable.EMPTY, settings);
+    }
+
+    public static RoutingSnapshot of(long version,
+                                     List<Section> sections,
+                                     LineFareTable lineFareTable,
+                                     Timetable timetable,
+                                     SearchSettings settings) {
+        return new RoutingSnapshot(version, new Navigator(sections, settings), lineFareTable, timetable);
+    }
+
+    public Optional<RoutingSnapshot> applySectionUpdates(long version,
+                                                         List<Section> removedSections,
+                                                         List<Section> addedSections) {
+        return navigator.applySectionUpdates(removedSections, addedSections)
+                .map(patchedNavigator -> new RoutingSnapshot(version, patchedNavigator, lineFareTable, timetable))
+                .map(patched -> patched.withDisruption(disruption));
+    }
+
+    // 같은 노선도라도 탐색기가 달라지면 경로가 달라질 수 있으므로, 새로운 버전으로 교체하여 이전 버전의 캐시된 경로를 사용하지 않는다.
+    public RoutingSnapshot withNavigator(long version, Navigator navigator) {
+        return new RoutingSnapshot(version, navigator, lineFareTable, timetable).withDisruption(disruption);
+    }
+
+    public boolean isPreprocessed() {
+        return navigator.isPreprocessed();
+    }
+
+    // 버전은 그대로 두므로, 캐시된 경로 중 제외된 역과 구간을 지나지 않는 경로는 계속 사용할 수 있다.
+    public RoutingSnapshot withDisruption(Disruption disruption) {
+        if (this.disruption.equals(disruption)) {
+            return this;
+        }
+        return new RoutingSnapshot(version, navigator.withDisruption(disruption), lineFareTable, timetable,
+                disruption);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Navigator getNavigator() {
+        return navigator;
+    }
+
+    public LineFareTable getLineFareTable() {
+        return lineFareTable;
+    }
+
+    public Timetable getTimetable() {
+        return timetable;
+    }
+
+    public Disruption getDisruption() {
+        return disruption;
+    }
+
+    @Override
+    public String toString() {
+        return "RoutingSnapshot{" + "version=" + version + '}';
+    }
+}
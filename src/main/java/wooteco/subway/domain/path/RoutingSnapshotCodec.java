@@ -0,0 +1,128 @@
+package wooteco.subway.domain.path;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.line.LineTimetable;
+import wooteco.subway.domain.line.Timetable;
+
+public class RoutingSnapshotCodec {
+
+    private static final String CORRUPTED_SNAPSHOT_EXCEPTION = "손상되었거나 호환되지 않는 스냅샷 파일입니다.";
+    private static final int MAGIC = 0x53554257;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 4;
+
+    private RoutingSnapshotCodec() {
+    }
+
+    // 헤더(식별값, 형식 버전, 본문 길이, 본문의 CRC32) 뒤에 그래프와 노선별 추가요금, 시간표를 기록한다.
+    public static byte[] encode(RoutingSnapshot snapshot) {
+        byte[] payload = encodePayload(snapshot);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(MAGIC);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) checksumOf(ByteBuffer.wrap(payload)));
+        buffer.put(payload);
+        return buffer.array();
+    }
+
+    private static byte[] encodePayload(RoutingSnapshot snapshot) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            snapshot.getNavigator().getGraph().writeTo(out);
+            Map<Long, Integer> extraFares = snapshot.getLineFareTable().toExtraFaresByLineId();
+            out.writeInt(extraFares.size());
+            for (Map.Entry<Long, Integer> extraFare : extraFares.entrySet()) {
+                out.writeLong(extraFare.getKey());
+                out.writeInt(extraFare.getValue());
+            }
+            writeTimetable(out, snapshot.getTimetable());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeTimetable(DataOutputStream out, Timetable timetable) throws IOException {
+        List<LineTimetable> lineTimetables = timetable.toLineTimetables();
+        out.writeInt(lineTimetables.size());
+        for (LineTimetable lineTimetable : lineTimetables) {
+            out.writeLong(lineTimetable.getLineId());
+            out.writeInt(lineTimetable.getFirstDeparture().toSecondOfDay());
+            out.writeInt(lineTimetable.getLastDeparture().toSecondOfDay());
+            out.writeInt(lineTimetable.getHeadway());
+            out.writeInt(lineTimetable.getSpeed());
+        }
+    }
+
+    // 파일을 매핑한 버퍼를 그대로 읽으며, 헤더나 체크섬이 맞지 않으면 일부만 읽은 스냅샷을 만들지 않는다.
+    public static RoutingSnapshot decode(ByteBuffer buffer, long version, SearchSettings settings) {
+        try {
+            ByteBuffer payload = toVerifiedPayload(buffer);
+            SectionGraph graph = SectionGraph.readFrom(payload);
+            LineFareTable lineFareTable = readLineFareTable(payload);
+            Timetable timetable = readTimetable(payload);
+            return new RoutingSnapshot(version, new Navigator(graph, settings), lineFareTable, timetable);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                 | DateTimeException e) {
+            throw new IllegalArgumentException(CORRUPTED_SNAPSHOT_EXCEPTION, e);
+        }
+    }
+
+    private static ByteBuffer toVerifiedPayload(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IllegalArgumentException(CORRUPTED_SNAPSHOT_EXCEPTION);
+        }
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length < 0 || length != buffer.remaining()) {
+            throw new IllegalArgumentException(CORRUPTED_SNAPSHOT_EXCEPTION);
+        }
+        ByteBuffer payload = buffer.slice();
+        if ((int) checksumOf(payload.duplicate()) != checksum) {
+            throw new IllegalArgumentException(CORRUPTED_SNAPSHOT_EXCEPTION);
+        }
+        return payload;
+    }
+
+    private static long checksumOf(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    private static LineFareTable readLineFareTable(ByteBuffer payload) {
+        int lineCount = payload.getInt();
+        Map<Long, Integer> extraFares = new HashMap<>();
+        for (int i = 0; i < lineCount; i++) {
+            extraFares.put(payload.getLong(), payload.getInt());
+        }
+        return LineFareTable.of(extraFares);
+    }
+
+    private static Timetable readTimetable(ByteBuffer payload) {
+        int lineCount = payload.getInt();
+        List<LineTimetable> lineTimetables = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            lineTimetables.add(new LineTimetable(payload.getLong(),
+                    LocalTime.ofSecondOfDay(payload.getInt()),
+                    LocalTime.ofSecondOfDay(payload.getInt()),
+                    payload.getInt(),
+                    payload.getInt()));
+        }
+        return Timetable.of(lineTimetables);
+    }
+}
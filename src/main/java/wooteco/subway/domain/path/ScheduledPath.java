@@ -0,0 +1,43 @@
+package wooteco.subway.domain.path;
+
+import java.time.LocalTime;
+
+public class ScheduledPath {
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final Path path;
+    private final int departureSecond;
+    private final int arrivalSecond;
+
+    ScheduledPath(Path path, int departureSecond, int arrivalSecond) {
+        this.path = path;
+        this.departureSecond = departureSecond;
+        this.arrivalSecond = arrivalSecond;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public LocalTime getDepartureTime() {
+        return toLocalTime(departureSecond);
+    }
+
+    // 자정을 넘겨 도착하는 경우 다음 날의 시각으로 표현한다.
+    public LocalTime getArrivalTime() {
+        return toLocalTime(arrivalSecond);
+    }
+
+    private static LocalTime toLocalTime(int secondOfDay) {
+        return LocalTime.ofSecondOfDay(secondOfDay % SECONDS_PER_DAY);
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledPath{" +
+                "departureTime=" + getDepartureTime() +
+                ", arrivalTime=" + getArrivalTime() +
+                '}';
+    }
+}
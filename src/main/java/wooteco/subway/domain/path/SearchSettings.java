@@ -0,0 +1,63 @@
+package wooteco.subway.domain.path;
+
+public class SearchSettings {
+
+    public static final long DEFAULT_DISTANCE_TABLE_MAX_BYTES = 64L * 1024 * 1024;
+    public static final int DEFAULT_TRANSFER_PENALTY = 10000;
+
+    private static final String NEGATIVE_TRANSFER_PENALTY_EXCEPTION = "환승 가중치는 0 이상이어야 합니다.";
+
+    private final SearchStrategy strategy;
+    private final long distanceTableMaxBytes;
+    private final int transferPenalty;
+
+    public SearchSettings(SearchStrategy strategy, long distanceTableMaxBytes, int transferPenalty) {
+        validateTransferPenalty(transferPenalty);
+        this.strategy = strategy;
+        this.distanceTableMaxBytes = distanceTableMaxBytes;
+        this.transferPenalty = transferPenalty;
+    }
+
+    public SearchSettings(SearchStrategy strategy, long distanceTableMaxBytes) {
+        this(strategy, distanceTableMaxBytes, DEFAULT_TRANSFER_PENALTY);
+    }
+
+    public static SearchSettings of(SearchStrategy strategy) {
+        return new SearchSettings(strategy, DEFAULT_DISTANCE_TABLE_MAX_BYTES);
+    }
+
+    private void validateTransferPenalty(int transferPenalty) {
+        if (transferPenalty < 0) {
+            throw new IllegalArgumentException(NEGATIVE_TRANSFER_PENALTY_EXCEPTION);
+        }
+    }
+
+    PathFinder createPathFinder(SectionGraph graph) {
+        return strategy.createPathFinder(graph, this);
+    }
+
+    boolean requiresPreprocessing() {
+        return strategy.requiresPreprocessing();
+    }
+
+    public SearchStrategy getStrategy() {
+        return strategy;
+    }
+
+    public long getDistanceTableMaxBytes() {
+        return distanceTableMaxBytes;
+    }
+
+    public int getTransferPenalty() {
+        return transferPenalty;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchSettings{" +
+                "strategy=" + strategy +
+                ", distanceTableMaxBytes=" + distanceTableMaxBytes +
+                ", transferPenalty=" + transferPenalty +
+                '}';
+    }
+}
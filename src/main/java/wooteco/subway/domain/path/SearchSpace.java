@@ -0,0 +1,114 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+class SearchSpace {
+
+    static final int INFINITE_DISTANCE = Integer.MAX_VALUE;
+    static final int NO_ARC = -1;
+
+    private final IndexedMinHeap queue;
+    private final int[] distances;
+    private final int[] parentArcs;
+    private final int[] reachedMarks;
+    private final int[] settledMarks;
+    private int[] labels;
+    private int mark = 0;
+
+    SearchSpace(int stationCount) {
+        this.queue = new IndexedMinHeap(stationCount);
+        this.distances = new int[stationCount];
+        this.parentArcs = new int[stationCount];
+        this.reachedMarks = new int[stationCount];
+        this.settledMarks = new int[stationCount];
+    }
+
+    void reset() {
+        queue.clear();
+        if (mark == Integer.MAX_VALUE) {
+            Arrays.fill(reachedMarks, 0);
+            Arrays.fill(settledMarks, 0);
+            mark = 0;
+        }
+        mark++;
+    }
+
+    void start(int vertex) {
+        relax(vertex, 0, NO_ARC);
+    }
+
+    boolean relax(int vertex, int distance, int parentArc) {
+        return relax(vertex, distance, parentArc, distance);
+    }
+
+    boolean relax(int vertex, int distance, int parentArc, int priority) {
+        if (reachedMarks[vertex] == mark && distances[vertex] <= distance) {
+            return false;
+        }
+        reachedMarks[vertex] = mark;
+        distances[vertex] = distance;
+        parentArcs[vertex] = parentArc;
+        queue.upsert(vertex, priority);
+        return true;
+    }
+
+    boolean hasNext() {
+        return !queue.isEmpty();
+    }
+
+    int peekDistance() {
+        return queue.peekKey();
+    }
+
+    void exhaust(SectionGraph graph) {
+        exhaust(graph, ClosureOverlay.NONE);
+    }
+
+    void exhaust(SectionGraph graph, ClosureOverlay closures) {
+        while (hasNext()) {
+            DijkstraPathFinder.relaxOutgoingArcs(graph, this, settleNext(), closures);
+        }
+    }
+
+    int settleNext() {
+        int vertex = queue.poll();
+        settledMarks[vertex] = mark;
+        return vertex;
+    }
+
+    // 탐색에서 제외할 역은 이미 확정된 역으로 표시하여, 간선 완화 대상에서 빠지게 한다.
+    void block(int vertex) {
+        settledMarks[vertex] = mark;
+    }
+
+    boolean isReached(int vertex) {
+        return reachedMarks[vertex] == mark;
+    }
+
+    boolean isSettled(int vertex) {
+        return settledMarks[vertex] == mark;
+    }
+
+    int distanceOf(int vertex) {
+        if (!isReached(vertex)) {
+            return INFINITE_DISTANCE;
+        }
+        return distances[vertex];
+    }
+
+    int parentArcOf(int vertex) {
+        return parentArcs[vertex];
+    }
+
+    // 경로를 따라 누적되는 부가 정보로, 사용하는 탐색에서만 배열을 할당한다.
+    void label(int vertex, int value) {
+        if (labels == null) {
+            labels = new int[distances.length];
+        }
+        labels[vertex] = value;
+    }
+
+    int labelOf(int vertex) {
+        return labels[vertex];
+    }
+}
@@ -0,0 +1,27 @@
+package wooteco.subway.domain.path;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+class SearchSpacePool {
+
+    private final int stationCount;
+    private final Queue<SearchSpace> idleSpaces = new ConcurrentLinkedQueue<>();
+
+    SearchSpacePool(int stationCount) {
+        this.stationCount = stationCount;
+    }
+
+    SearchSpace borrow() {
+        SearchSpace space = idleSpaces.poll();
+        if (space == null) {
+            space = new SearchSpace(stationCount);
+        }
+        space.reset();
+        return space;
+    }
+
+    void giveBack(SearchSpace space) {
+        idleSpaces.offer(space);
+    }
+}
@@ -0,0 +1,31 @@
+package wooteco.subway.domain.path;
+
+import java.util.function.BiFunction;
+
+public enum SearchStrategy {
+
+    DIJKSTRA(false, (graph, settings) -> new DijkstraPathFinder(graph)),
+    BIDIRECTIONAL_DIJKSTRA(false, (graph, settings) -> new BidirectionalDijkstraPathFinder(graph)),
+    ALT(true, (graph, settings) -> new AltPathFinder(graph)),
+    CONTRACTION_HIERARCHIES(true, (graph, settings) -> new ContractionHierarchyPathFinder(graph)),
+    DISTANCE_TABLE(true,
+            (graph, settings) -> DistanceTablePathFinder.withinBudget(graph, settings.getDistanceTableMaxBytes())),
+    ;
+
+    private final boolean preprocessing;
+    private final BiFunction<SectionGraph, SearchSettings, PathFinder> pathFinderFactory;
+
+    SearchStrategy(boolean preprocessing, BiFunction<SectionGraph, SearchSettings, PathFinder> pathFinderFactory) {
+        this.preprocessing = preprocessing;
+        this.pathFinderFactory = pathFinderFactory;
+    }
+
+    // 그래프 전체에 대한 선행 계산이 필요한 탐색 방식은 탐색기를 만드는 비용이 그래프 크기에 비례한다.
+    boolean requiresPreprocessing() {
+        return preprocessing;
+    }
+
+    PathFinder createPathFinder(SectionGraph graph, SearchSettings settings) {
+        return pathFinderFactory.apply(graph, settings);
+    }
+}
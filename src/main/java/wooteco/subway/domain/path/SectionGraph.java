@@ -0,0 +1,498 @@
+package wooteco.subway.domain.path;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+class SectionGraph {
+
+    static final int NOT_FOUND = -1;
+    private static final long NO_LINE = -1L;
+
+    private final long[] sortedIds;
+    private final int[] sortedVertices;
+    private final Station[] stations;
+    private final Section[] sections;
+    private final int[] offsets;
+    private final int[] tails;
+    private final int[] heads;
+    private final int[] weights;
+    private final int[] arcSections;
+
+    private SectionGraph(long[] sortedIds, int[] sortedVertices, Station[] stations, Section[] sections,
+                         int[] offsets, int[] tails, int[] heads, int[] weights, int[] arcSections) {
+        this.sortedIds = sortedIds;
+        this.sortedVertices = sortedVertices;
+        this.stations = stations;
+        this.sections = sections;
+        this.offsets = offsets;
+        this.tails = tails;
+        this.heads = heads;
+        this.weights = weights;
+        this.arcSections = arcSections;
+    }
+
+    static SectionGraph of(List<Section> sectionList) {
+        Section[] sections = sectionList.toArray(new Section[0]);
+        long[] stationIds = toSortedStationIds(sections);
+        Station[] stations = new Station[stationIds.length];
+        int[] upIndexes = new int[sections.length];
+        int[] downIndexes = new int[sections.length];
+        int[] degrees = new int[stationIds.length];
+        for (int i = 0; i < sections.length; i++) {
+            upIndexes[i] = Arrays.binarySearch(stationIds, sections[i].getUpStationId());
+            downIndexes[i] = Arrays.binarySearch(stationIds, sections[i].getDownStationId());
+            stations[upIndexes[i]] = sections[i].getUpStation();
+            stations[downIndexes[i]] = sections[i].getDownStation();
+            degrees[upIndexes[i]]++;
+            degrees[downIndexes[i]]++;
+        }
+        return toCompressedGraph(stationIds, stations, sections, upIndexes, downIndexes, degrees);
+    }
+
+    private static long[] toSortedStationIds(Section[] sections) {
+        long[] ids = new long[sections.length * 2];
+        for (int i = 0; i < sections.length; i++) {
+            ids[i * 2] = sections[i].getUpStationId();
+            ids[i * 2 + 1] = sections[i].getDownStationId();
+        }
+        return Arrays.stream(ids)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private static SectionGraph toCompressedGraph(long[] stationIds, Station[] stations, Section[] sections,
+                                                  int[] upIndexes, int[] downIndexes, int[] degrees) {
+        int[] offsets = new int[stationIds.length + 1];
+        for (int vertex = 0; vertex < stationIds.length; vertex++) {
+            offsets[vertex + 1] = offsets[vertex] + degrees[vertex];
+        }
+        int arcCount = offsets[stationIds.length];
+        int[] tails = new int[arcCount];
+        int[] heads = new int[arcCount];
+        int[] weights = new int[arcCount];
+        int[] arcSections = new int[arcCount];
+        int[] cursors = Arrays.copyOf(offsets, stationIds.length);
+        for (int i = 0; i < sections.length; i++) {
+            int distance = sections[i].getDistance();
+            int forward = cursors[upIndexes[i]]++;
+            int backward = cursors[downIndexes[i]]++;
+            fillArc(forward, upIndexes[i], downIndexes[i], distance, i, tails, heads, weights, arcSections);
+            fillArc(backward, downIndexes[i], upIndexes[i], distance, i, tails, heads, weights, arcSections);
+        }
+        int[] sortedVertices = IntStream.range(0, stationIds.length).toArray();
+        return new SectionGraph(stationIds, sortedVertices, stations, sections,
+                offsets, tails, heads, weights, arcSections);
+    }
+
+    private static void fillArc(int arc, int tail, int head, int weight, int section,
+                                int[] tails, int[] heads, int[] weights, int[] arcSections) {
+        tails[arc] = tail;
+        heads[arc] = head;
+        weights[arc] = weight;
+        arcSections[arc] = section;
+    }
+
+    // 기존 역의 인덱스는 바뀌지 않으므로, 변경된 구간에 닿지 않은 역들의 간선은 구간 단위로 그대로 복사된다.
+    // 새로운 역은 뒤에 이어 붙이고, 모든 구간이 삭제된 역은 간선이 없는 채로 남겨 indexOf에서 제외한다.
+    // 삭제할 구간이 그래프에 없거나 추가할 구간이 이미 있다면 스냅샷이 데이터베이스와 어긋난 것이므로 빈 값을 반환한다.
+    Optional<SectionGraph> patch(List<Section> removedSections, List<Section> addedSections) {
+        int[] removedIndexes = new int[removedSections.size()];
+        for (int i = 0; i < removedIndexes.length; i++) {
+            removedIndexes[i] = findSectionIndex(removedSections.get(i), removedIndexes, i);
+            if (removedIndexes[i] == NOT_FOUND) {
+                return Optional.empty();
+            }
+        }
+        if (containsAny(addedSections, removedIndexes)) {
+            return Optional.empty();
+        }
+        return Optional.of(new Patch(removedIndexes, addedSections).apply());
+    }
+
+    private boolean containsAny(List<Section> addedSections, int[] removedIndexes) {
+        return addedSections.stream()
+                .anyMatch(section -> findSectionIndex(section, removedIndexes, removedIndexes.length) != NOT_FOUND);
+    }
+
+    private int findSectionIndex(Section section, int[] foundIndexes, int foundCount) {
+        int vertex = findVertex(section.getUpStationId());
+        if (vertex == NOT_FOUND) {
+            return NOT_FOUND;
+        }
+        for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+            int candidate = arcSections[arc];
+            if (sections[candidate].equals(section) && !contains(foundIndexes, foundCount, candidate)) {
+                return candidate;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int findVertex(long stationId) {
+        int index = Arrays.binarySearch(sortedIds, stationId);
+        if (index < 0) {
+            return NOT_FOUND;
+        }
+        return sortedVertices[index];
+    }
+
+    int indexOf(Station station) {
+        Long id = station.getId();
+        if (id == null) {
+            return NOT_FOUND;
+        }
+        int vertex = findVertex(id);
+        if (vertex == NOT_FOUND || !stations[vertex].equals(station) || offsets[vertex] == offsets[vertex + 1]) {
+            return NOT_FOUND;
+        }
+        return vertex;
+    }
+
+    // 장애 등 역 id만 알고 있는 경우에 사용하며, indexOf와 마찬가지로 구간이 남아 있지 않은 역은 제외한다.
+    int indexOfStationId(long stationId) {
+        int vertex = findVertex(stationId);
+        if (vertex == NOT_FOUND || offsets[vertex] == offsets[vertex + 1]) {
+            return NOT_FOUND;
+        }
+        return vertex;
+    }
+
+    int getStationCount() {
+        return stations.length;
+    }
+
+    int getArcCount() {
+        return heads.length;
+    }
+
+    int firstArc(int vertex) {
+        return offsets[vertex];
+    }
+
+    int endArc(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    int tailOf(int arc) {
+        return tails[arc];
+    }
+
+    int headOf(int arc) {
+        return heads[arc];
+    }
+
+    int weightOf(int arc) {
+        return weights[arc];
+    }
+
+    Station getStation(int vertex) {
+        return stations[vertex];
+    }
+
+    Section getSectionOf(int arc) {
+        return sections[arcSections[arc]];
+    }
+
+    int sectionIndexOf(int arc) {
+        return arcSections[arc];
+    }
+
+    // 압축된 배열을 그대로 기록하므로, 읽을 때에는 정렬이나 간선 배치 없이 배열을 복사하기만 하면 된다.
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(stations.length);
+        out.writeInt(sections.length);
+        out.writeInt(heads.length);
+        for (long id : sortedIds) {
+            out.writeLong(id);
+        }
+        writeInts(out, sortedVertices);
+        for (Station station : stations) {
+            byte[] name = station.getName().getBytes(StandardCharsets.UTF_8);
+            out.writeLong(station.getId());
+            out.writeInt(name.length);
+            out.write(name);
+        }
+        for (Section section : sections) {
+            writeSection(out, section);
+        }
+        writeInts(out, offsets);
+        writeInts(out, tails);
+        writeInts(out, heads);
+        writeInts(out, weights);
+        writeInts(out, arcSections);
+    }
+
+    private void writeSection(DataOutputStream out, Section section) throws IOException {
+        if (section == null) {
+            out.writeLong(NO_LINE);
+            out.writeInt(NOT_FOUND);
+            out.writeInt(NOT_FOUND);
+            out.writeInt(0);
+            return;
+        }
+        Long lineId = section.getLineId();
+        out.writeLong(lineId == null ? NO_LINE : lineId);
+        out.writeInt(findVertex(section.getUpStationId()));
+        out.writeInt(findVertex(section.getDownStationId()));
+        out.writeInt(section.getDistance());
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    static SectionGraph readFrom(ByteBuffer buffer) {
+        int stationCount = buffer.getInt();
+        int sectionCount = buffer.getInt();
+        int arcCount = buffer.getInt();
+        long[] sortedIds = new long[stationCount];
+        buffer.asLongBuffer().get(sortedIds);
+        buffer.position(buffer.position() + stationCount * Long.BYTES);
+        int[] sortedVertices = readInts(buffer, stationCount);
+        Station[] stations = new Station[stationCount];
+        for (int vertex = 0; vertex < stationCount; vertex++) {
+            long id = buffer.getLong();
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            stations[vertex] = new Station(id, new String(name, StandardCharsets.UTF_8));
+        }
+        Section[] sections = new Section[sectionCount];
+        for (int i = 0; i < sectionCount; i++) {
+            sections[i] = readSection(buffer, stations);
+        }
+        int[] offsets = readInts(buffer, stationCount + 1);
+        return new SectionGraph(sortedIds, sortedVertices, stations, sections, offsets,
+                readInts(buffer, arcCount), readInts(buffer, arcCount), readInts(buffer, arcCount),
+                readInts(buffer, arcCount));
+    }
+
+    private static Section readSection(ByteBuffer buffer, Station[] stations) {
+        long lineId = buffer.getLong();
+        int up = buffer.getInt();
+        int down = buffer.getInt();
+        int distance = buffer.getInt();
+        if (up == NOT_FOUND) {
+            return null;
+        }
+        return new Section(lineId == NO_LINE ? null : lineId, stations[up], stations[down], distance);
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int length) {
+        int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return values;
+    }
+
+    private class Patch {
+
+        private final int[] removedIndexes;
+        private final List<Section> addedSections;
+        private final Map<Long, Integer> addedVertices = new LinkedHashMap<>();
+        private final List<Station> addedStations = new ArrayList<>();
+        private final int[] addedUpVertices;
+        private final int[] addedDownVertices;
+        private final int[] addedSectionIndexes;
+        private final TreeMap<Integer, Integer> degreeChanges = new TreeMap<>();
+
+        Patch(int[] removedIndexes, List<Section> addedSections) {
+            this.removedIndexes = removedIndexes;
+            this.addedSections = addedSections;
+            this.addedUpVertices = new int[addedSections.size()];
+            this.addedDownVertices = new int[addedSections.size()];
+            this.addedSectionIndexes = new int[addedSections.size()];
+        }
+
+        SectionGraph apply() {
+            for (int i = 0; i < addedSections.size(); i++) {
+                addedUpVertices[i] = vertexOf(addedSections.get(i).getUpStation());
+                addedDownVertices[i] = vertexOf(addedSections.get(i).getDownStation());
+                changeDegree(addedUpVertices[i], 1);
+                changeDegree(addedDownVertices[i], 1);
+            }
+            for (int removedIndex : removedIndexes) {
+                Section section = sections[removedIndex];
+                changeDegree(findVertex(section.getUpStationId()), -1);
+                changeDegree(findVertex(section.getDownStationId()), -1);
+            }
+            Section[] nextSections = replaceSections();
+            int[] nextOffsets = toNextOffsets();
+            return copyArcs(nextSections, nextOffsets);
+        }
+
+        private int vertexOf(Station station) {
+            int vertex = findVertex(station.getId());
+            if (vertex != NOT_FOUND) {
+                return vertex;
+            }
+            return addedVertices.computeIfAbsent(station.getId(), id -> {
+                addedStations.add(station);
+                return stations.length + addedStations.size() - 1;
+            });
+        }
+
+        private void changeDegree(int vertex, int change) {
+            degreeChanges.merge(vertex, change, Integer::sum);
+        }
+
+        // 삭제된 구간의 자리에 추가된 구간을 채워 넣어, 나머지 간선들이 가리키는 구간의 인덱스가 바뀌지 않게 한다.
+        private Section[] replaceSections() {
+            int extraCount = Math.max(0, addedSections.size() - removedIndexes.length);
+            Section[] nextSections = Arrays.copyOf(sections, sections.length + extraCount);
+            for (int removedIndex : removedIndexes) {
+                nextSections[removedIndex] = null;
+            }
+            for (int i = 0; i < addedSections.size(); i++) {
+                addedSectionIndexes[i] = sections.length + i - removedIndexes.length;
+                if (i < removedIndexes.length) {
+                    addedSectionIndexes[i] = removedIndexes[i];
+                }
+                nextSections[addedSectionIndexes[i]] = addedSections.get(i);
+            }
+            return nextSections;
+        }
+
+        private int[] toNextOffsets() {
+            int stationCount = stations.length + addedStations.size();
+            int[] nextOffsets = new int[stationCount + 1];
+            int shift = 0;
+            int vertex = 0;
+            for (Map.Entry<Integer, Integer> degreeChange : degreeChanges.entrySet()) {
+                for (; vertex <= degreeChange.getKey(); vertex++) {
+                    nextOffsets[vertex] = offsetOf(vertex) + shift;
+                }
+                shift += degreeChange.getValue();
+            }
+            for (; vertex <= stationCount; vertex++) {
+                nextOffsets[vertex] = offsetOf(vertex) + shift;
+            }
+            return nextOffsets;
+        }
+
+        private int offsetOf(int vertex) {
+            return offsets[Math.min(vertex, stations.length)];
+        }
+
+        private SectionGraph copyArcs(Section[] nextSections, int[] nextOffsets) {
+            int arcCount = nextOffsets[nextOffsets.length - 1];
+            int[] nextTails = new int[arcCount];
+            int[] nextHeads = new int[arcCount];
+            int[] nextWeights = new int[arcCount];
+            int[] nextArcSections = new int[arcCount];
+            Map<Integer, Integer> cursors = new HashMap<>();
+            int untouched = 0;
+            for (int vertex : degreeChanges.keySet()) {
+                if (vertex >= stations.length) {
+                    cursors.put(vertex, nextOffsets[vertex]);
+                    continue;
+                }
+                copyBlock(untouched, vertex, nextOffsets, nextTails, nextHeads, nextWeights, nextArcSections);
+                int cursor = nextOffsets[vertex];
+                for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                    if (!contains(removedIndexes, removedIndexes.length, arcSections[arc])) {
+                        fillArc(cursor++, vertex, heads[arc], weights[arc], arcSections[arc],
+                                nextTails, nextHeads, nextWeights, nextArcSections);
+                    }
+                }
+                cursors.put(vertex, cursor);
+                untouched = vertex + 1;
+            }
+            copyBlock(untouched, stations.length, nextOffsets, nextTails, nextHeads, nextWeights, nextArcSections);
+            for (int i = 0; i < addedSections.size(); i++) {
+                int up = addedUpVertices[i];
+                int down = addedDownVertices[i];
+                int distance = addedSections.get(i).getDistance();
+                fillArc(cursors.merge(up, 1, Integer::sum) - 1, up, down, distance, addedSectionIndexes[i],
+                        nextTails, nextHeads, nextWeights, nextArcSections);
+                fillArc(cursors.merge(down, 1, Integer::sum) - 1, down, up, distance, addedSectionIndexes[i],
+                        nextTails, nextHeads, nextWeights, nextArcSections);
+            }
+            return new SectionGraph(nextSortedIds(), nextSortedVertices(), nextStations(), nextSections,
+                    nextOffsets, nextTails, nextHeads, nextWeights, nextArcSections);
+        }
+
+        private void copyBlock(int fromVertex, int toVertex, int[] nextOffsets,
+                               int[] nextTails, int[] nextHeads, int[] nextWeights, int[] nextArcSections) {
+            int from = offsets[fromVertex];
+            int to = nextOffsets[fromVertex];
+            int length = offsets[toVertex] - from;
+            System.arraycopy(tails, from, nextTails, to, length);
+            System.arraycopy(heads, from, nextHeads, to, length);
+            System.arraycopy(weights, from, nextWeights, to, length);
+            System.arraycopy(arcSections, from, nextArcSections, to, length);
+        }
+
+        private Station[] nextStations() {
+            if (addedStations.isEmpty()) {
+                return stations;
+            }
+            Station[] nextStations = Arrays.copyOf(stations, stations.length + addedStations.size());
+            for (int i = 0; i < addedStations.size(); i++) {
+                nextStations[stations.length + i] = addedStations.get(i);
+            }
+            return nextStations;
+        }
+
+        private long[] nextSortedIds() {
+            if (addedVertices.isEmpty()) {
+                return sortedIds;
+            }
+            long[] nextSortedIds = Arrays.copyOf(sortedIds, sortedIds.length + addedVertices.size());
+            int index = sortedIds.length;
+            for (long id : addedVertices.keySet()) {
+                nextSortedIds[index++] = id;
+            }
+            Arrays.sort(nextSortedIds);
+            return nextSortedIds;
+        }
+
+        // 새로운 역의 id를 정렬된 위치에 끼워 넣으며, 기존 역들의 상대적인 순서는 그대로 유지된다.
+        private int[] nextSortedVertices() {
+            if (addedVertices.isEmpty()) {
+                return sortedVertices;
+            }
+            long[] addedIds = addedVertices.keySet()
+                    .stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+            int[] nextSortedVertices = new int[sortedVertices.length + addedIds.length];
+            int oldIndex = 0;
+            int addedIndex = 0;
+            for (int i = 0; i < nextSortedVertices.length; i++) {
+                if (addedIndex == addedIds.length
+                        || (oldIndex < sortedIds.length && sortedIds[oldIndex] < addedIds[addedIndex])) {
+                    nextSortedVertices[i] = sortedVertices[oldIndex++];
+                } else {
+                    nextSortedVertices[i] = addedVertices.get(addedIds[addedIndex++]);
+                }
+            }
+            return nextSortedVertices;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package wooteco.subway.domain.path;
+
+import java.util.function.Consumer;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+
+public class ShortestPathTree {
+
+    private static final int NO_EXTRA_FARE = 0;
+
+    private final SectionGraph graph;
+    private final SearchSpacePool searchSpaces;
+    private final PricedTreeSearch treeSearch;
+    private final int source;
+    private final AgeDiscountPolicy ageDiscountPolicy;
+
+    ShortestPathTree(SectionGraph graph,
+                     SearchSpacePool searchSpaces,
+                     PricedTreeSearch treeSearch,
+                     int source,
+                     AgeDiscountPolicy ageDiscountPolicy) {
+        this.graph = graph;
+        this.searchSpaces = searchSpaces;
+        this.treeSearch = treeSearch;
+        this.source = source;
+        this.ageDiscountPolicy = ageDiscountPolicy;
+    }
+
+    // 출발역을 제외한 도달 가능한 모든 역을 가까운 순서대로 전달하며, 탐색이 끝날 때까지 결과를 모아두지 않는다.
+    public void forEach(Consumer<ReachableStation> action) {
+        forEachWithin(ReachabilityBudget.UNLIMITED, action);
+    }
+
+    // 거리와 노선 추가비용은 경로를 따라 줄어들지 않으므로, 추가비용이 없다고 가정한 요금조차 예산을 넘으면
+    // 이후에 확정될 역들도 모두 예산을 넘는다. 이 시점에 탐색을 멈춘다.
+    public void forEachWithin(ReachabilityBudget budget, Consumer<ReachableStation> action) {
+        SearchSpace space = searchSpaces.borrow();
+        try {
+            treeSearch.search(space, source, (vertex, distance, extraFare) -> {
+                if (!budget.allowsDistance(distance) || !budget.allowsFare(calculateFare(distance, NO_EXTRA_FARE))) {
+                    return false;
+                }
+                int fare = calculateFare(distance, extraFare);
+                if (vertex != source && budget.allowsFare(fare)) {
+                    action.accept(new ReachableStation(graph.getStation(vertex), distance, fare));
+                }
+                return true;
+            });
+        } finally {
+            searchSpaces.giveBack(space);
+        }
+    }
+
+    private int calculateFare(int distance, int extraFare) {
+        return PricedTreeSearch.calculateFare(distance, extraFare, ageDiscountPolicy);
+    }
+}
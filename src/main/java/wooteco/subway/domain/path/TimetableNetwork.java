@@ -0,0 +1,252 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import wooteco.subway.domain.line.LineTimetable;
+import wooteco.subway.domain.line.Timetable;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.section.Sections;
+import wooteco.subway.domain.station.Station;
+
+// 시간표가 등록된 노선마다 상행, 하행 두 방향의 운행 계통을 두고, 계통의 정차역들을 하나의 배열에 이어서 저장한다.
+// 열차는 배차 간격마다 같은 정차 시간으로 운행하므로, 열차별 시각 대신 계통별 첫차 시각과 정차역별 소요 시간만 저장한다.
+class TimetableNetwork {
+
+    static final int NO_TRIP = -1;
+
+    private final Timetable timetable;
+    private final int stationCount;
+    private final int[] routeOffsets;
+    private final int[] firstDepartures;
+    private final int[] headways;
+    private final int[] tripCounts;
+    private final int[] stopStations;
+    private final int[] stopRoutes;
+    private final int[] stopTimes;
+    private final Section[] stopSections;
+    private final int[] stopArcs;
+    private final int[] stationOffsets;
+    private final int[] stationStops;
+    private final Queue<RaptorSearchSpace> idleSpaces = new ConcurrentLinkedQueue<>();
+
+    private TimetableNetwork(Timetable timetable, int stationCount, int[] routeOffsets, int[] firstDepartures,
+                             int[] headways, int[] tripCounts, int[] stopStations, int[] stopRoutes,
+                             int[] stopTimes, Section[] stopSections, int[] stopArcs, int[] stationOffsets,
+                             int[] stationStops) {
+        this.timetable = timetable;
+        this.stationCount = stationCount;
+        this.routeOffsets = routeOffsets;
+        this.firstDepartures = firstDepartures;
+        this.headways = headways;
+        this.tripCounts = tripCounts;
+        this.stopStations = stopStations;
+        this.stopRoutes = stopRoutes;
+        this.stopTimes = stopTimes;
+        this.stopSections = stopSections;
+        this.stopArcs = stopArcs;
+        this.stationOffsets = stationOffsets;
+        this.stationStops = stationStops;
+    }
+
+    static TimetableNetwork of(SectionGraph graph, Timetable timetable) {
+        return new Builder(graph, timetable).build();
+    }
+
+    boolean isScheduledBy(Timetable timetable) {
+        return this.timetable == timetable;
+    }
+
+    int getStationCount() {
+        return stationCount;
+    }
+
+    int getRouteCount() {
+        return routeOffsets.length - 1;
+    }
+
+    int endStopOf(int route) {
+        return routeOffsets[route + 1];
+    }
+
+    int routeOf(int stop) {
+        return stopRoutes[stop];
+    }
+
+    int stationOf(int stop) {
+        return stopStations[stop];
+    }
+
+    int timeOf(int stop) {
+        return stopTimes[stop];
+    }
+
+    // 정차역 stop에서 다음 정차역으로 가는 구간
+    Section sectionOf(int stop) {
+        return stopSections[stop];
+    }
+
+    // 정차역 stop에서 다음 정차역으로 가는 그래프의 간선
+    int arcOf(int stop) {
+        return stopArcs[stop];
+    }
+
+    int firstStopOf(int station) {
+        return stationOffsets[station];
+    }
+
+    int endStopOfStation(int station) {
+        return stationOffsets[station + 1];
+    }
+
+    int stationStopOf(int index) {
+        return stationStops[index];
+    }
+
+    // 주어진 시각 이후 정차역 stop을 지나는 첫 열차의 출발 시각(계통의 첫 정차역 기준)을 반환한다.
+    int findTripStart(int stop, int time) {
+        int route = stopRoutes[stop];
+        int departure = time - stopTimes[stop] - firstDepartures[route];
+        int trip = 0;
+        if (departure > 0) {
+            trip = (departure + headways[route] - 1) / headways[route];
+        }
+        if (trip >= tripCounts[route]) {
+            return NO_TRIP;
+        }
+        return firstDepartures[route] + trip * headways[route];
+    }
+
+    RaptorSearchSpace borrowSearchSpace() {
+        RaptorSearchSpace space = idleSpaces.poll();
+        if (space == null) {
+            space = new RaptorSearchSpace(stationCount, getRouteCount());
+        }
+        return space;
+    }
+
+    void giveBack(RaptorSearchSpace space) {
+        idleSpaces.offer(space);
+    }
+
+    private static class Builder {
+
+        private final SectionGraph graph;
+        private final Timetable timetable;
+        private final List<Integer> routeOffsets = new ArrayList<>(List.of(0));
+        private final List<Integer> firstDepartures = new ArrayList<>();
+        private final List<Integer> headways = new ArrayList<>();
+        private final List<Integer> tripCounts = new ArrayList<>();
+        private final List<Integer> stopStations = new ArrayList<>();
+        private final List<Integer> stopRoutes = new ArrayList<>();
+        private final List<Integer> stopTimes = new ArrayList<>();
+        private final List<Section> stopSections = new ArrayList<>();
+        private final List<Integer> stopArcs = new ArrayList<>();
+
+        Builder(SectionGraph graph, Timetable timetable) {
+            this.graph = graph;
+            this.timetable = timetable;
+        }
+
+        TimetableNetwork build() {
+            for (Map.Entry<Long, List<Section>> line : groupSectionsByLine().entrySet()) {
+                Optional<LineTimetable> lineTimetable = timetable.findLineTimetable(line.getKey());
+                if (lineTimetable.isPresent()) {
+                    Sections sections = new Sections(line.getValue());
+                    List<Station> stations = sections.toSortedStations();
+                    List<Section> sortedSections = sections.toSortedList();
+                    addRoute(lineTimetable.get(), stations.get(0), sortedSections);
+                    addRoute(lineTimetable.get(), stations.get(stations.size() - 1), reversed(sortedSections));
+                }
+            }
+            int[] stations = toArray(stopStations);
+            int[] stationOffsets = new int[graph.getStationCount() + 1];
+            int[] stationStops = groupStopsByStation(stations, stationOffsets);
+            return new TimetableNetwork(timetable, graph.getStationCount(), toArray(routeOffsets),
+                    toArray(firstDepartures), toArray(headways), toArray(tripCounts), stations,
+                    toArray(stopRoutes), toArray(stopTimes), stopSections.toArray(new Section[0]),
+                    toArray(stopArcs), stationOffsets, stationStops);
+        }
+
+        // 각 구간은 상행역에서 나가는 간선으로 한 번씩만 센다.
+        // 노선이 지정되지 않은 구간은 시간표도 없으므로 열차가 다니지 않는다.
+        private Map<Long, List<Section>> groupSectionsByLine() {
+            Map<Long, List<Section>> sectionsByLine = new TreeMap<>();
+            for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+                for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+                    Section section = graph.getSectionOf(arc);
+                    if (section.getLineId() != null && section.hasUpStationOf(graph.getStation(vertex))) {
+                        sectionsByLine.computeIfAbsent(section.getLineId(), lineId -> new ArrayList<>())
+                                .add(section);
+                    }
+                }
+            }
+            return sectionsByLine;
+        }
+
+        private List<Section> reversed(List<Section> sections) {
+            List<Section> reversed = new ArrayList<>(sections);
+            Collections.reverse(reversed);
+            return reversed;
+        }
+
+        private void addRoute(LineTimetable lineTimetable, Station startStation, List<Section> sections) {
+            int route = firstDepartures.size();
+            int station = graph.indexOf(startStation);
+            int time = 0;
+            for (Section section : sections) {
+                addStop(route, station, time, section, findArc(station, section));
+                station = graph.indexOf(section.getOppositeEnd(graph.getStation(station)));
+                time += lineTimetable.calculateRunningSeconds(section.getDistance());
+            }
+            addStop(route, station, time, null, SearchSpace.NO_ARC);
+            routeOffsets.add(stopStations.size());
+            firstDepartures.add(lineTimetable.getFirstDepartureSecond());
+            headways.add(lineTimetable.getHeadwaySeconds());
+            tripCounts.add(lineTimetable.getTripCount());
+        }
+
+        private void addStop(int route, int station, int time, Section section, int arc) {
+            stopStations.add(station);
+            stopRoutes.add(route);
+            stopTimes.add(time);
+            stopSections.add(section);
+            stopArcs.add(arc);
+        }
+
+        private int findArc(int station, Section section) {
+            for (int arc = graph.firstArc(station); arc < graph.endArc(station); arc++) {
+                if (graph.getSectionOf(arc) == section) {
+                    return arc;
+                }
+            }
+            return SearchSpace.NO_ARC;
+        }
+
+        private int[] groupStopsByStation(int[] stations, int[] stationOffsets) {
+            for (int station : stations) {
+                stationOffsets[station + 1]++;
+            }
+            for (int station = 0; station < stationOffsets.length - 1; station++) {
+                stationOffsets[station + 1] += stationOffsets[station];
+            }
+            int[] positions = stationOffsets.clone();
+            int[] stationStops = new int[stations.length];
+            for (int stop = 0; stop < stations.length; stop++) {
+                stationStops[positions[stations[stop]]++] = stop;
+            }
+            return stationStops;
+        }
+
+        private static int[] toArray(List<Integer> values) {
+            return values.stream()
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+}
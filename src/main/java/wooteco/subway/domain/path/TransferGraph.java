@@ -0,0 +1,269 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+// 역마다 하나의 역 상태와, 역을 지나는 노선마다 하나의 노선 상태를 두는 확장 그래프
+// 역 상태 -> 노선 상태(승차)는 0, 노선 상태 -> 역 상태(하차)는 환승 가중치이며, 구간은 같은 노선의 상태끼리만 잇는다.
+// 따라서 도착역의 노선 상태까지의 거리는 (구간 거리의 합 + 환승 횟수 * 환승 가중치)가 된다.
+class TransferGraph {
+
+    private static final long NO_LINE = -1L;
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int stationCount;
+    private final int[] stateStations;
+    private final int[] offsets;
+    private final int[] tails;
+    private final int[] heads;
+    private final int[] weights;
+    private final int[] sectionArcs;
+    private final int[] stateLineIndexes;
+    private final int[] lineOffsets;
+    private final int[] lineStates;
+
+    private TransferGraph(int stationCount, int[] stateStations, int[] offsets, int[] tails, int[] heads,
+                          int[] weights, int[] sectionArcs, int[] stateLineIndexes, int[] lineOffsets,
+                          int[] lineStates) {
+        this.stationCount = stationCount;
+        this.stateStations = stateStations;
+        this.offsets = offsets;
+        this.tails = tails;
+        this.heads = heads;
+        this.weights = weights;
+        this.sectionArcs = sectionArcs;
+        this.stateLineIndexes = stateLineIndexes;
+        this.lineOffsets = lineOffsets;
+        this.lineStates = lineStates;
+    }
+
+    static TransferGraph of(SectionGraph graph, int transferPenalty) {
+        return new Builder(graph, transferPenalty).build();
+    }
+
+    int getStateCount() {
+        return offsets.length - 1;
+    }
+
+    int stationStateOf(int vertex) {
+        return vertex;
+    }
+
+    int stationOf(int state) {
+        if (state < stationCount) {
+            return state;
+        }
+        return stateStations[state - stationCount];
+    }
+
+    int firstArc(int state) {
+        return offsets[state];
+    }
+
+    int endArc(int state) {
+        return offsets[state + 1];
+    }
+
+    int tailOf(int arc) {
+        return tails[arc];
+    }
+
+    int headOf(int arc) {
+        return heads[arc];
+    }
+
+    int weightOf(int arc) {
+        return weights[arc];
+    }
+
+    // 노선 상태에서 역 상태로 나가는 간선은 하차 간선뿐이다.
+    boolean isAlightingArc(int arc) {
+        return tails[arc] >= stationCount && heads[arc] < stationCount;
+    }
+
+    // 승차와 하차 간선은 구간에 해당하지 않으므로 NO_ARC를 반환한다.
+    int sectionArcOf(int arc) {
+        return sectionArcs[arc];
+    }
+
+    boolean isStationState(int state) {
+        return state < stationCount;
+    }
+
+    int lineIndexOf(int lineState) {
+        return stateLineIndexes[lineState - stationCount];
+    }
+
+    // 노선마다 도착역을 지나는 노선까지 갈아타야 하는 최소 횟수로, 노선 안에서의 위치는 고려하지 않으므로 하한이 된다.
+    int[] countLineChangesTo(int station) {
+        int[] lineChanges = new int[lineOffsets.length - 1];
+        Arrays.fill(lineChanges, UNREACHABLE);
+        int[] queue = new int[lineChanges.length];
+        int head = 0;
+        int tail = 0;
+        for (int arc = firstArc(station); arc < endArc(station); arc++) {
+            int line = lineIndexOf(heads[arc]);
+            if (lineChanges[line] == UNREACHABLE) {
+                lineChanges[line] = 0;
+                queue[tail++] = line;
+            }
+        }
+        while (head < tail) {
+            int line = queue[head++];
+            for (int i = lineOffsets[line]; i < lineOffsets[line + 1]; i++) {
+                int lineStation = stationOf(lineStates[i]);
+                for (int arc = firstArc(lineStation); arc < endArc(lineStation); arc++) {
+                    int next = lineIndexOf(heads[arc]);
+                    if (lineChanges[next] == UNREACHABLE) {
+                        lineChanges[next] = lineChanges[line] + 1;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+        return lineChanges;
+    }
+
+    private static class Builder {
+
+        private final SectionGraph graph;
+        private final int transferPenalty;
+        private final int stationCount;
+        private final int[] lineStateOffsets;
+        private final long[] stateLines;
+
+        Builder(SectionGraph graph, int transferPenalty) {
+            this.graph = graph;
+            this.transferPenalty = transferPenalty;
+            this.stationCount = graph.getStationCount();
+            this.lineStateOffsets = new int[stationCount + 1];
+            this.stateLines = new long[graph.getArcCount()];
+        }
+
+        TransferGraph build() {
+            int lineStateCount = collectLineStates();
+            int stateCount = stationCount + lineStateCount;
+            int[] offsets = new int[stateCount + 1];
+            int arcCount = lineStateCount * 2 + graph.getArcCount();
+            int[] tails = new int[arcCount];
+            int[] heads = new int[arcCount];
+            int[] weights = new int[arcCount];
+            int[] sectionArcs = new int[arcCount];
+            int[] stateStations = new int[lineStateCount];
+            int cursor = 0;
+            for (int vertex = 0; vertex < stationCount; vertex++) {
+                offsets[vertex] = cursor;
+                for (int state = lineStateOffsets[vertex]; state < lineStateOffsets[vertex + 1]; state++) {
+                    fillArc(cursor++, vertex, stationCount + state, 0, SearchSpace.NO_ARC,
+                            tails, heads, weights, sectionArcs);
+                }
+            }
+            for (int vertex = 0; vertex < stationCount; vertex++) {
+                for (int state = lineStateOffsets[vertex]; state < lineStateOffsets[vertex + 1]; state++) {
+                    int lineState = stationCount + state;
+                    stateStations[state] = vertex;
+                    offsets[lineState] = cursor;
+                    fillArc(cursor++, lineState, vertex, transferPenalty, SearchSpace.NO_ARC,
+                            tails, heads, weights, sectionArcs);
+                    cursor = fillRideArcs(cursor, vertex, lineState, stateLines[state],
+                            tails, heads, weights, sectionArcs);
+                }
+            }
+            offsets[stateCount] = cursor;
+            int[] stateLineIndexes = indexLines(lineStateCount);
+            int[] lineOffsets = new int[Arrays.stream(stateLineIndexes).max().orElse(-1) + 2];
+            int[] lineStates = groupStatesByLine(stateLineIndexes, lineOffsets);
+            return new TransferGraph(stationCount, stateStations, offsets, tails, heads, weights, sectionArcs,
+                    stateLineIndexes, lineOffsets, lineStates);
+        }
+
+        private int[] indexLines(int lineStateCount) {
+            long[] lines = Arrays.stream(stateLines, 0, lineStateCount)
+                    .distinct()
+                    .sorted()
+                    .toArray();
+            int[] stateLineIndexes = new int[lineStateCount];
+            for (int state = 0; state < lineStateCount; state++) {
+                stateLineIndexes[state] = Arrays.binarySearch(lines, stateLines[state]);
+            }
+            return stateLineIndexes;
+        }
+
+        // 노선마다 해당 노선의 상태들을 연속해서 저장하며, lineOffsets는 노선별 시작 위치로 채운다.
+        private int[] groupStatesByLine(int[] stateLineIndexes, int[] lineOffsets) {
+            for (int line : stateLineIndexes) {
+                lineOffsets[line + 1]++;
+            }
+            for (int line = 1; line < lineOffsets.length; line++) {
+                lineOffsets[line] += lineOffsets[line - 1];
+            }
+            int[] cursors = Arrays.copyOf(lineOffsets, lineOffsets.length);
+            int[] lineStates = new int[stateLineIndexes.length];
+            for (int state = 0; state < stateLineIndexes.length; state++) {
+                lineStates[cursors[stateLineIndexes[state]]++] = stationCount + state;
+            }
+            return lineStates;
+        }
+
+        // 역마다 지나는 노선들을 중복 없이 모아 노선 상태로 만든다.
+        private int collectLineStates() {
+            int count = 0;
+            for (int vertex = 0; vertex < stationCount; vertex++) {
+                lineStateOffsets[vertex] = count;
+                for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+                    long line = lineOf(arc);
+                    if (!contains(lineStateOffsets[vertex], count, line)) {
+                        stateLines[count++] = line;
+                    }
+                }
+            }
+            lineStateOffsets[stationCount] = count;
+            return count;
+        }
+
+        private boolean contains(int from, int to, long line) {
+            for (int state = from; state < to; state++) {
+                if (stateLines[state] == line) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int fillRideArcs(int cursor, int vertex, int lineState, long line,
+                                 int[] tails, int[] heads, int[] weights, int[] sectionArcs) {
+            for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+                if (lineOf(arc) == line) {
+                    int head = lineStateOf(graph.headOf(arc), line);
+                    fillArc(cursor++, lineState, head, graph.weightOf(arc), arc, tails, heads, weights, sectionArcs);
+                }
+            }
+            return cursor;
+        }
+
+        // 모든 구간은 양방향 간선으로 저장되므로, 도착역에도 같은 노선의 상태가 항상 존재한다.
+        private int lineStateOf(int vertex, long line) {
+            for (int state = lineStateOffsets[vertex]; state < lineStateOffsets[vertex + 1]; state++) {
+                if (stateLines[state] == line) {
+                    return stationCount + state;
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        private long lineOf(int arc) {
+            Long lineId = graph.getSectionOf(arc).getLineId();
+            if (lineId == null) {
+                return NO_LINE;
+            }
+            return lineId;
+        }
+
+        private static void fillArc(int arc, int tail, int head, int weight, int sectionArc,
+                                    int[] tails, int[] heads, int[] weights, int[] sectionArcs) {
+            tails[arc] = tail;
+            heads[arc] = head;
+            weights[arc] = weight;
+            sectionArcs[arc] = sectionArc;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package wooteco.subway.dto.request;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+public class BatchPathRequest {
+
+    public static final int MAX_QUERY_COUNT = 200;
+
+    @NotEmpty(message = "조회할 경로가 입력되지 않았습니다.")
+    @Size(max = MAX_QUERY_COUNT, message = "한 번에 조회할 수 있는 경로는 200개 이하입니다.")
+    @Valid
+    private List<PathQueryRequest> queries;
+
+    public BatchPathRequest() {
+    }
+
+    public BatchPathRequest(List<PathQueryRequest> queries) {
+        this.queries = queries;
+    }
+
+    public List<PathQueryRequest> getQueries() {
+        return queries;
+    }
+
+    public void setQueries(List<PathQueryRequest> queries) {
+        this.queries = queries;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchPathRequest{" +
+                "queries=" + queries +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+package wooteco.subway.dto.request;
+
+import javax.validation.constraints.NotNull;
+
+public class PathQueryRequest {
+
+    @NotNull(message = "출발역 정보가 입력되지 않았습니다.")
+    private Long source;
+
+    @NotNull(message = "도착역 정보가 입력되지 않았습니다.")
+    private Long target;
+
+    @NotNull(message = "나이 정보가 입력되지 않았습니다.")
+    private Integer age;
+
+    public PathQueryRequest() {
+    }
+
+    public PathQueryRequest(Long source, Long target, Integer age) {
+        this.source = source;
+        this.target = target;
+        this.age = age;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setSource(Long source) {
+        this.source = source;
+    }
+
+    public void setTarget(Long target) {
+        this.target = target;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    @Override
+    public String toString() {
+        return "PathQueryRequest{" +
+                "source=" + source +
+                ", target=" + target +
+                ", age=" + age +
+                '}';
+    }
+}
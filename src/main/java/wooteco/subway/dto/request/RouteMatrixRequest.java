@@ -0,0 +1,64 @@
+package wooteco.subway.dto.request;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+public class RouteMatrixRequest {
+
+    public static final int MAX_STATION_COUNT = 1000;
+
+    @NotEmpty(message = "출발역 목록이 입력되지 않았습니다.")
+    @Size(max = MAX_STATION_COUNT, message = "출발역은 1000개 이하로 입력해야 합니다.")
+    private List<Long> sources;
+
+    @NotEmpty(message = "도착역 목록이 입력되지 않았습니다.")
+    @Size(max = MAX_STATION_COUNT, message = "도착역은 1000개 이하로 입력해야 합니다.")
+    private List<Long> targets;
+
+    @NotNull(message = "나이 정보가 입력되지 않았습니다.")
+    private Integer age;
+
+    public RouteMatrixRequest() {
+    }
+
+    public RouteMatrixRequest(List<Long> sources, List<Long> targets, Integer age) {
+        this.sources = sources;
+        this.targets = targets;
+        this.age = age;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setSources(List<Long> sources) {
+        this.sources = sources;
+    }
+
+    public void setTargets(List<Long> targets) {
+        this.targets = targets;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteMatrixRequest{" +
+                "sources=" + sources +
+                ", targets=" + targets +
+                ", age=" + age +
+                '}';
+    }
+}
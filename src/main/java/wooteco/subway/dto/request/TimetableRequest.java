@@ -0,0 +1,71 @@
+package wooteco.subway.dto.request;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+
+public class TimetableRequest {
+
+    @NotBlank(message = "첫차 출발 시각이 입력되지 않았습니다.")
+    private String firstDeparture;
+
+    @NotBlank(message = "막차 출발 시각이 입력되지 않았습니다.")
+    private String lastDeparture;
+
+    @Min(value = 1, message = "배차 간격은 1분 이상이어야 합니다.")
+    private int headway;
+
+    @Min(value = 1, message = "운행 속도는 1km/h 이상이어야 합니다.")
+    private int speed;
+
+    public TimetableRequest() {
+    }
+
+    public TimetableRequest(String firstDeparture, String lastDeparture, int headway, int speed) {
+        this.firstDeparture = firstDeparture;
+        this.lastDeparture = lastDeparture;
+        this.headway = headway;
+        this.speed = speed;
+    }
+
+    public String getFirstDeparture() {
+        return firstDeparture;
+    }
+
+    public String getLastDeparture() {
+        return lastDeparture;
+    }
+
+    public int getHeadway() {
+        return headway;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public void setFirstDeparture(String firstDeparture) {
+        this.firstDeparture = firstDeparture;
+    }
+
+    public void setLastDeparture(String lastDeparture) {
+        this.lastDeparture = lastDeparture;
+    }
+
+    public void setHeadway(int headway) {
+        this.headway = headway;
+    }
+
+    public void setSpeed(int speed) {
+        this.speed = speed;
+    }
+
+    @Override
+    public String toString() {
+        return "TimetableRequest{" +
+                "firstDeparture='" + firstDeparture + '\'' +
+                ", lastDeparture='" + lastDeparture + '\'' +
+                ", headway=" + headway +
+                ", speed=" + speed +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+package wooteco.subway.dto.response;
+
+import java.util.List;
+import java.util.Objects;
+
+public class BatchPathResponse {
+
+    private long version;
+    private List<PathResultResponse> results;
+
+    public BatchPathResponse() {
+    }
+
+    public BatchPathResponse(long version, List<PathResultResponse> results) {
+        this.version = version;
+        this.results = results;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<PathResultResponse> getResults() {
+        return results;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public void setResults(List<PathResultResponse> results) {
+        this.results = results;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BatchPathResponse that = (BatchPathResponse) o;
+        return version == that.version
+                && Objects.equals(results, that.results);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, results);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchPathResponse{" +
+                "version=" + version +
+                ", results=" + results +
+                '}';
+    }
+}
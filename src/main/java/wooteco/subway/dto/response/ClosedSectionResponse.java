@@ -0,0 +1,89 @@
+package wooteco.subway.dto.response;
+
+import java.util.Objects;
+import wooteco.subway.domain.path.ClosedSection;
+
+public class ClosedSectionResponse {
+
+    private Long lineId;
+    private Long upStationId;
+    private Long downStationId;
+    private boolean registered;
+
+    public ClosedSectionResponse() {
+    }
+
+    public ClosedSectionResponse(Long lineId, Long upStationId, Long downStationId, boolean registered) {
+        this.lineId = lineId;
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+        this.registered = registered;
+    }
+
+    public static ClosedSectionResponse of(ClosedSection section, boolean registered) {
+        return new ClosedSectionResponse(section.getLineId(), section.getUpStationId(), section.getDownStationId(),
+                registered);
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    public boolean isRegistered() {
+        return registered;
+    }
+
+    public void setLineId(Long lineId) {
+        this.lineId = lineId;
+    }
+
+    public void setUpStationId(Long upStationId) {
+        this.upStationId = upStationId;
+    }
+
+    public void setDownStationId(Long downStationId) {
+        this.downStationId = downStationId;
+    }
+
+    public void setRegistered(boolean registered) {
+        this.registered = registered;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ClosedSectionResponse that = (ClosedSectionResponse) o;
+        return registered == that.registered
+                && Objects.equals(lineId, that.lineId)
+                && Objects.equals(upStationId, that.upStationId)
+                && Objects.equals(downStationId, that.downStationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineId, upStationId, downStationId, registered);
+    }
+
+    @Override
+    public String toString() {
+        return "ClosedSectionResponse{" +
+                "lineId=" + lineId +
+                ", upStationId=" + upStationId +
+                ", downStationId=" + downStationId +
+                ", registered=" + registered +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package wooteco.subway.dto.response;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import wooteco.subway.domain.path.ClosedSection;
+import wooteco.subway.domain.path.Disruption;
+
+public class DisruptionResponse {
+
+    private List<Long> closedStationIds;
+    private List<ClosedSectionResponse> closedSections;
+
+    public DisruptionResponse() {
+    }
+
+    public DisruptionResponse(List<Long> closedStationIds, List<ClosedSectionResponse> closedSections) {
+        this.closedStationIds = closedStationIds;
+        this.closedSections = closedSections;
+    }
+
+    public static DisruptionResponse of(Disruption disruption, Predicate<ClosedSection> isRegistered) {
+        List<ClosedSectionResponse> closedSections = disruption.getClosedSections()
+                .stream()
+                .map(section -> ClosedSectionResponse.of(section, isRegistered.test(section)))
+                .collect(Collectors.toList());
+        return new DisruptionResponse(List.copyOf(disruption.getClosedStationIds()), closedSections);
+    }
+
+    public List<Long> getClosedStationIds() {
+        return closedStationIds;
+    }
+
+    public List<ClosedSectionResponse> getClosedSections() {
+        return closedSections;
+    }
+
+    public void setClosedStationIds(List<Long> closedStationIds) {
+        this.closedStationIds = closedStationIds;
+    }
+
+    public void setClosedSections(List<ClosedSectionResponse> closedSections) {
+        this.closedSections = closedSections;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DisruptionResponse that = (DisruptionResponse) o;
+        return Objects.equals(closedStationIds, that.closedStationIds)
+                && Objects.equals(closedSections, that.closedSections);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(closedStationIds, closedSections);
+    }
+
+    @Override
+    public String toString() {
+        return "DisruptionResponse{" +
+                "closedStationIds=" + closedStationIds +
+                ", closedSections=" + closedSections +
+                '}';
+    }
+}
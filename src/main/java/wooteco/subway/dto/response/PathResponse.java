@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PricedRoute;
 import wooteco.subway.domain.station.Station;
 
 public class PathResponse {
@@ -11,6 +12,7 @@ public class PathResponse {
     private List<StationResponse> stations;
     private int distance;
     private int fare;
+    private int transferCount;
 
     public PathResponse() {
     }
@@ -18,15 +20,28 @@ public class PathResponse {
     public PathResponse(List<StationResponse> stations,
                         int distance,
                         int fare) {
+        this(stations, distance, fare, 0);
+    }
+
+    public PathResponse(List<StationResponse> stations,
+                        int distance,
+                        int fare,
+                        int transferCount) {
         this.stations = stations;
         this.distance = distance;
         this.fare = fare;
+        this.transferCount = transferCount;
     }
 
     public static PathResponse of(Path path, int fare) {
         List<StationResponse> stations = toStationResponse(path.toStations());
         int distance = path.getDistance();
-        return new PathResponse(stations, distance, fare);
+        return new PathResponse(stations, distance, fare, path.getTransferCount());
+    }
+
+    public static PathResponse of(PricedRoute route, int fare) {
+        List<StationResponse> stations = toStationResponse(route.getStations());
+        return new PathResponse(stations, route.getDistance(), fare, route.getTransferCount());
     }
 
     private static List<StationResponse> toStationResponse(List<Station> stations) {
@@ -47,6 +62,10 @@ public class PathResponse {
         return fare;
     }
 
+    public int getTransferCount() {
+        return transferCount;
+    }
+
     public void setStations(List<StationResponse> stations) {
         this.stations = stations;
     }
@@ -59,6 +78,10 @@ public class PathResponse {
         this.fare = fare;
     }
 
+    public void setTransferCount(int transferCount) {
+        this.transferCount = transferCount;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -70,12 +93,13 @@ public class PathResponse {
         PathResponse that = (PathResponse) o;
         return distance == that.distance
                 && fare == that.fare
+                && transferCount == that.transferCount
                 && Objects.equals(stations, that.stations);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(stations, distance, fare);
+        return Objects.hash(stations, distance, fare, transferCount);
     }
 
     @Override
@@ -84,6 +108,7 @@ public class PathResponse {
                 "stations=" + stations +
                 ", distance=" + distance +
                 ", fare=" + fare +
+                ", transferCount=" + transferCount +
                 '}';
     }
 }
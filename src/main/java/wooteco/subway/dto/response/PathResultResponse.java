@@ -0,0 +1,103 @@
+package wooteco.subway.dto.response;
+
+import java.util.Objects;
+
+public class PathResultResponse {
+
+    private Long source;
+    private Long target;
+    private int status;
+    private PathResponse path;
+    private String message;
+
+    public PathResultResponse() {
+    }
+
+    public PathResultResponse(Long source, Long target, int status, PathResponse path, String message) {
+        this.source = source;
+        this.target = target;
+        this.status = status;
+        this.path = path;
+        this.message = message;
+    }
+
+    public static PathResultResponse ofSuccess(Long source, Long target, PathResponse path) {
+        return new PathResultResponse(source, target, 200, path, null);
+    }
+
+    public static PathResultResponse ofFailure(Long source, Long target, int status, String message) {
+        return new PathResultResponse(source, target, status, null, message);
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public PathResponse getPath() {
+        return path;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setSource(Long source) {
+        this.source = source;
+    }
+
+    public void setTarget(Long target) {
+        this.target = target;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public void setPath(PathResponse path) {
+        this.path = path;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PathResultResponse that = (PathResultResponse) o;
+        return status == that.status
+                && Objects.equals(source, that.source)
+                && Objects.equals(target, that.target)
+                && Objects.equals(path, that.path)
+                && Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, target, status, path, message);
+    }
+
+    @Override
+    public String toString() {
+        return "PathResultResponse{" +
+                "source=" + source +
+                ", target=" + target +
+                ", status=" + status +
+                ", path=" + path +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
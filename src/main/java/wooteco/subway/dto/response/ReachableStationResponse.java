@@ -0,0 +1,79 @@
+package wooteco.subway.dto.response;
+
+import java.util.Objects;
+import wooteco.subway.domain.path.ReachableStation;
+import wooteco.subway.domain.station.Station;
+
+public class ReachableStationResponse {
+
+    private StationResponse station;
+    private int distance;
+    private int fare;
+
+    public ReachableStationResponse() {
+    }
+
+    public ReachableStationResponse(StationResponse station, int distance, int fare) {
+        this.station = station;
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public static ReachableStationResponse of(ReachableStation reachableStation) {
+        Station station = reachableStation.getStation();
+        return new ReachableStationResponse(new StationResponse(station.getId(), station.getName()),
+                reachableStation.getDistance(), reachableStation.getFare());
+    }
+
+    public StationResponse getStation() {
+        return station;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+
+    public void setStation(StationResponse station) {
+        this.station = station;
+    }
+
+    public void setDistance(int distance) {
+        this.distance = distance;
+    }
+
+    public void setFare(int fare) {
+        this.fare = fare;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReachableStationResponse that = (ReachableStationResponse) o;
+        return distance == that.distance
+                && fare == that.fare
+                && Objects.equals(station, that.station);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(station, distance, fare);
+    }
+
+    @Override
+    public String toString() {
+        return "ReachableStationResponse{" +
+                "station=" + station +
+                ", distance=" + distance +
+                ", fare=" + fare +
+                '}';
+    }
+}
@@ -0,0 +1,107 @@
+package wooteco.subway.dto.response;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import wooteco.subway.domain.path.RouteMatrix;
+import wooteco.subway.domain.station.Station;
+
+public class RouteMatrixResponse {
+
+    private List<StationResponse> sources;
+    private List<StationResponse> targets;
+    private int[][] distances;
+    private int[][] fares;
+
+    public RouteMatrixResponse() {
+    }
+
+    public RouteMatrixResponse(List<StationResponse> sources,
+                               List<StationResponse> targets,
+                               int[][] distances,
+                               int[][] fares) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+        this.fares = fares;
+    }
+
+    public static RouteMatrixResponse of(RouteMatrix routeMatrix) {
+        return new RouteMatrixResponse(toStationResponse(routeMatrix.getSources()),
+                toStationResponse(routeMatrix.getTargets()),
+                routeMatrix.getDistances(),
+                routeMatrix.getFares());
+    }
+
+    private static List<StationResponse> toStationResponse(List<Station> stations) {
+        return stations.stream()
+                .map(station -> new StationResponse(station.getId(), station.getName()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public List<StationResponse> getSources() {
+        return sources;
+    }
+
+    public List<StationResponse> getTargets() {
+        return targets;
+    }
+
+    public int[][] getDistances() {
+        return distances;
+    }
+
+    public int[][] getFares() {
+        return fares;
+    }
+
+    public void setSources(List<StationResponse> sources) {
+        this.sources = sources;
+    }
+
+    public void setTargets(List<StationResponse> targets) {
+        this.targets = targets;
+    }
+
+    public void setDistances(int[][] distances) {
+        this.distances = distances;
+    }
+
+    public void setFares(int[][] fares) {
+        this.fares = fares;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RouteMatrixResponse that = (RouteMatrixResponse) o;
+        return Objects.equals(sources, that.sources)
+                && Objects.equals(targets, that.targets)
+                && Arrays.deepEquals(distances, that.distances)
+                && Arrays.deepEquals(fares, that.fares);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(sources, targets);
+        result = 31 * result + Arrays.deepHashCode(distances);
+        result = 31 * result + Arrays.deepHashCode(fares);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteMatrixResponse{" +
+                "sources=" + sources +
+                ", targets=" + targets +
+                ", distances=" + Arrays.deepToString(distances) +
+                ", fares=" + Arrays.deepToString(fares) +
+                '}';
+    }
+}
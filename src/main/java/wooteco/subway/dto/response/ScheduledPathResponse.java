@@ -0,0 +1,129 @@
+package wooteco.subway.dto.response;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import wooteco.subway.domain.path.PricedRoute;
+import wooteco.subway.domain.path.ScheduledPath;
+
+public class ScheduledPathResponse {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private List<StationResponse> stations;
+    private int distance;
+    private int fare;
+    private int transferCount;
+    private String departureTime;
+    private String arrivalTime;
+
+    public ScheduledPathResponse() {
+    }
+
+    public ScheduledPathResponse(List<StationResponse> stations,
+                                 int distance,
+                                 int fare,
+                                 int transferCount,
+                                 String departureTime,
+                                 String arrivalTime) {
+        this.stations = stations;
+        this.distance = distance;
+        this.fare = fare;
+        this.transferCount = transferCount;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+    }
+
+    public static ScheduledPathResponse of(ScheduledPath scheduledPath, PricedRoute route, int fare) {
+        List<StationResponse> stations = route.getStations()
+                .stream()
+                .map(station -> new StationResponse(station.getId(), station.getName()))
+                .collect(Collectors.toUnmodifiableList());
+        return new ScheduledPathResponse(stations, route.getDistance(), fare, route.getTransferCount(),
+                scheduledPath.getDepartureTime().format(TIME_FORMATTER),
+                scheduledPath.getArrivalTime().format(TIME_FORMATTER));
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+
+    public String getDepartureTime() {
+        return departureTime;
+    }
+
+    public String getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public void setStations(List<StationResponse> stations) {
+        this.stations = stations;
+    }
+
+    public void setDistance(int distance) {
+        this.distance = distance;
+    }
+
+    public void setFare(int fare) {
+        this.fare = fare;
+    }
+
+    public void setTransferCount(int transferCount) {
+        this.transferCount = transferCount;
+    }
+
+    public void setDepartureTime(String departureTime) {
+        this.departureTime = departureTime;
+    }
+
+    public void setArrivalTime(String arrivalTime) {
+        this.arrivalTime = arrivalTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ScheduledPathResponse that = (ScheduledPathResponse) o;
+        return distance == that.distance
+                && fare == that.fare
+                && transferCount == that.transferCount
+                && Objects.equals(stations, that.stations)
+                && Objects.equals(departureTime, that.departureTime)
+                && Objects.equals(arrivalTime, that.arrivalTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stations, distance, fare, transferCount, departureTime, arrivalTime);
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledPathResponse{" +
+                "stations=" + stations +
+                ", distance=" + distance +
+                ", fare=" + fare +
+                ", transferCount=" + transferCount +
+                ", departureTime='" + departureTime + '\'' +
+                ", arrivalTime='" + arrivalTime + '\'' +
+                '}';
+    }
+}
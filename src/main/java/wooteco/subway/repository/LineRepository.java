@@ -8,8 +8,9 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Repository;
 import wooteco.subway.dao.LineDao;
 import wooteco.subway.dao.SectionDao;
+import wooteco.subway.dao.TimetableDao;
 import wooteco.subway.domain.line.Line;
-import wooteco.subway.domain.line.LineExtraFare;
+import wooteco.subway.domain.line.LineTimetable;
 import wooteco.subway.domain.section.Section;
 import wooteco.subway.domain.section.Sections;
 import wooteco.subway.entity.LineEntity;
@@ -21,10 +22,12 @@ public class LineRepository {
 
     private final LineDao lineDao;
     private final SectionDao sectionDao;
+    private final TimetableDao timetableDao;
 
-    public LineRepository(LineDao lineDao, SectionDao sectionDao) {
+    public LineRepository(LineDao lineDao, SectionDao sectionDao, TimetableDao timetableDao) {
         this.lineDao = lineDao;
         this.sectionDao = sectionDao;
+        this.timetableDao = timetableDao;
     }
 
     public List<Line> findAllLines() {
@@ -44,13 +47,6 @@ public class LineRepository {
         return toDomain(line, sections);
     }
 
-    public List<LineExtraFare> findLineExtraFaresByIds(List<Long> ids) {
-        return lineDao.findAllByIds(ids)
-                .stream()
-                .map(line -> new LineExtraFare(line.getExtraFare()))
-                .collect(Collectors.toList());
-    }
-
     public boolean checkExistingLine(Long id) {
         return lineDao.findById(id).isPresent();
     }
@@ -86,10 +82,15 @@ public class LineRepository {
         lineDao.update(updatedLine);
     }
 
+    public void saveTimetable(LineTimetable lineTimetable) {
+        timetableDao.save(lineTimetable);
+    }
+
     public void deleteLine(Line line) {
         Long id = line.getId();
         lineDao.deleteById(id);
         sectionDao.deleteAllByLineId(id);
+        timetableDao.deleteByLineId(id);
     }
 
     private Line toDomain(LineEntity lineEntity, Sections sections) {
@@ -0,0 +1,121 @@
+package wooteco.subway.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import wooteco.subway.domain.path.Disruption;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PricedRoute;
+import wooteco.subway.domain.path.RoutingMode;
+import wooteco.subway.domain.station.Station;
+
+@Repository
+public class RouteCacheRepository {
+
+    private static final String CACHE_NAME = "routes";
+
+    private final Cache<RouteKey, CachedRoute> routes;
+
+    public RouteCacheRepository(MeterRegistry meterRegistry,
+                                @Value("${subway.path.route-cache.maximum-size:10000}") long maximumSize) {
+        this.routes = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, routes, CACHE_NAME);
+    }
+
+    // 스냅샷의 버전을 키에 포함하므로, 노선도가 변경된 이후에는 이전 경로가 조회되지 않는다.
+    // 나이 할인은 캐싱된 경로에 대해 응답 시점에 적용하므로 키에 포함하지 않는다.
+    // 제외된 역과 구간이 바뀌어도 버전은 그대로이므로, 경로를 계산할 때 적용된 제외 목록을 함께 저장해 두고 조회할 때 확인한다.
+    // 출발역과 도착역이 같은 조회는 캐시를 조회하기 전에 거부하여, 잘못된 조회가 캐시 공간을 차지하지 않도록 한다.
+    public PricedRoute findPricedRoute(long version, Disruption disruption, RoutingMode mode, Station source,
+                                       Station target, Supplier<PricedRoute> routePricing) {
+        Path.validateNonSelfLoop(source, target);
+        RouteKey key = new RouteKey(version, mode, source.getId(), target.getId());
+        CachedRoute cached = routes.get(key, ignored -> new CachedRoute(routePricing.get(), disruption));
+        if (cached.isValidUnder(disruption)) {
+            return cached.route;
+        }
+        return routes.asMap()
+                .compute(key, (ignored, previous) -> recompute(previous, disruption, routePricing))
+                .route;
+    }
+
+    private CachedRoute recompute(CachedRoute previous, Disruption disruption, Supplier<PricedRoute> routePricing) {
+        if (previous != null && previous.isValidUnder(disruption)) {
+            return previous;
+        }
+        return new CachedRoute(routePricing.get(), disruption);
+    }
+
+    // 새로 제외된 역과 구간을 지나는 경로와, 다시 개방된 역과 구간을 피해 우회한 경로만 제거한다.
+    public void invalidateRoutesAffectedBy(Disruption disruption) {
+        routes.asMap()
+                .values()
+                .removeIf(cached -> !cached.isValidUnder(disruption));
+    }
+
+    public void invalidateAll() {
+        routes.invalidateAll();
+    }
+
+    private static class CachedRoute {
+
+        private final PricedRoute route;
+        private final Disruption disruption;
+
+        CachedRoute(PricedRoute route, Disruption disruption) {
+            this.route = route;
+            this.disruption = disruption;
+        }
+
+        // 제외된 역과 구간이 늘어나기만 했고 경로가 그중 어느 것도 지나지 않는다면, 여전히 최적의 경로이다.
+        boolean isValidUnder(Disruption current) {
+            if (disruption.equals(current)) {
+                return true;
+            }
+            return current.includes(disruption) && !current.isPassedBy(route.getStations());
+        }
+    }
+
+    private static class RouteKey {
+
+        private final long version;
+        private final RoutingMode mode;
+        private final Long sourceId;
+        private final Long targetId;
+
+        RouteKey(long version, RoutingMode mode, Long sourceId, Long targetId) {
+            this.version = version;
+            this.mode = mode;
+            this.sourceId = sourceId;
+            this.targetId = targetId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RouteKey routeKey = (RouteKey) o;
+            return version == routeKey.version
+                    && mode == routeKey.mode
+                    && Objects.equals(sourceId, routeKey.sourceId)
+                    && Objects.equals(targetId, routeKey.targetId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, mode, sourceId, targetId);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package wooteco.subway.repository;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import wooteco.subway.domain.path.RoutingSnapshot;
+import wooteco.subway.domain.path.RoutingSnapshotCodec;
+import wooteco.subway.domain.path.SearchSettings;
+
+@Repository
+public class RoutingSnapshotFileStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoutingSnapshotFileStore.class);
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String SAVING_THREAD_NAME = "routing-snapshot-file-store";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final Path file;
+    private final AtomicReference<RoutingSnapshot> pendingSnapshot = new AtomicReference<>();
+    private final ExecutorService savingExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, SAVING_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RoutingSnapshotFileStore(@Value("${subway.path.snapshot-file:}") String file) {
+        this.file = file.isBlank() ? null : Paths.get(file);
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    // 파일을 읽을 수 없거나 손상된 경우에는 데이터베이스에서 적재하도록 빈 값을 반환한다.
+    public Optional<RoutingSnapshot> load(long version, SearchSettings settings) {
+        if (!isEnabled() || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(RoutingSnapshotCodec.decode(buffer, version, settings));
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("스냅샷 파일을 읽지 못했습니다: {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    // 임시 파일에 모두 기록한 뒤 교체하므로, 기록 도중 중단되더라도 이전 스냅샷 파일은 온전하게 남는다.
+    public void save(RoutingSnapshot snapshot) {
+        if (!isEnabled()) {
+            return;
+        }
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            Files.write(temporaryFile, RoutingSnapshotCodec.encode(snapshot));
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("스냅샷 파일을 저장하지 못했습니다: {}", file, e);
+        }
+    }
+
+    // 구간 변경을 커밋한 요청 스레드가 파일 기록을 기다리지 않도록, 하나의 스레드에서 가장 최근의 스냅샷만 저장한다.
+    // 저장하는 동안 교체된 스냅샷들은 마지막 하나만 남기므로, 변경이 몰리더라도 저장은 한 번씩만 이어진다.
+    public void saveInBackground(RoutingSnapshot snapshot) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            savingExecutor.execute(this::savePendingSnapshot);
+        }
+    }
+
+    private void savePendingSnapshot() {
+        RoutingSnapshot snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot != null) {
+            save(snapshot);
+        }
+    }
+
+    // 종료하기 전에 남아 있는 저장을 마치므로, 다음 기동 시에는 마지막으로 교체된 스냅샷을 읽는다.
+    @PreDestroy
+    public void close() {
+        savingExecutor.shutdown();
+        try {
+            if (!savingExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warn("스냅샷 파일 저장을 마치지 못하고 종료합니다: {}", file);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package wooteco.subway.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.dao.TimetableDao;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.line.Timetable;
+import wooteco.subway.domain.path.Disruption;
+import wooteco.subway.domain.path.Navigator;
+import wooteco.subway.domain.path.RoutingSnapshot;
+import wooteco.subway.domain.path.SearchSettings;
+import wooteco.subway.domain.path.SearchStrategy;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.section.SectionUpdates;
+import wooteco.subway.entity.LineEntity;
+
+@Repository
+public class RoutingSnapshotRepository {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoutingSnapshotRepository.class);
+    private static final String PREPROCESSING_THREAD_NAME = "routing-snapshot-preprocessing";
+
+    private final SectionDao sectionDao;
+    private final LineDao lineDao;
+    private final TimetableDao timetableDao;
+    private final SearchSettings searchSettings;
+    private final RoutingSnapshotFileStore fileStore;
+    private final AtomicReference<RoutingSnapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicBoolean preprocessingScheduled = new AtomicBoolean();
+    private final ExecutorService preprocessingExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, PREPROCESSING_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long version = 0;
+    private Disruption disruption = Disruption.NONE;
+
+    public RoutingSnapshotRepository(SectionDao sectionDao,
+                                     LineDao lineDao,
+                                     TimetableDao timetableDao,
+                                     RoutingSnapshotFileStore fileStore,
+                                     @Value("${subway.path.search-strategy:DIJKSTRA}") SearchStrategy searchStrategy,
+                                     @Value("${subway.path.distance-table-max-bytes:67108864}") long distanceTableMaxBytes,
+                                     @Value("${subway.path.transfer-penalty:10000}") int transferPenalty) {
+        this.sectionDao = sectionDao;
+        this.lineDao = lineDao;
+        this.timetableDao = timetableDao;
+        this.fileStore = fileStore;
+        this.searchSettings = new SearchSettings(searchStrategy, distanceTableMaxBytes, transferPenalty);
+    }
+
+    // 조회는 잠금 없이 현재 스냅샷을 읽으며, 스냅샷이 아직 없는 경우에만 직접 적재한다.
+    public RoutingSnapshot findCurrentSnapshot() {
+        RoutingSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        return loadSnapshot();
+    }
+
+    private RoutingSnapshot loadSnapshot() {
+        RoutingSnapshot loaded = load(getVersion());
+        return publishIfAbsent(loaded);
+    }
+
+    private RoutingSnapshot load(long loadingVersion) {
+        return RoutingSnapshot.of(loadingVersion, sectionDao.findAll(), loadLineFareTable(),
+                Timetable.of(timetableDao.findAll()), searchSettings);
+    }
+
+    private LineFareTable loadLineFareTable() {
+        Map<Long, Integer> extraFares = lineDao.findAll()
+                .stream()
+                .collect(Collectors.toMap(LineEntity::getId, LineEntity::getExtraFare));
+        return LineFareTable.of(extraFares);
+    }
+
+    private synchronized long getVersion() {
+        return version;
+    }
+
+    private synchronized long nextVersion() {
+        return ++version;
+    }
+
+    // 적재 도중 변경이 커밋되었다면, 이미 낡은 스냅샷이므로 공유하지 않는다.
+    private synchronized RoutingSnapshot publishIfAbsent(RoutingSnapshot loaded) {
+        RoutingSnapshot disrupted = loaded.withDisruption(disruption);
+        if (loaded.getVersion() == version && snapshot.get() == null) {
+            snapshot.set(disrupted);
+        }
+        return disrupted;
+    }
+
+    // 스냅샷을 교체할 때마다 현재 제외된 역과 구간을 다시 적용하므로, 구간이 변경되어도 제외 목록은 유지된다.
+    private synchronized boolean publish(RoutingSnapshot next) {
+        if (next.getVersion() != version) {
+            return false;
+        }
+        snapshot.set(next.withDisruption(disruption));
+        return true;
+    }
+
+    public synchronized Disruption findCurrentDisruption() {
+        return disruption;
+    }
+
+    // 제외 목록은 메모리에만 두며, 버전을 올리지 않고 현재 스냅샷에만 바로 적용하므로 그래프를 다시 만들지 않는다.
+    public synchronized Disruption changeDisruption(UnaryOperator<Disruption> change) {
+        disruption = change.apply(disruption);
+        RoutingSnapshot current = snapshot.get();
+        if (current != null) {
+            snapshot.set(current.withDisruption(disruption));
+        }
+        return disruption;
+    }
+
+    // 파일 저장은 잠금과 커밋 이후의 처리를 붙잡지 않도록 별도의 스레드에 맡긴다.
+    private void publishAndSave(RoutingSnapshot next) {
+        if (publish(next)) {
+            fileStore.saveInBackground(next);
+        }
+    }
+
+    // 저장된 스냅샷 파일이 있다면 데이터베이스 조회 없이 바로 경로 조회를 시작하고,
+    // 그 사이의 변경은 백그라운드에서 데이터베이스로부터 다시 적재한 스냅샷으로 교체하여 반영한다.
+    @PostConstruct
+    public void warmUp() {
+        if (!fileStore.isEnabled()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            fileStore.load(nextVersion(), searchSettings)
+                    .ifPresent(this::publish);
+        } finally {
+            writeLock.unlock();
+        }
+        CompletableFuture.runAsync(this::refresh)
+                .exceptionally(this::logRefreshFailure);
+    }
+
+    // 다시 적재하지 못하면 파일에서 읽은 스냅샷을 계속 사용하므로, 낡은 스냅샷일 수 있음을 기록으로 남긴다.
+    private Void logRefreshFailure(Throwable e) {
+        LOGGER.error("데이터베이스에서 스냅샷을 다시 적재하지 못했습니다. 스냅샷 파일에서 읽은 경로 정보를 계속 사용합니다.", e);
+        return null;
+    }
+
+    public void refreshAfterCommit() {
+        runAfterCommit(this::refresh);
+    }
+
+    public void applyAfterCommit(Long lineId, SectionUpdates sectionUpdates) {
+        List<Section> removedSections = attachLineId(lineId, sectionUpdates.getOldSections());
+        List<Section> addedSections = attachLineId(lineId, sectionUpdates.getNewSections());
+        runAfterCommit(() -> apply(removedSections, addedSections));
+    }
+
+    private List<Section> attachLineId(Long lineId, List<Section> sections) {
+        return sections.stream()
+                .map(section -> new Section(lineId, section))
+                .collect(Collectors.toList());
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 변경은 한 번에 하나씩 다음 버전의 스냅샷을 만들어 교체하며, 교체 전까지 조회는 이전 스냅샷을 그대로 사용한다.
+    // 이전 스냅샷은 불변이므로, 이를 사용 중인 조회가 모두 끝나면 가비지 컬렉션으로 회수된다.
+    private void refresh() {
+        writeLock.lock();
+        try {
+            publishAndSave(load(nextVersion()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 구간 변경만 반영할 수 없는 경우(적재된 스냅샷과 데이터베이스가 어긋난 경우)에는 전체를 다시 적재한다.
+    private void apply(List<Section> removedSections, List<Section> addedSections) {
+        writeLock.lock();
+        try {
+            RoutingSnapshot current = snapshot.get();
+            long next = nextVersion();
+            if (current == null) {
+                return;
+            }
+            RoutingSnapshot patched = current.applySectionUpdates(next, removedSections, addedSections)
+                    .orElseGet(() -> load(next));
+            publishAndSave(patched);
+            if (!patched.isPreprocessed()) {
+                schedulePreprocessing();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 구간 변경이 몰리더라도 선행 계산은 하나의 스레드에서 가장 최근의 스냅샷에 대해서만 이어진다.
+    private void schedulePreprocessing() {
+        if (preprocessingScheduled.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::preprocess, preprocessingExecutor)
+                    .exceptionally(this::logPreprocessingFailure);
+        }
+    }
+
+    // 선행 계산에 실패하더라도 구간 변경을 반영한 스냅샷은 다익스트라 탐색으로 계속 조회할 수 있다.
+    private Void logPreprocessingFailure(Throwable e) {
+        LOGGER.error("구간 변경을 반영한 스냅샷의 선행 계산에 실패했습니다. 다익스트라 탐색으로 경로를 계속 조회합니다.", e);
+        return null;
+    }
+
+    // 선행 계산은 잠금 없이 진행하며, 그 사이에 스냅샷이 교체되었다면 결과를 버린다.
+    // 교체된 스냅샷이 구간 변경을 반영한 것이라면, 그 변경이 다시 선행 계산을 예약한다.
+    private void preprocess() {
+        preprocessingScheduled.set(false);
+        RoutingSnapshot current = snapshot.get();
+        if (current == null || current.isPreprocessed()) {
+            return;
+        }
+        Navigator preprocessed = current.getNavigator().preprocess();
+        writeLock.lock();
+        try {
+            if (current.getVersion() == getVersion()) {
+                publishAndSave(current.withNavigator(nextVersion(), preprocessed));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        preprocessingExecutor.shutdownNow();
+    }
+
+    public void invalidate() {
+        writeLock.lock();
+        try {
+            clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private synchronized void clear() {
+        version++;
+        snapshot.set(null);
+    }
+}
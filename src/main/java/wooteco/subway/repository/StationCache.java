@@ -0,0 +1,61 @@
+package wooteco.subway.repository;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import wooteco.subway.domain.station.Station;
+
+class StationCache {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_CAPACITY = 1 << 20;
+
+    private final AtomicReference<AtomicReferenceArray<Station>> slots =
+            new AtomicReference<>(new AtomicReferenceArray<>(INITIAL_CAPACITY));
+
+    // 조회 도중 무효화가 일어났다면 낡은 배열에 기록되어 버려지므로, 이후의 조회에 낡은 역이 노출되지 않는다.
+    Optional<Station> findById(Long id, Function<Long, Optional<Station>> loader) {
+        if (!isCacheable(id)) {
+            return loader.apply(id);
+        }
+        AtomicReferenceArray<Station> current = slots.get();
+        if (id < current.length() && current.get(id.intValue()) != null) {
+            return Optional.of(current.get(id.intValue()));
+        }
+        Optional<Station> loaded = loader.apply(id);
+        loaded.ifPresent(station -> store(current, id.intValue(), station));
+        return loaded;
+    }
+
+    private boolean isCacheable(Long id) {
+        return id != null && id >= 0 && id < MAX_CAPACITY;
+    }
+
+    private void store(AtomicReferenceArray<Station> current, int index, Station station) {
+        AtomicReferenceArray<Station> target = current;
+        if (index >= current.length()) {
+            target = grow(current, index);
+            if (!slots.compareAndSet(current, target)) {
+                return;
+            }
+        }
+        target.set(index, station);
+    }
+
+    private AtomicReferenceArray<Station> grow(AtomicReferenceArray<Station> current, int index) {
+        int capacity = current.length();
+        while (capacity <= index) {
+            capacity *= 2;
+        }
+        AtomicReferenceArray<Station> grown = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        return grown;
+    }
+
+    void invalidate() {
+        slots.set(new AtomicReferenceArray<>(INITIAL_CAPACITY));
+    }
+}
@@ -2,6 +2,8 @@ package wooteco.subway.repository;
 
 import java.util.List;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import wooteco.subway.dao.StationDao;
 import wooteco.subway.domain.station.Station;
 import wooteco.subway.exception.ExceptionType;
@@ -11,6 +13,7 @@ import wooteco.subway.exception.NotFoundException;
 public class StationRepository {
 
     private final StationDao stationDao;
+    private final StationCache stationCache = new StationCache();
 
     public StationRepository(StationDao stationDao) {
         this.stationDao = stationDao;
@@ -21,7 +24,7 @@ public class StationRepository {
     }
 
     public Station findExistingStation(Long stationId) {
-        return stationDao.findById(stationId)
+        return stationCache.findById(stationId, stationDao::findById)
                 .orElseThrow(() -> new NotFoundException(ExceptionType.STATION_NOT_FOUND));
     }
 
@@ -30,10 +33,31 @@ public class StationRepository {
     }
 
     public Station save(Station station) {
-        return stationDao.save(new Station(station.getName()));
+        Station savedStation = stationDao.save(new Station(station.getName()));
+        invalidateCacheAfterCommit();
+        return savedStation;
     }
 
     public void delete(Station station) {
         stationDao.deleteById(station.getId());
+        invalidateCacheAfterCommit();
+    }
+
+    // 커밋 전에 다른 요청이 변경 이전의 역을 다시 캐싱할 수 있으므로, 커밋 이후에 한 번 더 무효화한다.
+    private void invalidateCacheAfterCommit() {
+        stationCache.invalidate();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stationCache.invalidate();
+            }
+        });
+    }
+
+    public void invalidateCache() {
+        stationCache.invalidate();
     }
 }
@@ -0,0 +1,84 @@
+package wooteco.subway.service;
+
+import java.util.function.UnaryOperator;
+import org.springframework.stereotype.Service;
+import wooteco.subway.domain.path.ClosedSection;
+import wooteco.subway.domain.path.Disruption;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.dto.response.DisruptionResponse;
+import wooteco.subway.repository.LineRepository;
+import wooteco.subway.repository.RouteCacheRepository;
+import wooteco.subway.repository.RoutingSnapshotRepository;
+import wooteco.subway.repository.SectionRepository;
+import wooteco.subway.repository.StationRepository;
+
+@Service
+public class DisruptionService {
+
+    private static final String SECTION_NOT_REGISTERED_EXCEPTION = "해당 노선에 등록되지 않은 구간입니다.";
+
+    private final RoutingSnapshotRepository routingSnapshotRepository;
+    private final RouteCacheRepository routeCacheRepository;
+    private final StationRepository stationRepository;
+    private final LineRepository lineRepository;
+    private final SectionRepository sectionRepository;
+
+    public DisruptionService(RoutingSnapshotRepository routingSnapshotRepository,
+                             RouteCacheRepository routeCacheRepository,
+                             StationRepository stationRepository,
+                             LineRepository lineRepository,
+                             SectionRepository sectionRepository) {
+        this.routingSnapshotRepository = routingSnapshotRepository;
+        this.routeCacheRepository = routeCacheRepository;
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+        this.sectionRepository = sectionRepository;
+    }
+
+    public DisruptionResponse find() {
+        return DisruptionResponse.of(routingSnapshotRepository.findCurrentDisruption(), this::isRegistered);
+    }
+
+    // 제외한 이후 구간이 나뉘거나 합쳐져 더 이상 같은 역들을 잇는 구간이 없다면, 경로 탐색에는 적용되지 않는다.
+    private boolean isRegistered(ClosedSection section) {
+        return sectionRepository.findAllSectionsByLineId(section.getLineId())
+                .stream()
+                .anyMatch(section::matches);
+    }
+
+    public void closeStation(Long stationId) {
+        stationRepository.findExistingStation(stationId);
+        change(disruption -> disruption.closeStation(stationId));
+    }
+
+    public void reopenStation(Long stationId) {
+        stationRepository.findExistingStation(stationId);
+        change(disruption -> disruption.reopenStation(stationId));
+    }
+
+    public void closeSection(Long lineId, Long upStationId, Long downStationId) {
+        Section section = findExistingSection(lineId, upStationId, downStationId);
+        change(disruption -> disruption.closeSection(section));
+    }
+
+    public void reopenSection(Long lineId, Long upStationId, Long downStationId) {
+        lineRepository.findExistingLine(lineId);
+        change(disruption -> disruption.reopenSection(lineId, upStationId, downStationId));
+    }
+
+    // 구간 정보와 노선도의 버전은 그대로 두므로, 캐시에서는 변경의 영향을 받는 경로만 제거한다.
+    private void change(UnaryOperator<Disruption> change) {
+        Disruption disruption = routingSnapshotRepository.changeDisruption(change);
+        routeCacheRepository.invalidateRoutesAffectedBy(disruption);
+    }
+
+    private Section findExistingSection(Long lineId, Long upStationId, Long downStationId) {
+        lineRepository.findExistingLine(lineId);
+        return sectionRepository.findAllSectionsByLineId(lineId)
+                .stream()
+                .filter(section -> section.getUpStationId().equals(upStationId)
+                        && section.getDownStationId().equals(downStationId))
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException(SECTION_NOT_REGISTERED_EXCEPTION));
+    }
+}
@@ -6,13 +6,16 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.domain.line.Line;
+import wooteco.subway.domain.line.LineTimetable;
 import wooteco.subway.domain.section.Section;
 import wooteco.subway.domain.section.Sections;
 import wooteco.subway.domain.station.Station;
 import wooteco.subway.dto.request.CreateLineRequest;
+import wooteco.subway.dto.request.TimetableRequest;
 import wooteco.subway.dto.request.UpdateLineRequest;
 import wooteco.subway.dto.response.LineResponse;
 import wooteco.subway.repository.LineRepository;
+import wooteco.subway.repository.RoutingSnapshotRepository;
 import wooteco.subway.repository.StationRepository;
 
 @Service
@@ -22,10 +25,14 @@ public class LineService {
 
     private final LineRepository lineRepository;
     private final StationRepository stationRepository;
+    private final RoutingSnapshotRepository routingSnapshotRepository;
 
-    public LineService(LineRepository lineRepository, StationRepository stationRepository) {
+    public LineService(LineRepository lineRepository,
+                       StationRepository stationRepository,
+                       RoutingSnapshotRepository routingSnapshotRepository) {
         this.lineRepository = lineRepository;
         this.stationRepository = stationRepository;
+        this.routingSnapshotRepository = routingSnapshotRepository;
     }
 
     public List<LineResponse> findAll() {
@@ -51,7 +58,9 @@ public class LineService {
         Section newSection = new Section(upStation, downStation, lineRequest.getDistance());
 
         Line newLine = new Line(name, color, extraFare, newSection);
-        return LineResponse.of(lineRepository.saveLine(newLine));
+        Line savedLine = lineRepository.saveLine(newLine);
+        routingSnapshotRepository.refreshAfterCommit();
+        return LineResponse.of(savedLine);
     }
 
     @Transactional
@@ -63,12 +72,27 @@ public class LineService {
         Sections sections = line.getSections();
 
         lineRepository.updateLine(new Line(id, name, color, extraFare, sections));
+        routingSnapshotRepository.refreshAfterCommit();
+    }
+
+    @Transactional
+    public void updateTimetable(Long id, TimetableRequest timetableRequest) {
+        Line line = lineRepository.findExistingLine(id);
+        LineTimetable lineTimetable = LineTimetable.of(line.getId(),
+                timetableRequest.getFirstDeparture(),
+                timetableRequest.getLastDeparture(),
+                timetableRequest.getHeadway(),
+                timetableRequest.getSpeed());
+
+        lineRepository.saveTimetable(lineTimetable);
+        routingSnapshotRepository.refreshAfterCommit();
     }
 
     @Transactional
     public void delete(Long id) {
         Line line = lineRepository.findExistingLine(id);
         lineRepository.deleteLine(line);
+        routingSnapshotRepository.refreshAfterCommit();
     }
 
     private String validateUniqueLineName(String name) {
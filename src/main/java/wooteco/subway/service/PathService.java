@@ -1,40 +1,195 @@
 package wooteco.subway.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
 import wooteco.subway.domain.line.LineExtraFare;
-import wooteco.subway.domain.path.Navigator;
+import wooteco.subway.domain.path.DepartureTime;
 import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PricedRoute;
+import wooteco.subway.domain.path.ReachabilityBudget;
+import wooteco.subway.domain.path.RouteMatrix;
+import wooteco.subway.domain.path.RoutingMode;
+import wooteco.subway.domain.path.RoutingSnapshot;
+import wooteco.subway.domain.path.ScheduledPath;
+import wooteco.subway.domain.path.ShortestPathTree;
 import wooteco.subway.domain.station.Station;
+import wooteco.subway.dto.request.PathQueryRequest;
+import wooteco.subway.dto.response.BatchPathResponse;
 import wooteco.subway.dto.response.PathResponse;
-import wooteco.subway.repository.LineRepository;
-import wooteco.subway.repository.SectionRepository;
+import wooteco.subway.dto.response.PathResultResponse;
+import wooteco.subway.dto.response.ReachableStationResponse;
+import wooteco.subway.dto.response.ScheduledPathResponse;
+import wooteco.subway.exception.NotFoundException;
+import wooteco.subway.repository.RouteCacheRepository;
+import wooteco.subway.repository.RoutingSnapshotRepository;
 import wooteco.subway.repository.StationRepository;
 
 @Service
 public class PathService {
 
-    private final LineRepository lineRepository;
-    private final SectionRepository sectionRepository;
+    private final RoutingSnapshotRepository routingSnapshotRepository;
+    private final RouteCacheRepository routeCacheRepository;
     private final StationRepository stationRepository;
 
-    public PathService(LineRepository lineRepository,
-                       SectionRepository sectionRepository,
+    public PathService(RoutingSnapshotRepository routingSnapshotRepository,
+                       RouteCacheRepository routeCacheRepository,
                        StationRepository stationRepository) {
-        this.lineRepository = lineRepository;
-        this.sectionRepository = sectionRepository;
+        this.routingSnapshotRepository = routingSnapshotRepository;
+        this.routeCacheRepository = routeCacheRepository;
         this.stationRepository = stationRepository;
     }
 
     public PathResponse findShortestPath(long sourceStationId, long targetStationId, int age) {
+        return findShortestPath(sourceStationId, targetStationId, age, RoutingMode.DISTANCE);
+    }
+
+    public PathResponse findShortestPath(long sourceStationId, long targetStationId, int age, RoutingMode mode) {
+        RoutingSnapshot snapshot = routingSnapshotRepository.findCurrentSnapshot();
+        return findShortestPath(snapshot, sourceStationId, targetStationId, age, mode);
+    }
+
+    // 출발 시각마다 경로가 달라지므로 캐시하지 않고, 스냅샷에 함께 적재된 시간표로 계산한다.
+    public ScheduledPathResponse findEarliestArrivalPath(long sourceStationId,
+                                                         long targetStationId,
+                                                         int age,
+                                                         String departAt) {
+        DepartureTime departureTime = DepartureTime.of(departAt);
         Station startStation = stationRepository.findExistingStation(sourceStationId);
         Station endStation = stationRepository.findExistingStation(targetStationId);
 
-        Path path = new Path(startStation, endStation, new Navigator(sectionRepository.findAllSections()));
-        List<Long> passingLineIds = path.getPassingLineIds();
-        List<LineExtraFare> lineExtraFares = lineRepository.findLineExtraFaresByIds(passingLineIds);
-        int fare = path.calculateFare(lineExtraFares, age);
+        RoutingSnapshot snapshot = routingSnapshotRepository.findCurrentSnapshot();
+        ScheduledPath scheduledPath = snapshot.getNavigator()
+                .calculateEarliestArrivalPath(startStation, endStation, departureTime, snapshot.getTimetable());
+        PricedRoute route = toPricedRoute(scheduledPath.getPath(), snapshot);
+        return ScheduledPathResponse.of(scheduledPath, route, route.calculateFare(age));
+    }
+
+    // 대안 경로들은 조합이 다양하여 캐시하지 않고, 하나의 스냅샷에서 모두 계산한다.
+    public List<PathResponse> findAlternativePaths(long sourceStationId, long targetStationId, int count, int age) {
+        Station startStation = stationRepository.findExistingStation(sourceStationId);
+        Station endStation = stationRepository.findExistingStation(targetStationId);
+
+        RoutingSnapshot snapshot = routingSnapshotRepository.findCurrentSnapshot();
+        return snapshot.getNavigator()
+                .calculateAlternativePaths(startStation, endStation, count)
+                .stream()
+                .map(path -> toPricedRoute(path, snapshot))
+                .map(route -> PathResponse.of(route, route.calculateFare(age)))
+                .collect(Collectors.toList());
+    }
+
+    // 요금은 나이 할인까지 적용한 값으로 비교하므로, 나이에 따라 파레토 최적 경로의 목록이 달라질 수 있다.
+    public List<PathResponse> findParetoPaths(long sourceStationId, long targetStationId, int age) {
+        Station startStation = stationRepository.findExistingStation(sourceStationId);
+        Station endStation = stationRepository.findExistingStation(targetStationId);
+        AgeDiscountPolicy ageDiscountPolicy = AgeDiscountPolicy.of(age);
+
+        RoutingSnapshot snapshot = routingSnapshotRepository.findCurrentSnapshot();
+        return snapshot.getNavigator()
+                .calculateParetoPaths(startStation, endStation, snapshot.getLineFareTable(), ageDiscountPolicy)
+                .stream()
+                .map(path -> toPricedRoute(path, snapshot))
+                .map(route -> PathResponse.of(route, route.calculateFare(age)))
+                .collect(Collectors.toList());
+    }
+
+    // 출발역, 노선 등록 여부와 나이를 미리 검증하므로, 반환된 최단경로 트리는 순회 중에 예외가 발생하지 않는다.
+    public ShortestPathTree findShortestPathTree(long sourceStationId, int age) {
+        Station sourceStation = stationRepository.findExistingStation(sourceStationId);
+        AgeDiscountPolicy ageDiscountPolicy = AgeDiscountPolicy.of(age);
+
+        RoutingSnapshot snapshot = routingSnapshotRepository.findCurrentSnapshot();
+        return snapshot.getNavigator()
+                .calculateShortestPathTree(sourceStation, snapshot.getLineFareTable(), ageDiscountPolicy);
+    }
+
+    public List<ReachableStationResponse> findReachableStations(long sourceStationId,
+                                                                Integer maxDistance,
+                                                                Integer maxFare,
+                                                                int age) {
+        ReachabilityBudget budget = ReachabilityBudget.of(maxDistance, maxFare);
+        ShortestPathTree shortestPathTree = findShortestPathTree(sourceStationId, age);
+
+        List<ReachableStationResponse> reachableStations = new ArrayList<>();
+        shortestPathTree.forEachWithin(budget,
+                reachableStation -> reachableStations.add(ReachableStationResponse.of(reachableStation)));
+        return reachableStations;
+    }
+
+    public RouteMatrix findRouteMatrix(List<Long> sourceStationIds, List<Long> targetStationIds, int age) {
+        List<Station> sourceStations = findExistingStations(sourceStationIds);
+        List<Station> targetStations = findExistingStations(targetStationIds);
+        AgeDiscountPolicy ageDiscountPolicy = AgeDiscountPolicy.of(age);
+
+        RoutingSnapshot snapshot = routingSnapshotRepository.findCurrentSnapshot();
+        return snapshot.getNavigator()
+                .calculateRouteMatrix(sourceStations, targetStations, snapshot.getLineFareTable(), ageDiscountPolicy);
+    }
+
+    private List<Station> findExistingStations(List<Long> stationIds) {
+        return stationIds.stream()
+                .map(stationRepository::findExistingStation)
+                .collect(Collectors.toList());
+    }
 
-        return PathResponse.of(path, fare);
+    // 모든 경로를 하나의 스냅샷에서 병렬로 조회하며, 일부 경로의 조회 실패는 해당 항목의 결과로만 반환한다.
+    public BatchPathResponse findShortestPaths(List<PathQueryRequest> queries) {
+        RoutingSnapshot snapshot = routingSnapshotRepository.findCurrentSnapshot();
+        List<PathResultResponse> results = queries.parallelStream()
+                .map(query -> findPathResult(snapshot, query))
+                .collect(Collectors.toList());
+        return new BatchPathResponse(snapshot.getVersion(), results);
+    }
+
+    private PathResultResponse findPathResult(RoutingSnapshot snapshot, PathQueryRequest query) {
+        Long source = query.getSource();
+        Long target = query.getTarget();
+        try {
+            PathResponse path = findShortestPath(snapshot, source, target, query.getAge(), RoutingMode.DISTANCE);
+            return PathResultResponse.ofSuccess(source, target, path);
+        } catch (NotFoundException e) {
+            return PathResultResponse.ofFailure(source, target, HttpStatus.NOT_FOUND.value(), e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return PathResultResponse.ofFailure(source, target, HttpStatus.BAD_REQUEST.value(), e.getMessage());
+        }
+    }
+
+    private PathResponse findShortestPath(RoutingSnapshot snapshot,
+                                          long sourceStationId,
+                                          long targetStationId,
+                                          int age,
+                                          RoutingMode mode) {
+        Station startStation = stationRepository.findExistingStation(sourceStationId);
+        Station endStation = stationRepository.findExistingStation(targetStationId);
+
+        PricedRoute route = routeCacheRepository.findPricedRoute(snapshot.getVersion(), snapshot.getDisruption(), mode,
+                startStation, endStation, () -> toPricedRoute(startStation, endStation, snapshot, mode));
+        int fare = route.calculateFare(age);
+
+        return PathResponse.of(route, fare);
+    }
+
+    private PricedRoute toPricedRoute(Station startStation, Station endStation, RoutingSnapshot snapshot,
+                                      RoutingMode mode) {
+        return toPricedRoute(findPath(startStation, endStation, snapshot, mode), snapshot);
+    }
+
+    // 최저 요금 경로는 나이와 무관하게 할인 전 요금으로 비교하므로, 다른 방식과 마찬가지로 스냅샷 버전별로 캐시할 수 있다.
+    private Path findPath(Station startStation, Station endStation, RoutingSnapshot snapshot, RoutingMode mode) {
+        if (mode == RoutingMode.CHEAPEST) {
+            return snapshot.getNavigator()
+                    .calculateCheapestPath(startStation, endStation, snapshot.getLineFareTable());
+        }
+        return new Path(startStation, endStation, snapshot.getNavigator(), mode);
+    }
+
+    private PricedRoute toPricedRoute(Path path, RoutingSnapshot snapshot) {
+        List<Long> passingLineIds = path.getPassingLineIds();
+        List<LineExtraFare> lineExtraFares = snapshot.getLineFareTable().findExtraFares(passingLineIds);
+        return PricedRoute.of(path, lineExtraFares);
     }
 }
@@ -8,18 +8,23 @@ import wooteco.subway.domain.section.SectionUpdates;
 import wooteco.subway.domain.section.SectionsManager;
 import wooteco.subway.domain.station.Station;
 import wooteco.subway.dto.request.CreateSectionRequest;
-import wooteco.subway.repository.StationRepository;
+import wooteco.subway.repository.RoutingSnapshotRepository;
 import wooteco.subway.repository.SectionRepository;
+import wooteco.subway.repository.StationRepository;
 
 @Service
 public class SectionService {
 
     private final SectionRepository sectionRepository;
     private final StationRepository stationRepository;
+    private final RoutingSnapshotRepository routingSnapshotRepository;
 
-    public SectionService(SectionRepository sectionRepository, StationRepository stationRepository) {
+    public SectionService(SectionRepository sectionRepository,
+                          StationRepository stationRepository,
+                          RoutingSnapshotRepository routingSnapshotRepository) {
         this.sectionRepository = sectionRepository;
         this.stationRepository = stationRepository;
+        this.routingSnapshotRepository = routingSnapshotRepository;
     }
 
     @Transactional
@@ -45,5 +50,6 @@ public class SectionService {
         SectionUpdates compareResult = oldSectionsManager.compareDifference(updatedSections);
         sectionRepository.deleteSections(lineId, compareResult.getOldSections());
         sectionRepository.saveSections(lineId, compareResult.getNewSections());
+        routingSnapshotRepository.applyAfterCommit(lineId, compareResult);
     }
 }
@@ -0,0 +1,57 @@
+package wooteco.subway.ui;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import wooteco.subway.dto.response.DisruptionResponse;
+import wooteco.subway.service.DisruptionService;
+
+@RestController
+@RequestMapping("/disruptions")
+public class DisruptionController {
+
+    private final DisruptionService disruptionService;
+
+    public DisruptionController(DisruptionService disruptionService) {
+        this.disruptionService = disruptionService;
+    }
+
+    @GetMapping
+    public ResponseEntity<DisruptionResponse> showDisruption() {
+        DisruptionResponse disruptionResponse = disruptionService.find();
+        return ResponseEntity.ok(disruptionResponse);
+    }
+
+    @PutMapping("/stations/{stationId}")
+    public ResponseEntity<Void> closeStation(@PathVariable Long stationId) {
+        disruptionService.closeStation(stationId);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/stations/{stationId}")
+    public ResponseEntity<Void> reopenStation(@PathVariable Long stationId) {
+        disruptionService.reopenStation(stationId);
+        return ResponseEntity.ok().build();
+    }
+
+    @PutMapping("/lines/{lineId}/sections")
+    public ResponseEntity<Void> closeSection(@PathVariable Long lineId,
+                                             @RequestParam Long upStationId,
+                                             @RequestParam Long downStationId) {
+        disruptionService.closeSection(lineId, upStationId, downStationId);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/lines/{lineId}/sections")
+    public ResponseEntity<Void> reopenSection(@PathVariable Long lineId,
+                                              @RequestParam Long upStationId,
+                                              @RequestParam Long downStationId) {
+        disruptionService.reopenSection(lineId, upStationId, downStationId);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import wooteco.subway.dto.request.CreateLineRequest;
+import wooteco.subway.dto.request.TimetableRequest;
 import wooteco.subway.dto.request.UpdateLineRequest;
 import wooteco.subway.dto.response.LineResponse;
 import wooteco.subway.service.LineService;
@@ -53,6 +54,13 @@ public class LineController {
         return ResponseEntity.ok().build();
     }
 
+    @PutMapping("/{id}/timetable")
+    public ResponseEntity<Void> updateTimetable(@PathVariable Long id,
+                                                @Validated @RequestBody TimetableRequest timetableRequest) {
+        lineService.updateTimetable(id, timetableRequest);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteLine(@PathVariable Long id) {
         lineService.delete(id);
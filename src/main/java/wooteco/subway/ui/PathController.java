@@ -1,28 +1,165 @@
 package wooteco.subway.ui;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import wooteco.subway.domain.path.RouteMatrix;
+import wooteco.subway.domain.path.RoutingMode;
+import wooteco.subway.domain.path.ShortestPathTree;
+import wooteco.subway.dto.request.BatchPathRequest;
+import wooteco.subway.dto.request.RouteMatrixRequest;
+import wooteco.subway.dto.response.BatchPathResponse;
 import wooteco.subway.dto.response.PathResponse;
+import wooteco.subway.dto.response.ReachableStationResponse;
+import wooteco.subway.dto.response.RouteMatrixResponse;
+import wooteco.subway.dto.response.ScheduledPathResponse;
 import wooteco.subway.service.PathService;
 
 @RestController
 @RequestMapping("/paths")
 public class PathController {
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final String SCHEDULED_MODE_NOT_ALLOWED_EXCEPTION = "출발 시각을 입력한 경우 경로 탐색 방식은 입력할 수 없습니다.";
+
     private final PathService pathService;
+    private final ObjectMapper objectMapper;
 
-    public PathController(PathService pathService) {
+    public PathController(PathService pathService, ObjectMapper objectMapper) {
         this.pathService = pathService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
     public ResponseEntity<PathResponse> searchPath(@RequestParam Long source,
                                                    @RequestParam Long target,
-                                                   @RequestParam Integer age) {
-        PathResponse pathResponse = pathService.findShortestPath(source, target, age);
+                                                   @RequestParam Integer age,
+                                                   @RequestParam(defaultValue = "DISTANCE") String mode) {
+        PathResponse pathResponse = pathService.findShortestPath(source, target, age, RoutingMode.of(mode));
         return ResponseEntity.ok(pathResponse);
     }
+
+    @GetMapping(params = "departAt")
+    public ResponseEntity<ScheduledPathResponse> searchScheduledPath(@RequestParam Long source,
+                                                                     @RequestParam Long target,
+                                                                     @RequestParam Integer age,
+                                                                     @RequestParam String departAt,
+                                                                     @RequestParam(required = false) String mode) {
+        validateNoRoutingMode(mode);
+        ScheduledPathResponse scheduledPathResponse =
+                pathService.findEarliestArrivalPath(source, target, age, departAt);
+        return ResponseEntity.ok(scheduledPathResponse);
+    }
+
+    // 출발 시각이 입력되면 언제나 가장 먼저 도착하는 경로를 찾으므로, 함께 입력된 탐색 방식이 무시되지 않도록 거부한다.
+    private void validateNoRoutingMode(String mode) {
+        if (mode != null) {
+            throw new IllegalArgumentException(SCHEDULED_MODE_NOT_ALLOWED_EXCEPTION);
+        }
+    }
+
+    @GetMapping("/alternatives")
+    public ResponseEntity<List<PathResponse>> searchAlternativePaths(@RequestParam Long source,
+                                                                     @RequestParam Long target,
+                                                                     @RequestParam Integer k,
+                                                                     @RequestParam Integer age) {
+        List<PathResponse> pathResponses = pathService.findAlternativePaths(source, target, k, age);
+        return ResponseEntity.ok(pathResponses);
+    }
+
+    @GetMapping("/pareto")
+    public ResponseEntity<List<PathResponse>> searchParetoPaths(@RequestParam Long source,
+                                                                @RequestParam Long target,
+                                                                @RequestParam Integer age) {
+        List<PathResponse> pathResponses = pathService.findParetoPaths(source, target, age);
+        return ResponseEntity.ok(pathResponses);
+    }
+
+    @GetMapping("/from/{source}")
+    public ResponseEntity<StreamingResponseBody> searchPathsFrom(@PathVariable Long source,
+                                                                 @RequestParam Integer age) {
+        ShortestPathTree shortestPathTree = pathService.findShortestPathTree(source, age);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> writeReachableStations(shortestPathTree, outputStream));
+    }
+
+    @GetMapping("/reachable")
+    public ResponseEntity<List<ReachableStationResponse>> searchReachableStations(
+            @RequestParam Long source,
+            @RequestParam(required = false) Integer maxDistance,
+            @RequestParam(required = false) Integer maxFare,
+            @RequestParam Integer age) {
+        List<ReachableStationResponse> reachableStations =
+                pathService.findReachableStations(source, maxDistance, maxFare, age);
+        return ResponseEntity.ok(reachableStations);
+    }
+
+    // 역마다 응답 객체를 만들어 바로 기록하므로, 전체 결과를 목록으로 모아두지 않는다.
+    private void writeReachableStations(ShortestPathTree shortestPathTree, OutputStream outputStream)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+            shortestPathTree.forEach(reachableStation -> {
+                try {
+                    generator.writeObject(ReachableStationResponse.of(reachableStation));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchPathResponse> searchPaths(@Validated @RequestBody BatchPathRequest batchPathRequest) {
+        BatchPathResponse batchPathResponse = pathService.findShortestPaths(batchPathRequest.getQueries());
+        return ResponseEntity.ok(batchPathResponse);
+    }
+
+    @PostMapping("/matrix")
+    public ResponseEntity<RouteMatrixResponse> searchRouteMatrix(
+            @Validated @RequestBody RouteMatrixRequest routeMatrixRequest) {
+        RouteMatrix routeMatrix = findRouteMatrix(routeMatrixRequest);
+        return ResponseEntity.ok(RouteMatrixResponse.of(routeMatrix));
+    }
+
+    @PostMapping(value = "/matrix", params = "format=csv")
+    public ResponseEntity<StreamingResponseBody> searchRouteMatrixAsCsv(
+            @Validated @RequestBody RouteMatrixRequest routeMatrixRequest) {
+        RouteMatrix routeMatrix = findRouteMatrix(routeMatrixRequest);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .body(outputStream -> RouteMatrixWriter.writeCsv(routeMatrix, outputStream));
+    }
+
+    @PostMapping(value = "/matrix", params = "format=binary")
+    public ResponseEntity<StreamingResponseBody> searchRouteMatrixAsBinary(
+            @Validated @RequestBody RouteMatrixRequest routeMatrixRequest) {
+        RouteMatrix routeMatrix = findRouteMatrix(routeMatrixRequest);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(outputStream -> RouteMatrixWriter.writeBinary(routeMatrix, outputStream));
+    }
+
+    private RouteMatrix findRouteMatrix(RouteMatrixRequest routeMatrixRequest) {
+        return pathService.findRouteMatrix(routeMatrixRequest.getSources(),
+                routeMatrixRequest.getTargets(),
+                routeMatrixRequest.getAge());
+    }
 }
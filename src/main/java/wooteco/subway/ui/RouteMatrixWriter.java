@@ -0,0 +1,59 @@
+package wooteco.subway.ui;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import wooteco.subway.domain.path.RouteMatrix;
+import wooteco.subway.domain.station.Station;
+
+class RouteMatrixWriter {
+
+    static final String CSV_HEADER = "source,target,distance,fare";
+
+    private RouteMatrixWriter() {
+    }
+
+    // 출발역-도착역 쌍마다 한 줄씩 기록하며, 도달할 수 없는 쌍의 거리와 요금은 -1이다.
+    static void writeCsv(RouteMatrix routeMatrix, OutputStream outputStream) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.newLine();
+        List<Station> sources = routeMatrix.getSources();
+        List<Station> targets = routeMatrix.getTargets();
+        for (int row = 0; row < sources.size(); row++) {
+            for (int column = 0; column < targets.size(); column++) {
+                writer.write(sources.get(row).getId() + "," + targets.get(column).getId() + ","
+                        + routeMatrix.getDistance(row, column) + "," + routeMatrix.getFare(row, column));
+                writer.newLine();
+            }
+        }
+        writer.flush();
+    }
+
+    // 빅엔디안으로 행과 열의 수, 출발역과 도착역의 id, 행 우선 순서의 (거리, 요금) 쌍을 차례로 기록한다.
+    static void writeBinary(RouteMatrix routeMatrix, OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        List<Station> sources = routeMatrix.getSources();
+        List<Station> targets = routeMatrix.getTargets();
+        output.writeInt(sources.size());
+        output.writeInt(targets.size());
+        for (Station source : sources) {
+            output.writeLong(source.getId());
+        }
+        for (Station target : targets) {
+            output.writeLong(target.getId());
+        }
+        for (int row = 0; row < sources.size(); row++) {
+            for (int column = 0; column < targets.size(); column++) {
+                output.writeInt(routeMatrix.getDistance(row, column));
+                output.writeInt(routeMatrix.getFare(row, column));
+            }
+        }
+        output.flush();
+    }
+}
@@ -24,3 +24,13 @@ CREATE TABLE IF NOT EXISTS section
     PRIMARY KEY(id),
     UNIQUE KEY unique_section (line_id, up_station_id, down_station_id)
 );
+
+CREATE TABLE IF NOT EXISTS timetable
+(
+    line_id BIGINT NOT NULL,
+    first_departure TIME NOT NULL,
+    last_departure TIME NOT NULL,
+    headway INT NOT NULL,
+    speed INT NOT NULL,
+    PRIMARY KEY(line_id)
+);
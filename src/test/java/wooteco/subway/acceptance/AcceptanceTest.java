@@ -14,7 +14,11 @@ import org.springframework.boot.web.server.LocalServerPort;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
+import wooteco.subway.domain.path.Disruption;
 import wooteco.subway.fixture.DatabaseFixtureUtils;
+import wooteco.subway.repository.RouteCacheRepository;
+import wooteco.subway.repository.RoutingSnapshotRepository;
+import wooteco.subway.repository.StationRepository;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @TestInstance(Lifecycle.PER_CLASS)
@@ -29,6 +33,15 @@ public class AcceptanceTest {
     @Autowired
     protected DatabaseFixtureUtils databaseFixtureUtils;
 
+    @Autowired
+    protected RoutingSnapshotRepository routingSnapshotRepository;
+
+    @Autowired
+    protected RouteCacheRepository routeCacheRepository;
+
+    @Autowired
+    protected StationRepository stationRepository;
+
     @LocalServerPort
     private int port;
 
@@ -49,5 +62,9 @@ public class AcceptanceTest {
         try (Connection connection = dataSource.getConnection()) {
             ScriptUtils.executeSqlScript(connection, new ClassPathResource("cleanse_test_db.sql"));
         }
+        routingSnapshotRepository.invalidate();
+        routingSnapshotRepository.changeDisruption(disruption -> Disruption.NONE);
+        routeCacheRepository.invalidateAll();
+        stationRepository.invalidateCache();
     }
 }
@@ -0,0 +1,171 @@
+package wooteco.subway.acceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.dto.response.ClosedSectionResponse;
+import wooteco.subway.dto.response.DisruptionResponse;
+import wooteco.subway.entity.LineEntity;
+import wooteco.utils.HttpMethod;
+import wooteco.utils.HttpUtils;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayName("인수테스트 - /disruptions")
+public class DisruptionAcceptanceTest extends AcceptanceTest {
+
+    private static final String 강남_잠실_경로 = "/paths?source=1&target=3&age=30";
+
+    private final Station 강남역 = new Station(1L, "강남역");
+    private final Station 선릉역 = new Station(2L, "선릉역");
+    private final Station 잠실역 = new Station(3L, "잠실역");
+    private final Station 청계산입구역 = new Station(4L, "청계산입구역");
+
+    @BeforeEach
+    void setUpLines() {
+        databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역, 청계산입구역);
+        databaseFixtureUtils.saveLines(new LineEntity("노선", "색상", 0), new LineEntity("다른 노선", "다른 색상", 0));
+        databaseFixtureUtils.saveSections(new Section(1L, 강남역, 선릉역, 10), new Section(1L, 선릉역, 잠실역, 5),
+                new Section(2L, 강남역, 청계산입구역, 10), new Section(2L, 청계산입구역, 잠실역, 10));
+    }
+
+    @DisplayName("PUT /disruptions/stations/{stationId} - 역 운행 중단 테스트")
+    @Nested
+    class CloseStationTest {
+
+        @Test
+        void 역을_제외하면_이미_조회한_경로도_해당_역을_우회하여_200_OK() {
+            HttpUtils.send(HttpMethod.GET, 강남_잠실_경로);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.PUT, "/disruptions/stations/2");
+            ExtractableResponse<Response> pathResponse = HttpUtils.send(HttpMethod.GET, 강남_잠실_경로);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(pathResponse.jsonPath().getInt("distance")).isEqualTo(20);
+        }
+
+        @Test
+        void 제외된_역을_출발역으로_조회하는_경우_400_BAD_REQUEST() {
+            HttpUtils.send(HttpMethod.PUT, "/disruptions/stations/1");
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET, 강남_잠실_경로);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+
+        @Test
+        void 존재하지_않는_역을_제외하려는_경우_404_NOT_FOUND() {
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.PUT, "/disruptions/stations/99");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        }
+    }
+
+    @DisplayName("DELETE /disruptions/stations/{stationId} - 역 운행 재개 테스트")
+    @Nested
+    class ReopenStationTest {
+
+        @Test
+        void 제외된_역을_다시_개방하면_우회하던_경로_대신_최단경로를_200_OK() {
+            HttpUtils.send(HttpMethod.PUT, "/disruptions/stations/2");
+            HttpUtils.send(HttpMethod.GET, 강남_잠실_경로);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.DELETE, "/disruptions/stations/2");
+            ExtractableResponse<Response> pathResponse = HttpUtils.send(HttpMethod.GET, 강남_잠실_경로);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(pathResponse.jsonPath().getInt("distance")).isEqualTo(15);
+        }
+    }
+
+    @DisplayName("PUT /disruptions/lines/{lineId}/sections - 구간 운행 중단 테스트")
+    @Nested
+    class CloseSectionTest {
+
+        @Test
+        void 구간을_제외하면_해당_구간을_우회하여_200_OK() {
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.PUT,
+                    "/disruptions/lines/1/sections?upStationId=2&downStationId=3");
+            ExtractableResponse<Response> pathResponse = HttpUtils.send(HttpMethod.GET, 강남_잠실_경로);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(pathResponse.jsonPath().getInt("distance")).isEqualTo(20);
+        }
+
+        @Test
+        void 노선에_등록되지_않은_구간을_제외하려는_경우_400_BAD_REQUEST() {
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.PUT,
+                    "/disruptions/lines/1/sections?upStationId=1&downStationId=3");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+
+        @Test
+        void 존재하지_않는_노선의_구간을_제외하려는_경우_404_NOT_FOUND() {
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.PUT,
+                    "/disruptions/lines/99/sections?upStationId=2&downStationId=3");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        }
+    }
+
+    @DisplayName("DELETE /disruptions/lines/{lineId}/sections - 구간 운행 재개 테스트")
+    @Nested
+    class ReopenSectionTest {
+
+        @Test
+        void 하행역부터_입력하더라도_제외된_구간을_다시_개방하여_200_OK() {
+            HttpUtils.send(HttpMethod.PUT, "/disruptions/lines/1/sections?upStationId=2&downStationId=3");
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.DELETE,
+                    "/disruptions/lines/1/sections?upStationId=3&downStationId=2");
+            ExtractableResponse<Response> pathResponse = HttpUtils.send(HttpMethod.GET, 강남_잠실_경로);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(pathResponse.jsonPath().getInt("distance")).isEqualTo(15);
+        }
+    }
+
+    @DisplayName("GET /disruptions - 운행 중단 목록 조회 테스트")
+    @Nested
+    class ShowDisruptionTest {
+
+        @Test
+        void 제외된_역과_구간의_목록을_200_OK() {
+            HttpUtils.send(HttpMethod.PUT, "/disruptions/stations/4");
+            HttpUtils.send(HttpMethod.PUT, "/disruptions/lines/1/sections?upStationId=2&downStationId=3");
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET, "/disruptions");
+            DisruptionResponse actualBody = response.jsonPath().getObject(".", DisruptionResponse.class);
+            DisruptionResponse expectedBody = new DisruptionResponse(List.of(4L),
+                    List.of(new ClosedSectionResponse(1L, 2L, 3L, true)));
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualBody).isEqualTo(expectedBody);
+        }
+
+        @Test
+        void 제외한_이후_나뉘어_더_이상_등록되지_않은_구간은_등록되지_않은_구간으로_200_OK() {
+            HttpUtils.send(HttpMethod.PUT, "/disruptions/lines/1/sections?upStationId=2&downStationId=3");
+            HttpUtils.send(HttpMethod.POST, "/lines/1/sections",
+                    Map.of("upStationId", 2L, "downStationId", 4L, "distance", 2));
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET, "/disruptions");
+            DisruptionResponse actualBody = response.jsonPath().getObject(".", DisruptionResponse.class);
+            DisruptionResponse expectedBody = new DisruptionResponse(List.of(),
+                    List.of(new ClosedSectionResponse(1L, 2L, 3L, false)));
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualBody).isEqualTo(expectedBody);
+        }
+    }
+}
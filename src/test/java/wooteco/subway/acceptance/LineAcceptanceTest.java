@@ -266,6 +266,68 @@ public class LineAcceptanceTest extends AcceptanceTest {
         }
     }
 
+    @DisplayName("PUT /lines/:id/timetable - 지하철 노선 시간표 등록 테스트")
+    @Nested
+    class UpdateTimetableTest {
+
+        @Test
+        void 성공시_200_OK() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("신분당선", "노란색", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            Map<String, Object> params = jsonTimetableOf("05:30", "23:00", 10);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.PUT, toPath(1L), params);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        }
+
+        @Test
+        void 시간표를_등록하려는_지하철_노선이_존재하지_않는_경우_404_NOT_FOUND() {
+            Map<String, Object> params = jsonTimetableOf("05:30", "23:00", 10);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.PUT, toPath(9999L), params);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        }
+
+        @Test
+        void 출발_시각의_형식이_올바르지_않은_경우_400_BAD_REQUEST() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("신분당선", "노란색", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            Map<String, Object> params = jsonTimetableOf("5시 30분", "23:00", 10);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.PUT, toPath(1L), params);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+
+        @Test
+        void 배차_간격이_1분_미만인_경우_400_BAD_REQUEST() {
+            Map<String, Object> params = jsonTimetableOf("05:30", "23:00", 0);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.PUT, toPath(1L), params);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+
+        private String toPath(Long id) {
+            return String.format("/lines/%d/timetable", id);
+        }
+
+        private HashMap<String, Object> jsonTimetableOf(String firstDeparture,
+                                                        String lastDeparture,
+                                                        int headway) {
+            return new HashMap<>() {{
+                put("firstDeparture", firstDeparture);
+                put("lastDeparture", lastDeparture);
+                put("headway", headway);
+                put("speed", 60);
+            }};
+        }
+    }
+
     @DisplayName("DELETE /lines/:id - 지하철 노선 제거 테스트")
     @Nested
     class DeleteLineTest {
@@ -4,7 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -12,6 +19,9 @@ import org.springframework.http.HttpStatus;
 import wooteco.subway.domain.section.Section;
 import wooteco.subway.domain.station.Station;
 import wooteco.subway.dto.response.PathResponse;
+import wooteco.subway.dto.response.ReachableStationResponse;
+import wooteco.subway.dto.response.RouteMatrixResponse;
+import wooteco.subway.dto.response.ScheduledPathResponse;
 import wooteco.subway.dto.response.StationResponse;
 import wooteco.subway.entity.LineEntity;
 import wooteco.utils.HttpMethod;
@@ -80,11 +90,402 @@ public class PathAcceptanceTest extends AcceptanceTest {
             assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
         }
 
+        @Test
+        void 최소_환승_방식으로_조회하면_환승이_적은_경로와_환승_횟수를_200_OK() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역, 청계산입구역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveLineTestFixture("다른 노선", "다른 색상", 0);
+            saveSectionTestFixture(1L, 강남역, 잠실역, 30);
+            saveSectionTestFixture(2L, 강남역, 선릉역, 5);
+            saveSectionTestFixture(1L, 잠실역, 청계산입구역, 5);
+            saveSectionTestFixture(2L, 선릉역, 청계산입구역, 5);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    toPath(1L, 3L, 30) + "&mode=MIN_TRANSFER");
+            PathResponse actualBody = response.jsonPath().getObject(".", PathResponse.class);
+            PathResponse expectedBody = new PathResponse(
+                    List.of(new StationResponse(1L, "강남역"), new StationResponse(3L, "잠실역")), 30, 1650, 0);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualBody).isEqualTo(expectedBody);
+        }
+
+        @Test
+        void 최저_요금_방식으로_조회하면_거리가_멀더라도_요금이_저렴한_경로를_200_OK() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveLineTestFixture("급행노선", "다른 색상", 900);
+            saveSectionTestFixture(2L, 강남역, 잠실역, 10);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 10);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    toPath(1L, 3L, 30) + "&mode=CHEAPEST");
+            PathResponse actualBody = response.jsonPath().getObject(".", PathResponse.class);
+            PathResponse expectedBody = new PathResponse(
+                    List.of(new StationResponse(1L, "강남역"), new StationResponse(2L, "선릉역"),
+                            new StationResponse(3L, "잠실역")), 20, 1450, 0);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualBody).isEqualTo(expectedBody);
+        }
+
+        @Test
+        void 지원하지_않는_경로_탐색_방식이_입력된_경우_400_BAD_REQUEST() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    toPath(1L, 2L, 30) + "&mode=FASTEST");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+
         private String toPath(Long source, Long target, int age) {
             return String.format("/paths?source=%d&target=%d&age=%d", source, target, age);
         }
     }
 
+    @DisplayName("GET /paths/from/{source}?age={age} - 출발역 기준 전체 경로 조회 테스트")
+    @Nested
+    class SearchFromTest {
+
+        @Test
+        void 도달_가능한_모든_역의_거리와_요금을_가까운_순서대로_200_OK() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역, 청계산입구역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 5);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET, "/paths/from/1?age=30");
+            List<ReachableStationResponse> actualBody = response.jsonPath()
+                    .getList(".", ReachableStationResponse.class);
+            List<ReachableStationResponse> expectedBody = List.of(
+                    new ReachableStationResponse(new StationResponse(2L, "선릉역"), 10, 1250),
+                    new ReachableStationResponse(new StationResponse(3L, "잠실역"), 15, 1350));
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualBody).isEqualTo(expectedBody);
+        }
+
+        @Test
+        void 존재하지_않는_지하철역이_입력된_경우_404_NOT_FOUND() {
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET, "/paths/from/1?age=30");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        }
+    }
+
+    @DisplayName("GET /paths/alternatives?source={source}&target={target}&k={k}&age={age} - 대안 경로 조회 테스트")
+    @Nested
+    class SearchAlternativesTest {
+
+        @Test
+        void 최단경로부터_거리_순서대로_경로별_거리와_요금을_200_OK() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 5);
+            saveSectionTestFixture(1L, 강남역, 잠실역, 20);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    "/paths/alternatives?source=1&target=3&k=5&age=30");
+            List<PathResponse> actualBody = response.jsonPath().getList(".", PathResponse.class);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualBody).extracting(PathResponse::getDistance).containsExactly(15, 20);
+            assertThat(actualBody).extracting(PathResponse::getFare).containsExactly(1350, 1450);
+        }
+
+        @Test
+        void 경로의_개수가_범위를_벗어나는_경우_400_BAD_REQUEST() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    "/paths/alternatives?source=1&target=2&k=0&age=30");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    @DisplayName("GET /paths?source={source}&target={target}&age={age}&departAt={departAt} - 출발 시각 기준 경로 조회 테스트")
+    @Nested
+    class SearchScheduledTest {
+
+        @Test
+        void 출발_시각_이후_가장_먼저_도착하는_경로와_출발_도착_시각을_200_OK() {
+            saveScheduledTestFixture();
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    toPath(1L, 3L, 30) + "&departAt=05:35");
+            ScheduledPathResponse actualBody = response.jsonPath().getObject(".", ScheduledPathResponse.class);
+            ScheduledPathResponse expectedBody = new ScheduledPathResponse(
+                    List.of(new StationResponse(1L, "강남역"), new StationResponse(2L, "선릉역"),
+                            new StationResponse(3L, "잠실역")), 15, 1350, 0, "05:40", "05:55");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualBody).isEqualTo(expectedBody);
+        }
+
+        @Test
+        void 막차가_떠난_이후의_출발_시각이_입력된_경우_400_BAD_REQUEST() {
+            saveScheduledTestFixture();
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    toPath(1L, 3L, 30) + "&departAt=23:30");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+
+        @Test
+        void 출발_시각과_경로_탐색_방식이_함께_입력된_경우_400_BAD_REQUEST() {
+            saveScheduledTestFixture();
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    toPath(1L, 3L, 30) + "&departAt=05:35&mode=MIN_TRANSFER");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+
+        @Test
+        void 출발_시각의_형식이_올바르지_않은_경우_400_BAD_REQUEST() {
+            saveScheduledTestFixture();
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    toPath(1L, 3L, 30) + "&departAt=0535");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+
+        private void saveScheduledTestFixture() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 5);
+            HttpUtils.send(HttpMethod.PUT, "/lines/1/timetable", Map.of(
+                    "firstDeparture", "05:30", "lastDeparture", "23:00", "headway", 10, "speed", 60));
+        }
+    }
+
+    @DisplayName("GET /paths/pareto?source={source}&target={target}&age={age} - 파레토 최적 경로 조회 테스트")
+    @Nested
+    class SearchParetoTest {
+
+        @Test
+        void 거리와_요금이_서로_우세한_경로들을_거리_순서대로_200_OK() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveLineTestFixture("급행노선", "색상2", 900);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 5);
+            saveSectionTestFixture(2L, 강남역, 잠실역, 10);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    "/paths/pareto?source=1&target=3&age=30");
+            List<PathResponse> actualBody = response.jsonPath().getList(".", PathResponse.class);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualBody).extracting(PathResponse::getDistance).containsExactly(10, 15);
+            assertThat(actualBody).extracting(PathResponse::getFare).containsExactly(2150, 1350);
+        }
+
+        @Test
+        void 존재하지_않는_지하철역이_입력된_경우_404_NOT_FOUND() {
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    "/paths/pareto?source=1&target=3&age=30");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        }
+    }
+
+    @DisplayName("GET /paths/reachable?source={source}&maxDistance={maxDistance}&maxFare={maxFare}&age={age} - 예산 이내 도달 가능한 역 조회 테스트")
+    @Nested
+    class SearchReachableTest {
+
+        @Test
+        void 최대_거리_이내의_역들을_가까운_순서대로_200_OK() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 5);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    "/paths/reachable?source=1&maxDistance=10&age=30");
+            List<ReachableStationResponse> actualBody = response.jsonPath()
+                    .getList(".", ReachableStationResponse.class);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualBody).containsExactly(
+                    new ReachableStationResponse(new StationResponse(2L, "선릉역"), 10, 1250));
+        }
+
+        @Test
+        void 최대_거리와_최대_요금이_모두_없는_경우_400_BAD_REQUEST() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                    "/paths/reachable?source=1&age=30");
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    @DisplayName("POST /paths/matrix - 출발역과 도착역 사이의 거리 및 요금 행렬 조회 테스트")
+    @Nested
+    class SearchMatrixTest {
+
+        private final Map<String, Object> 행렬_요청 = Map.of(
+                "sources", List.of(1, 2), "targets", List.of(3, 4), "age", 30);
+
+        @Test
+        void 행렬_조회_성공시_200_OK() {
+            saveMatrixTestFixture();
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.POST, "/paths/matrix", 행렬_요청);
+            RouteMatrixResponse actualBody = response.jsonPath().getObject(".", RouteMatrixResponse.class);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualBody.getDistances()).isEqualTo(new int[][]{{15, -1}, {5, -1}});
+            assertThat(actualBody.getFares()).isEqualTo(new int[][]{{1350, -1}, {1250, -1}});
+        }
+
+        @Test
+        void CSV_형식으로_조회시_출발역과_도착역_쌍마다_한_줄씩_반환() {
+            saveMatrixTestFixture();
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.POST,
+                    "/paths/matrix?format=csv", 행렬_요청);
+            List<String> actualLines = List.of(response.asString().split("\\R"));
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualLines).containsExactly("source,target,distance,fare",
+                    "1,3,15,1350", "1,4,-1,-1", "2,3,5,1250", "2,4,-1,-1");
+        }
+
+        @Test
+        void 존재하지_않는_지하철역이_입력된_경우_404_NOT_FOUND() {
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.POST, "/paths/matrix", 행렬_요청);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        }
+
+        private void saveMatrixTestFixture() {
+            Station 양재역 = new Station(5L, "양재역");
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역, 청계산입구역, 양재역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveLineTestFixture("다른 노선", "다른 색상", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 5);
+            saveSectionTestFixture(2L, 청계산입구역, 양재역, 5);
+        }
+    }
+
+    @DisplayName("POST /paths/batch - 여러 경로 일괄 조회 테스트")
+    @Nested
+    class BatchSearchTest {
+
+        @Test
+        void 일괄_조회시_경로별_결과와_함께_200_OK() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 5);
+
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.POST, "/paths/batch",
+                    Map.of("queries", List.of(
+                            Map.of("source", 1, "target", 3, "age", 30),
+                            Map.of("source", 1, "target", 4, "age", 30))));
+            List<Integer> actualStatuses = response.jsonPath().getList("results.status", Integer.class);
+            PathResponse actualPath = response.jsonPath().getObject("results[0].path", PathResponse.class);
+            PathResponse expectedPath = new PathResponse(
+                    List.of(new StationResponse(1L, "강남역"), new StationResponse(2L, "선릉역"),
+                            new StationResponse(3L, "잠실역")), 15, 1350);
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(actualStatuses).containsExactly(HttpStatus.OK.value(), HttpStatus.NOT_FOUND.value());
+            assertThat(actualPath).isEqualTo(expectedPath);
+        }
+
+        @Test
+        void 조회할_경로가_없는_경우_400_BAD_REQUEST() {
+            ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.POST, "/paths/batch",
+                    Map.of("queries", List.of()));
+
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    @DisplayName("구간 변경과 동시에 이루어지는 경로 조회 테스트")
+    @Nested
+    class ConcurrentUpdateTest {
+
+        private static final int READER_COUNT = 4;
+        private static final int UPDATE_COUNT = 20;
+
+        @Test
+        void 구간이_변경되는_동안에도_모든_경로_조회가_200_OK이며_변경이_반영됨() throws Exception {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색상", 0);
+            saveSectionTestFixture(1L, 강남역, 잠실역, 15);
+            ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT);
+            AtomicBoolean updating = new AtomicBoolean(true);
+            List<Future<List<Integer>>> readers = new ArrayList<>();
+            for (int i = 0; i < READER_COUNT; i++) {
+                readers.add(executor.submit(() -> searchWhile(updating)));
+            }
+
+            try {
+                for (int i = 0; i < UPDATE_COUNT; i++) {
+                    splitAndMergeSection();
+                }
+            } finally {
+                updating.set(false);
+                executor.shutdown();
+            }
+
+            for (Future<List<Integer>> reader : readers) {
+                assertThat(reader.get(1, TimeUnit.MINUTES)).containsOnly(HttpStatus.OK.value());
+            }
+        }
+
+        // 구간이 추가된 동안에만 선릉역까지의 경로가 존재하며, 삭제 이후에도 남아 있다면 간선이 중복으로 추가된 것이다.
+        private void splitAndMergeSection() {
+            ExtractableResponse<Response> saved = HttpUtils.send(HttpMethod.POST, "/lines/1/sections",
+                    Map.of("upStationId", 1L, "downStationId", 2L, "distance", 10));
+            ExtractableResponse<Response> split = HttpUtils.send(HttpMethod.GET,
+                    "/paths?source=1&target=2&age=30");
+            ExtractableResponse<Response> deleted = HttpUtils.send(HttpMethod.DELETE,
+                    "/lines/1/sections?stationId=2");
+            ExtractableResponse<Response> merged = HttpUtils.send(HttpMethod.GET,
+                    "/paths?source=1&target=2&age=30");
+
+            assertThat(saved.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(split.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(split.jsonPath().getInt("distance")).isEqualTo(10);
+            assertThat(deleted.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(merged.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        }
+
+        // 선릉역 구간의 추가 여부와 무관하게 강남역에서 잠실역까지의 거리는 언제나 15이다.
+        private List<Integer> searchWhile(AtomicBoolean updating) {
+            List<Integer> statuses = new ArrayList<>();
+            do {
+                ExtractableResponse<Response> response = HttpUtils.send(HttpMethod.GET,
+                        "/paths?source=1&target=3&age=30");
+                statuses.add(response.statusCode());
+                if (response.statusCode() == HttpStatus.OK.value()) {
+                    assertThat(response.jsonPath().getInt("distance")).isEqualTo(15);
+                }
+            } while (updating.get());
+            return statuses;
+        }
+    }
+
     private void saveLineTestFixture(String name, String color, int extraFare) {
         databaseFixtureUtils.saveLines(new LineEntity(name, color, extraFare));
     }
@@ -0,0 +1,52 @@
+package wooteco.subway.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import wooteco.subway.domain.line.LineTimetable;
+import wooteco.subway.fixture.DatabaseUsageTest;
+
+@SuppressWarnings("NonAsciiCharacters")
+class TimetableDaoTest extends DatabaseUsageTest {
+
+    @Autowired
+    private TimetableDao dao;
+
+    @Test
+    void findAll_메서드는_등록된_모든_노선의_시간표를_조회() {
+        dao.save(LineTimetable.of(1L, "05:30", "23:00", 10, 35));
+        dao.save(LineTimetable.of(2L, "06:00", "22:30", 5, 40));
+
+        List<LineTimetable> actual = dao.findAll();
+        List<LineTimetable> expected = List.of(
+                LineTimetable.of(1L, "05:30", "23:00", 10, 35),
+                LineTimetable.of(2L, "06:00", "22:30", 5, 40));
+
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void save_메서드는_이미_시간표가_등록된_노선이라면_새로운_시간표로_덮어씀() {
+        dao.save(LineTimetable.of(1L, "05:30", "23:00", 10, 35));
+        dao.save(LineTimetable.of(1L, "06:00", "22:30", 5, 40));
+
+        List<LineTimetable> actual = dao.findAll();
+        List<LineTimetable> expected = List.of(LineTimetable.of(1L, "06:00", "22:30", 5, 40));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void deleteByLineId_메서드는_해당_노선의_시간표만_삭제() {
+        dao.save(LineTimetable.of(1L, "05:30", "23:00", 10, 35));
+        dao.save(LineTimetable.of(2L, "06:00", "22:30", 5, 40));
+
+        dao.deleteByLineId(1L);
+        List<LineTimetable> actual = dao.findAll();
+        List<LineTimetable> expected = List.of(LineTimetable.of(2L, "06:00", "22:30", 5, 40));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+}
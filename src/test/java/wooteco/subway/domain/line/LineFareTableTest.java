@@ -0,0 +1,47 @@
+package wooteco.subway.domain.line;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+@SuppressWarnings("NonAsciiCharacters")
+class LineFareTableTest {
+
+    private final LineFareTable table = LineFareTable.of(Map.of(3L, 900, 1L, 0, 2L, 500));
+
+    @Test
+    void findExtraFares_메서드는_id_목록에_해당되는_노선들의_추가요금_정보들을_반환() {
+        List<LineExtraFare> actual = table.findExtraFares(List.of(2L, 3L));
+        List<LineExtraFare> expected = List.of(new LineExtraFare(500), new LineExtraFare(900));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void findExtraFares_메서드는_등록되지_않은_노선의_id를_결과에서_제외() {
+        List<LineExtraFare> actual = table.findExtraFares(List.of(1L, 4L));
+        List<LineExtraFare> expected = List.of(new LineExtraFare(0));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void findExtraFareOf_메서드는_구간이_속한_노선의_추가요금을_반환() {
+        Section section = new Section(2L, new Station(1L, "강남역"), new Station(2L, "선릉역"), 10);
+
+        assertThat(table.findExtraFareOf(section)).isEqualTo(500);
+    }
+
+    @Test
+    void findExtraFareOf_메서드는_노선이_지정되지_않았거나_등록되지_않은_노선의_구간에_추가요금이_없는_것으로_반환() {
+        Station 강남역 = new Station(1L, "강남역");
+        Station 선릉역 = new Station(2L, "선릉역");
+
+        assertThat(table.findExtraFareOf(new Section(강남역, 선릉역, 10))).isZero();
+        assertThat(table.findExtraFareOf(new Section(4L, 강남역, 선릉역, 10))).isZero();
+    }
+}
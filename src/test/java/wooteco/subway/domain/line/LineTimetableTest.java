@@ -0,0 +1,46 @@
+package wooteco.subway.domain.line;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+class LineTimetableTest {
+
+    @Test
+    void 첫차부터_막차까지_배차_간격마다_출발하는_열차의_수를_반환() {
+        LineTimetable lineTimetable = LineTimetable.of(1L, "05:30", "06:30", 10, 60);
+
+        assertThat(lineTimetable.getTripCount()).isEqualTo(7);
+    }
+
+    @Test
+    void 구간을_지나는_시간은_분_단위로_올림() {
+        LineTimetable lineTimetable = LineTimetable.of(1L, "05:30", "23:00", 10, 40);
+
+        assertThat(lineTimetable.calculateRunningSeconds(10)).isEqualTo(15 * 60);
+        assertThat(lineTimetable.calculateRunningSeconds(11)).isEqualTo(17 * 60);
+    }
+
+    @Test
+    void 시각의_형식이_올바르지_않은_경우_예외발생() {
+        assertThatThrownBy(() -> LineTimetable.of(1L, "5:30", "23:00", 10, 40))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("첫차와 막차 출발 시각은 HH:mm 형식이어야 합니다.");
+    }
+
+    @Test
+    void 막차가_첫차보다_먼저_출발하는_경우_예외발생() {
+        assertThatThrownBy(() -> LineTimetable.of(1L, "23:00", "05:30", 10, 40))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("막차 출발 시각은 첫차 출발 시각보다 이를 수 없습니다.");
+    }
+
+    @Test
+    void 배차_간격이_1분_미만인_경우_예외발생() {
+        assertThatThrownBy(() -> LineTimetable.of(1L, "05:30", "23:00", 0, 40))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("배차 간격은 1분 이상이어야 합니다.");
+    }
+}
@@ -0,0 +1,135 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.line.Line;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@SuppressWarnings("NonAsciiCharacters")
+class CheapestPathFinderTest {
+
+    private static final long SEED = 20220517L;
+    private static final int NETWORK_COUNT = 50;
+    private static final int LINE_COUNT = 5;
+    private static final int STATION_COUNT = 12;
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 역삼역 = new Station(2L, "역삼역");
+    private static final Station 선릉역 = new Station(3L, "선릉역");
+    private static final Station 잠실역 = new Station(4L, "잠실역");
+    private static final Station 양재역 = new Station(5L, "양재역");
+
+    private final Section 강남_역삼 = new Section(1L, 강남역, 역삼역, 10);
+    private final Section 역삼_선릉 = new Section(1L, 역삼역, 선릉역, 10);
+    private final Section 선릉_잠실 = new Section(1L, 선릉역, 잠실역, 10);
+    private final Section 강남_양재 = new Section(2L, 강남역, 양재역, 5);
+    private final Section 양재_잠실 = new Section(2L, 양재역, 잠실역, 5);
+    private final List<Section> sections = List.of(강남_역삼, 역삼_선릉, 선릉_잠실, 강남_양재, 양재_잠실);
+
+    @Test
+    void 거리가_더_멀더라도_요금이_저렴한_경로를_반환() {
+        Navigator navigator = new Navigator(sections);
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0, 2L, 900));
+
+        Path actual = navigator.calculateCheapestPath(강남역, 잠실역, lineFareTable);
+
+        assertThat(actual.toStations()).containsExactly(강남역, 역삼역, 선릉역, 잠실역);
+        assertThat(actual.calculateBaseFare(lineFareTable.findExtraFares(actual.getPassingLineIds())).toInt())
+                .isEqualTo(1650);
+    }
+
+    @Test
+    void 노선이_지정되지_않은_구간은_추가요금이_없는_것으로_탐색() {
+        Navigator navigator = new Navigator(List.of(new Section(강남역, 잠실역, 40), 강남_양재, 양재_잠실));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(2L, 900));
+
+        Path actual = navigator.calculateCheapestPath(강남역, 잠실역, lineFareTable);
+
+        assertThat(actual.toStations()).containsExactly(강남역, 잠실역);
+    }
+
+    @Test
+    void 우회하는_거리의_추가_요금이_노선_추가_요금보다_크면_최단경로를_반환() {
+        Navigator navigator = new Navigator(sections);
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0, 2L, 300));
+
+        Path actual = navigator.calculateCheapestPath(강남역, 잠실역, lineFareTable);
+
+        assertThat(actual.toStations()).containsExactly(강남역, 양재역, 잠실역);
+    }
+
+    @Test
+    void 추가_요금_정보_없이_최저_요금_경로를_조회하려는_경우_예외발생() {
+        Navigator navigator = new Navigator(sections);
+
+        assertThatThrownBy(() -> navigator.calculateShortestPath(강남역, 잠실역, RoutingMode.CHEAPEST))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("최저 요금 경로는 노선별 추가 요금 정보와 함께 조회해야 합니다.");
+    }
+
+    @Test
+    void 무작위로_생성된_노선도에서_모든_단순_경로_중_가장_낮은_요금의_경로를_반환() {
+        for (int i = 0; i < NETWORK_COUNT; i++) {
+            SubwayNetwork network = new SubwayNetworkGenerator(SEED + i).generate(LINE_COUNT, STATION_COUNT);
+            List<Section> networkSections = network.toSections();
+            LineFareTable lineFareTable = LineFareTable.of(network.getLines()
+                    .stream()
+                    .collect(Collectors.toMap(Line::getId, Line::getExtraFare)));
+            Navigator navigator = new Navigator(networkSections);
+            Station source = network.getStations().get(0);
+            Station target = network.getStations().get(STATION_COUNT - 1);
+
+            Path actual = navigator.calculateCheapestPath(source, target, lineFareTable);
+            int expected = allSimplePaths(networkSections, source, target).stream()
+                    .mapToInt(path -> fareOf(path, lineFareTable))
+                    .min()
+                    .orElseThrow();
+
+            assertThat(fareOf(actual, lineFareTable)).isEqualTo(expected);
+        }
+    }
+
+    private int fareOf(Path path, LineFareTable lineFareTable) {
+        return path.calculateBaseFare(lineFareTable.findExtraFares(path.getPassingLineIds())).toInt();
+    }
+
+    private List<Path> allSimplePaths(List<Section> sections, Station source, Station target) {
+        List<Path> paths = new ArrayList<>();
+        Set<Station> visited = new HashSet<>();
+        visited.add(source);
+        collectPaths(sections, source, source, target, visited, new ArrayList<>(), paths);
+        return paths;
+    }
+
+    private void collectPaths(List<Section> sections, Station source, Station current, Station target,
+                              Set<Station> visited, List<Section> route, List<Path> paths) {
+        if (current.equals(target)) {
+            paths.add(new Path(source, target, List.copyOf(route)));
+            return;
+        }
+        for (Section section : sections) {
+            if (!section.hasStationOf(current)) {
+                continue;
+            }
+            Station next = section.getOppositeEnd(current);
+            if (visited.add(next)) {
+                route.add(section);
+                collectPaths(sections, source, next, target, visited, route, paths);
+                route.remove(route.size() - 1);
+                visited.remove(next);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+@SuppressWarnings("NonAsciiCharacters")
+class ContractionHierarchyTest {
+
+    private static final int SIZE = 5;
+
+    private final Station[] stations = new Station[SIZE * SIZE];
+    private final SectionGraph graph = SectionGraph.of(격자_구간들());
+
+    private List<Section> 격자_구간들() {
+        for (int i = 0; i < stations.length; i++) {
+            stations[i] = new Station((long) i + 1, "역" + i);
+        }
+        List<Section> sections = new ArrayList<>();
+        for (int row = 0; row < SIZE; row++) {
+            for (int column = 0; column < SIZE; column++) {
+                int index = row * SIZE + column;
+                if (column + 1 < SIZE) {
+                    sections.add(new Section((long) row + 1, stations[index], stations[index + 1], 1 + index % 3));
+                }
+                if (row + 1 < SIZE) {
+                    sections.add(new Section((long) SIZE + column + 1, stations[index], stations[index + SIZE], 2));
+                }
+            }
+        }
+        return sections;
+    }
+
+    @Test
+    void 축약_과정에서_지름길이_추가되고_전처리_통계가_기록됨() {
+        ContractionHierarchy hierarchy = ContractionHierarchy.contract(graph);
+
+        assertThat(hierarchy.getShortcutCount()).isGreaterThan(0);
+        assertThat(hierarchy.getPreprocessingNanos()).isGreaterThan(0L);
+        assertThat(hierarchy.getCoreSize()).isLessThanOrEqualTo(graph.getStationCount());
+    }
+
+    @Test
+    void 지름길을_거친_경로는_이어진_원본_구간들로_복원됨() {
+        PathFinder pathFinder = new ContractionHierarchyPathFinder(graph);
+        int source = graph.indexOf(stations[0]);
+        int target = graph.indexOf(stations[stations.length - 1]);
+
+        List<Section> actual = pathFinder.findRoute(source, target).toSections(graph);
+        List<Section> expected = new DijkstraPathFinder(graph).findRoute(source, target).toSections(graph);
+
+        assertThat(totalDistanceOf(actual)).isEqualTo(totalDistanceOf(expected));
+        assertThat(isContinuous(actual, stations[0])).isTrue();
+    }
+
+    private int totalDistanceOf(List<Section> sections) {
+        return sections.stream()
+                .mapToInt(Section::getDistance)
+                .sum();
+    }
+
+    private boolean isContinuous(List<Section> sections, Station source) {
+        Station current = source;
+        for (Section section : sections) {
+            if (section.getUpStation().equals(current)) {
+                current = section.getDownStation();
+            } else if (section.getDownStation().equals(current)) {
+                current = section.getUpStation();
+            } else {
+                return false;
+            }
+        }
+        return current.equals(stations[stations.length - 1]);
+    }
+}
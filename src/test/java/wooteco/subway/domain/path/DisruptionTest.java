@@ -0,0 +1,227 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.line.LineTimetable;
+import wooteco.subway.domain.line.Timetable;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@SuppressWarnings("NonAsciiCharacters")
+class DisruptionTest {
+
+    private static final long SEED = 20220517L;
+    private static final int NETWORK_COUNT = 30;
+    private static final int QUERY_COUNT = 20;
+    private static final int LINE_COUNT = 5;
+    private static final int STATION_COUNT = 12;
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 역삼역 = new Station(2L, "역삼역");
+    private static final Station 선릉역 = new Station(3L, "선릉역");
+    private static final Station 잠실역 = new Station(4L, "잠실역");
+    private static final Station 양재역 = new Station(5L, "양재역");
+
+    private final Section 강남_역삼 = new Section(1L, 강남역, 역삼역, 10);
+    private final Section 역삼_선릉 = new Section(1L, 역삼역, 선릉역, 10);
+    private final Section 선릉_잠실 = new Section(1L, 선릉역, 잠실역, 10);
+    private final Section 강남_양재 = new Section(2L, 강남역, 양재역, 20);
+    private final Section 양재_잠실 = new Section(2L, 양재역, 잠실역, 20);
+    private final List<Section> sections = List.of(강남_역삼, 역삼_선릉, 선릉_잠실, 강남_양재, 양재_잠실);
+    private final Disruption 역삼역_중단 = Disruption.NONE.closeStation(역삼역.getId());
+
+    @ParameterizedTest
+    @EnumSource(SearchStrategy.class)
+    void 제외된_역을_지나지_않는_최단경로를_반환(SearchStrategy strategy) {
+        Navigator navigator = new Navigator(sections, strategy).withDisruption(역삼역_중단);
+
+        List<Section> actual = navigator.calculateShortestPath(강남역, 잠실역);
+
+        assertThat(actual).containsExactly(강남_양재, 양재_잠실);
+    }
+
+    @Test
+    void 제외된_구간은_양방향_모두_지나지_않음() {
+        Navigator navigator = new Navigator(sections).withDisruption(Disruption.NONE.closeSection(역삼_선릉));
+
+        assertThat(navigator.calculateShortestPath(강남역, 잠실역)).containsExactly(강남_양재, 양재_잠실);
+        assertThat(navigator.calculateShortestPath(잠실역, 강남역)).containsExactly(양재_잠실, 강남_양재);
+    }
+
+    @Test
+    void 제외된_이후_거리가_바뀐_구간도_계속_제외() {
+        Section 거리가_바뀐_역삼_선릉 = new Section(1L, 역삼역, 선릉역, 1);
+        Navigator navigator = new Navigator(List.of(강남_역삼, 거리가_바뀐_역삼_선릉, 선릉_잠실, 강남_양재, 양재_잠실))
+                .withDisruption(Disruption.NONE.closeSection(역삼_선릉));
+
+        assertThat(navigator.calculateShortestPath(강남역, 잠실역)).containsExactly(강남_양재, 양재_잠실);
+    }
+
+    @Test
+    void 같은_역들을_잇더라도_다른_노선의_구간은_제외하지_않음() {
+        Section 다른_노선의_역삼_선릉 = new Section(3L, 역삼역, 선릉역, 10);
+        Navigator navigator = new Navigator(List.of(강남_역삼, 역삼_선릉, 다른_노선의_역삼_선릉, 선릉_잠실, 강남_양재, 양재_잠실))
+                .withDisruption(Disruption.NONE.closeSection(역삼_선릉));
+
+        assertThat(navigator.calculateShortestPath(강남역, 잠실역))
+                .containsExactly(강남_역삼, 다른_노선의_역삼_선릉, 선릉_잠실);
+    }
+
+    @Test
+    void 제외된_역에서_출발하는_경우_예외발생() {
+        Navigator navigator = new Navigator(sections).withDisruption(역삼역_중단);
+
+        assertThatThrownBy(() -> navigator.calculateShortestPath(역삼역, 잠실역))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("해당 역으로 이동하는 경로는 존재하지 않습니다.");
+    }
+
+    @Test
+    void 최소_환승과_최저_요금_경로도_제외된_역을_지나지_않음() {
+        Navigator navigator = new Navigator(sections).withDisruption(역삼역_중단);
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0, 2L, 900));
+
+        assertThat(navigator.calculateShortestPath(강남역, 잠실역, RoutingMode.MIN_TRANSFER))
+                .containsExactly(강남_양재, 양재_잠실);
+        assertThat(navigator.calculateCheapestPath(강남역, 잠실역, lineFareTable).toStations())
+                .containsExactly(강남역, 양재역, 잠실역);
+    }
+
+    @Test
+    void 대안_경로와_파레토_최적_경로도_제외된_역을_지나지_않음() {
+        Navigator navigator = new Navigator(sections).withDisruption(역삼역_중단);
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0, 2L, 0));
+
+        List<Path> alternatives = navigator.calculateAlternativePaths(강남역, 잠실역, 3);
+        List<Path> paretoPaths = navigator.calculateParetoPaths(강남역, 잠실역, lineFareTable, AgeDiscountPolicy.of(30));
+
+        assertThat(alternatives).hasSize(1);
+        assertThat(alternatives.get(0).toStations()).containsExactly(강남역, 양재역, 잠실역);
+        assertThat(paretoPaths).hasSize(1);
+        assertThat(paretoPaths.get(0).toStations()).containsExactly(강남역, 양재역, 잠실역);
+    }
+
+    @Test
+    void 최단경로_트리에서_제외된_역에는_도달하지_않음() {
+        Navigator navigator = new Navigator(sections).withDisruption(역삼역_중단);
+        List<Station> reached = new ArrayList<>();
+
+        navigator.calculateShortestPathTree(강남역, LineFareTable.of(Map.of()), AgeDiscountPolicy.of(30))
+                .forEach(reachableStation -> reached.add(reachableStation.getStation()));
+
+        assertThat(reached).containsExactlyInAnyOrder(선릉역, 잠실역, 양재역);
+    }
+
+    @Test
+    void 제외된_구간을_지나는_열차는_이용하지_않음() {
+        Navigator navigator = new Navigator(sections).withDisruption(Disruption.NONE.closeSection(역삼_선릉));
+        Timetable timetable = Timetable.of(List.of(
+                LineTimetable.of(1L, "05:30", "23:00", 10, 60),
+                LineTimetable.of(2L, "05:30", "23:00", 10, 60)));
+
+        ScheduledPath actual = navigator.calculateEarliestArrivalPath(강남역, 잠실역, DepartureTime.of("05:30"),
+                timetable);
+
+        assertThat(actual.getPath().toStations()).containsExactly(강남역, 양재역, 잠실역);
+    }
+
+    @Test
+    void 그래프에_없는_역과_구간만_제외한_경우_기존_내비게이터를_그대로_사용() {
+        Navigator navigator = new Navigator(sections);
+
+        Navigator actual = navigator.withDisruption(Disruption.NONE.closeStation(99L));
+
+        assertThat(actual).isSameAs(navigator);
+    }
+
+    @Test
+    void 스냅샷의_버전은_유지하고_구간_변경_이후에도_제외된_역을_지나지_않음() {
+        RoutingSnapshot snapshot = RoutingSnapshot.of(3L, sections, LineFareTable.of(Map.of()),
+                SearchSettings.of(SearchStrategy.CONTRACTION_HIERARCHIES)).withDisruption(역삼역_중단);
+        Section 강남_잠실 = new Section(3L, 강남역, 잠실역, 100);
+
+        RoutingSnapshot patched = snapshot.applySectionUpdates(4L, List.of(), List.of(강남_잠실)).get();
+
+        assertThat(snapshot.getVersion()).isEqualTo(3L);
+        assertThat(patched.getDisruption()).isEqualTo(역삼역_중단);
+        assertThat(patched.getNavigator().calculateShortestPath(강남역, 잠실역)).containsExactly(강남_양재, 양재_잠실);
+    }
+
+    @Test
+    void 제외된_역이나_구간을_지나는_경로인지_확인() {
+        Disruption disruption = 역삼역_중단.closeSection(선릉_잠실);
+
+        assertThat(disruption.isPassedBy(List.of(강남역, 역삼역))).isTrue();
+        assertThat(disruption.isPassedBy(List.of(잠실역, 선릉역))).isTrue();
+        assertThat(disruption.isPassedBy(List.of(강남역, 양재역, 잠실역))).isFalse();
+    }
+
+    @Test
+    void 다시_개방한_역이나_구간이_있으면_이전_목록을_포함하지_않음() {
+        Disruption disruption = 역삼역_중단.closeSection(선릉_잠실);
+
+        assertThat(disruption.includes(역삼역_중단)).isTrue();
+        assertThat(disruption.reopenSection(1L, 잠실역.getId(), 선릉역.getId())).isEqualTo(역삼역_중단);
+        assertThat(역삼역_중단.includes(disruption)).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SearchStrategy.class)
+    void 무작위로_생성된_노선도에서_제외된_역과_구간을_삭제하고_만든_노선도와_같은_거리를_반환(SearchStrategy strategy) {
+        Random random = new Random(SEED);
+        for (int i = 0; i < NETWORK_COUNT; i++) {
+            SubwayNetwork network = new SubwayNetworkGenerator(SEED + i).generate(LINE_COUNT, STATION_COUNT);
+            List<Station> stations = network.getStations();
+            List<Section> networkSections = network.toSections();
+            Disruption disruption = Disruption.NONE
+                    .closeStation(stations.get(random.nextInt(STATION_COUNT)).getId())
+                    .closeSection(networkSections.get(random.nextInt(networkSections.size())));
+            Navigator navigator = new Navigator(networkSections, strategy).withDisruption(disruption);
+            Navigator expectedNavigator = new Navigator(remainingSections(networkSections, disruption), strategy);
+
+            for (int j = 0; j < QUERY_COUNT; j++) {
+                Station source = stations.get(random.nextInt(STATION_COUNT));
+                Station target = stations.get(random.nextInt(STATION_COUNT));
+                if (source.equals(target)) {
+                    continue;
+                }
+                assertThat(distanceOf(navigator, source, target)).isEqualTo(distanceOf(expectedNavigator, source, target));
+            }
+        }
+    }
+
+    private List<Section> remainingSections(List<Section> sections, Disruption disruption) {
+        return sections.stream()
+                .filter(section -> disruption.getClosedSections()
+                        .stream()
+                        .noneMatch(closedSection -> closedSection.matches(section)))
+                .filter(section -> !disruption.getClosedStationIds().contains(section.getUpStationId()))
+                .filter(section -> !disruption.getClosedStationIds().contains(section.getDownStationId()))
+                .collect(Collectors.toList());
+    }
+
+    // 연결되지 않았거나 남은 구간에 없는 역이라면 -1을 반환한다.
+    private int distanceOf(Navigator navigator, Station source, Station target) {
+        try {
+            return navigator.calculateShortestPath(source, target)
+                    .stream()
+                    .mapToInt(Section::getDistance)
+                    .sum();
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+@SuppressWarnings("NonAsciiCharacters")
+class DistanceTablePathFinderTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 역삼역 = new Station(2L, "역삼역");
+    private static final Station 선릉역 = new Station(3L, "선릉역");
+    private static final Station 삼성역 = new Station(4L, "삼성역");
+    private static final Station 잠실역 = new Station(5L, "잠실역");
+    private static final Station 강변역 = new Station(6L, "강변역");
+
+    private static final Section 강남_역삼 = new Section(강남역, 역삼역, 3);
+    private static final Section 역삼_선릉 = new Section(역삼역, 선릉역, 4);
+    private static final Section 선릉_삼성 = new Section(선릉역, 삼성역, 5);
+
+    private final SectionGraph graph = SectionGraph.of(List.of(
+            강남_역삼,
+            역삼_선릉,
+            선릉_삼성,
+            new Section(강남역, 삼성역, 20),
+            new Section(잠실역, 강변역, 7)));
+
+    @Test
+    void 모든_역_사이의_최단거리를_미리_계산() {
+        DistanceTablePathFinder pathFinder = new DistanceTablePathFinder(graph);
+
+        assertThat(pathFinder.distanceOf(graph.indexOf(강남역), graph.indexOf(삼성역))).isEqualTo(12);
+        assertThat(pathFinder.distanceOf(graph.indexOf(삼성역), graph.indexOf(역삼역))).isEqualTo(9);
+        assertThat(pathFinder.distanceOf(graph.indexOf(선릉역), graph.indexOf(선릉역))).isEqualTo(0);
+    }
+
+    @Test
+    void 다음_구간을_따라가며_경로를_복원() {
+        PathFinder pathFinder = new DistanceTablePathFinder(graph);
+
+        List<Section> actual = pathFinder.findRoute(graph.indexOf(강남역), graph.indexOf(삼성역)).toSections(graph);
+
+        assertThat(actual).containsExactly(강남_역삼, 역삼_선릉, 선릉_삼성);
+    }
+
+    @Test
+    void 서로_다른_연결_요소에_속한_역들_사이에는_경로가_없음() {
+        PathFinder pathFinder = new DistanceTablePathFinder(graph);
+
+        Route actual = pathFinder.findRoute(graph.indexOf(강남역), graph.indexOf(잠실역));
+
+        assertThat(actual.isConnected()).isFalse();
+    }
+
+    @Test
+    void 메모리_예산을_넘는_경우_매번_탐색하는_방식으로_대체() {
+        long budget = DistanceTablePathFinder.requiredBytes(graph.getStationCount()) - 1;
+
+        PathFinder actual = DistanceTablePathFinder.withinBudget(graph, budget);
+
+        assertThat(actual).isInstanceOf(DijkstraPathFinder.class);
+    }
+
+    @Test
+    void 메모리_예산_이내인_경우_표를_생성() {
+        long budget = DistanceTablePathFinder.requiredBytes(graph.getStationCount());
+
+        PathFinder actual = DistanceTablePathFinder.withinBudget(graph, budget);
+
+        assertThat(actual).isInstanceOf(DistanceTablePathFinder.class);
+    }
+}
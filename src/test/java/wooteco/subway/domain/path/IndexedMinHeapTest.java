@@ -0,0 +1,66 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+class IndexedMinHeapTest {
+
+    @Test
+    void poll_메서드는_키가_가장_작은_원소부터_반환() {
+        IndexedMinHeap heap = new IndexedMinHeap(5);
+        heap.upsert(0, 30);
+        heap.upsert(1, 10);
+        heap.upsert(2, 50);
+        heap.upsert(3, 20);
+        heap.upsert(4, 40);
+
+        List<Integer> actual = pollAll(heap);
+        List<Integer> expected = List.of(1, 3, 0, 4, 2);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void upsert_메서드는_더_작은_키가_입력된_경우에만_키를_갱신() {
+        IndexedMinHeap heap = new IndexedMinHeap(3);
+        heap.upsert(0, 10);
+        heap.upsert(1, 20);
+        heap.upsert(2, 30);
+
+        heap.upsert(2, 5);
+        heap.upsert(0, 100);
+
+        List<Integer> actual = pollAll(heap);
+        List<Integer> expected = List.of(2, 0, 1);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void clear_메서드_호출_후에는_비어있는_힙으로_재사용_가능() {
+        IndexedMinHeap heap = new IndexedMinHeap(3);
+        heap.upsert(0, 10);
+        heap.upsert(1, 20);
+        heap.clear();
+
+        heap.upsert(1, 7);
+        heap.upsert(2, 3);
+
+        List<Integer> actual = pollAll(heap);
+        List<Integer> expected = List.of(2, 1);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private List<Integer> pollAll(IndexedMinHeap heap) {
+        List<Integer> elements = new ArrayList<>();
+        while (!heap.isEmpty()) {
+            elements.add(heap.poll());
+        }
+        return elements;
+    }
+}
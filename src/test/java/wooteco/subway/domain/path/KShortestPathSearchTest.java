@@ -0,0 +1,126 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@SuppressWarnings("NonAsciiCharacters")
+class KShortestPathSearchTest {
+
+    private static final long SEED = 20220517L;
+    private static final int NETWORK_COUNT = 30;
+    private static final int LINE_COUNT = 5;
+    private static final int STATION_COUNT = 12;
+    private static final int ALTERNATIVE_COUNT = 5;
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 역삼역 = new Station(2L, "역삼역");
+    private static final Station 선릉역 = new Station(3L, "선릉역");
+    private static final Station 잠실역 = new Station(4L, "잠실역");
+
+    @Test
+    void 최단경로부터_거리_순서대로_서로_다른_경로들을_반환() {
+        Section 강남_역삼 = new Section(1L, 강남역, 역삼역, 2);
+        Section 역삼_잠실 = new Section(1L, 역삼역, 잠실역, 2);
+        Section 강남_선릉 = new Section(2L, 강남역, 선릉역, 3);
+        Section 선릉_잠실 = new Section(2L, 선릉역, 잠실역, 3);
+        Section 역삼_선릉 = new Section(3L, 역삼역, 선릉역, 1);
+        Navigator navigator = new Navigator(List.of(강남_역삼, 역삼_잠실, 강남_선릉, 선릉_잠실, 역삼_선릉));
+
+        List<Path> actual = navigator.calculateAlternativePaths(강남역, 잠실역, 3);
+
+        assertThat(actual).extracting(Path::getDistance).containsExactly(4, 6, 6);
+        assertThat(actual.get(0).toStations()).containsExactly(강남역, 역삼역, 잠실역);
+    }
+
+    @Test
+    void 가능한_경로가_요청한_개수보다_적으면_가능한_경로만_반환() {
+        Navigator navigator = new Navigator(List.of(new Section(1L, 강남역, 역삼역, 2)));
+
+        List<Path> actual = navigator.calculateAlternativePaths(강남역, 역삼역, 5);
+
+        assertThat(actual).hasSize(1);
+    }
+
+    @Test
+    void 경로의_개수가_범위를_벗어나면_예외발생() {
+        Navigator navigator = new Navigator(List.of(new Section(1L, 강남역, 역삼역, 2)));
+
+        assertThatThrownBy(() -> navigator.calculateAlternativePaths(강남역, 역삼역, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("경로의 개수는 1 이상 10 이하여야 합니다.");
+    }
+
+    @Test
+    void 연결되지_않은_역들_사이의_경로를_조회하려는_경우_예외발생() {
+        Navigator navigator = new Navigator(List.of(
+                new Section(1L, 강남역, 역삼역, 2), new Section(2L, 선릉역, 잠실역, 2)));
+
+        assertThatThrownBy(() -> navigator.calculateAlternativePaths(강남역, 잠실역, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 무작위로_생성된_노선도에서_모든_단순_경로_중_가장_짧은_경로들과_같은_거리를_반환() {
+        for (int i = 0; i < NETWORK_COUNT; i++) {
+            SubwayNetwork network = new SubwayNetworkGenerator(SEED + i).generate(LINE_COUNT, STATION_COUNT);
+            List<Section> sections = network.toSections();
+            Navigator navigator = new Navigator(sections);
+            Station source = network.getStations().get(0);
+            Station target = network.getStations().get(STATION_COUNT - 1);
+
+            List<Path> actual = navigator.calculateAlternativePaths(source, target, ALTERNATIVE_COUNT);
+            List<Integer> expected = allSimplePathDistances(sections, source, target).stream()
+                    .sorted()
+                    .limit(ALTERNATIVE_COUNT)
+                    .collect(Collectors.toList());
+
+            assertThat(actual).extracting(Path::getDistance).isEqualTo(expected);
+            actual.forEach(path -> assertSimplePath(path, source, target));
+        }
+    }
+
+    private List<Integer> allSimplePathDistances(List<Section> sections, Station source, Station target) {
+        List<Integer> distances = new ArrayList<>();
+        Set<Station> visited = new HashSet<>();
+        visited.add(source);
+        collectDistances(sections, source, target, visited, 0, distances);
+        return distances;
+    }
+
+    private void collectDistances(List<Section> sections, Station current, Station target, Set<Station> visited,
+                                  int distance, List<Integer> distances) {
+        if (current.equals(target)) {
+            distances.add(distance);
+            return;
+        }
+        for (Section section : sections) {
+            if (!section.hasStationOf(current)) {
+                continue;
+            }
+            Station next = section.getOppositeEnd(current);
+            if (visited.add(next)) {
+                collectDistances(sections, next, target, visited, distance + section.getDistance(), distances);
+                visited.remove(next);
+            }
+        }
+    }
+
+    private void assertSimplePath(Path path, Station source, Station target) {
+        List<Station> stations = path.toStations();
+
+        assertThat(stations.get(0)).isEqualTo(source);
+        assertThat(stations.get(stations.size() - 1)).isEqualTo(target);
+        assertThat(new HashSet<>(stations)).hasSize(stations.size());
+    }
+}
@@ -0,0 +1,54 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+@SuppressWarnings("NonAsciiCharacters")
+class LandmarksTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 역삼역 = new Station(2L, "역삼역");
+    private static final Station 선릉역 = new Station(3L, "선릉역");
+    private static final Station 삼성역 = new Station(4L, "삼성역");
+    private static final Station 잠실역 = new Station(5L, "잠실역");
+    private static final Station 강변역 = new Station(6L, "강변역");
+
+    private final SectionGraph graph = SectionGraph.of(List.of(
+            new Section(강남역, 역삼역, 3),
+            new Section(역삼역, 선릉역, 4),
+            new Section(선릉역, 삼성역, 5),
+            new Section(강남역, 삼성역, 20),
+            new Section(잠실역, 강변역, 7)));
+
+    @Test
+    void 기준역의_수는_전체_역의_수를_넘지_않음() {
+        Landmarks landmarks = Landmarks.select(graph, 100);
+
+        assertThat(landmarks.getCount()).isEqualTo(graph.getStationCount());
+    }
+
+    @Test
+    void 하한값은_실제_최단거리를_넘지_않음() {
+        Landmarks landmarks = Landmarks.select(graph, 2);
+        int 강남 = graph.indexOf(강남역);
+        int 선릉 = graph.indexOf(선릉역);
+        int 삼성 = graph.indexOf(삼성역);
+
+        assertThat(landmarks.lowerBound(강남, 선릉)).isLessThanOrEqualTo(7);
+        assertThat(landmarks.lowerBound(강남, 삼성)).isLessThanOrEqualTo(12);
+        assertThat(landmarks.lowerBound(선릉, 선릉)).isEqualTo(0);
+    }
+
+    @Test
+    void 서로_다른_연결_요소에_속한_역들_사이의_하한값은_도달_불가() {
+        Landmarks landmarks = Landmarks.select(graph, 2);
+
+        int actual = landmarks.lowerBound(graph.indexOf(강남역), graph.indexOf(잠실역));
+
+        assertThat(actual).isEqualTo(Landmarks.UNREACHABLE);
+    }
+}
@@ -0,0 +1,130 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@SuppressWarnings("NonAsciiCharacters")
+class MinimumTransferPathFinderTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 역삼역 = new Station(2L, "역삼역");
+    private static final Station 선릉역 = new Station(3L, "선릉역");
+    private static final Station 잠실역 = new Station(4L, "잠실역");
+    private static final Station 양재역 = new Station(5L, "양재역");
+
+    private final Section 강남_역삼 = new Section(1L, 강남역, 역삼역, 10);
+    private final Section 역삼_선릉 = new Section(1L, 역삼역, 선릉역, 10);
+    private final Section 선릉_잠실 = new Section(1L, 선릉역, 잠실역, 10);
+    private final Section 강남_양재 = new Section(2L, 강남역, 양재역, 2);
+    private final Section 양재_잠실 = new Section(3L, 양재역, 잠실역, 3);
+    private final List<Section> sections = List.of(강남_역삼, 역삼_선릉, 선릉_잠실, 강남_양재, 양재_잠실);
+
+    @Test
+    void 거리가_더_멀더라도_환승이_적은_경로를_반환() {
+        Navigator navigator = new Navigator(sections);
+
+        List<Section> actual = navigator.calculateShortestPath(강남역, 잠실역, RoutingMode.MIN_TRANSFER);
+
+        assertThat(navigator.calculateShortestPath(강남역, 잠실역)).containsExactly(강남_양재, 양재_잠실);
+        assertThat(actual).containsExactly(강남_역삼, 역삼_선릉, 선릉_잠실);
+    }
+
+    @Test
+    void 환승_가중치보다_거리의_차이가_크면_환승하는_경로를_반환() {
+        Navigator navigator = new Navigator(sections, new SearchSettings(SearchStrategy.DIJKSTRA,
+                SearchSettings.DEFAULT_DISTANCE_TABLE_MAX_BYTES, 10));
+
+        List<Section> actual = navigator.calculateShortestPath(강남역, 잠실역, RoutingMode.MIN_TRANSFER);
+
+        assertThat(actual).containsExactly(강남_양재, 양재_잠실);
+    }
+
+    @Test
+    void 무작위로_생성된_노선도에서_최소_환승_횟수의_경로를_반환() {
+        SubwayNetwork network = new SubwayNetworkGenerator(20220517L).generate(12, 300);
+        List<Section> networkSections = network.toSections();
+        List<Station> stations = network.getStations();
+        Navigator navigator = new Navigator(networkSections);
+        Random random = new Random(20220517L);
+
+        for (int i = 0; i < 200; i++) {
+            Station source = stations.get(random.nextInt(stations.size()));
+            Station target = stations.get(random.nextInt(stations.size()));
+            if (source.equals(target)) {
+                continue;
+            }
+            List<Section> actual = navigator.calculateShortestPath(source, target, RoutingMode.MIN_TRANSFER);
+            List<Section> shortest = navigator.calculateShortestPath(source, target);
+
+            assertThat(transferCountOf(actual)).isEqualTo(minimumTransferCount(networkSections, source, target));
+            assertThat(distanceOf(actual)).isGreaterThanOrEqualTo(distanceOf(shortest));
+        }
+    }
+
+    private int transferCountOf(List<Section> route) {
+        int count = 0;
+        for (int i = 1; i < route.size(); i++) {
+            if (!route.get(i - 1).getLineId().equals(route.get(i).getLineId())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int distanceOf(List<Section> route) {
+        return route.stream()
+                .mapToInt(Section::getDistance)
+                .sum();
+    }
+
+    // (역, 노선) 상태에서 같은 노선으로 이동하면 0, 노선을 바꾸면 1인 0-1 너비 우선 탐색
+    private int minimumTransferCount(List<Section> sections, Station source, Station target) {
+        Map<Station, List<Section>> incidentSections = new HashMap<>();
+        for (Section section : sections) {
+            incidentSections.computeIfAbsent(section.getUpStation(), ignored -> new ArrayList<>()).add(section);
+            incidentSections.computeIfAbsent(section.getDownStation(), ignored -> new ArrayList<>()).add(section);
+        }
+        Map<List<Object>, Integer> transfers = new HashMap<>();
+        Deque<List<Object>> deque = new ArrayDeque<>();
+        for (Section section : incidentSections.get(source)) {
+            List<Object> state = List.of(source, section.getLineId());
+            transfers.put(state, 0);
+            deque.addFirst(state);
+        }
+        int minimum = Integer.MAX_VALUE;
+        while (!deque.isEmpty()) {
+            List<Object> state = deque.pollFirst();
+            Station station = (Station) state.get(0);
+            int count = transfers.get(state);
+            if (station.equals(target)) {
+                minimum = Math.min(minimum, count);
+            }
+            for (Section section : incidentSections.get(station)) {
+                boolean sameLine = section.getLineId().equals(state.get(1));
+                int nextCount = sameLine ? count : count + 1;
+                List<Object> next = List.of(section.getOppositeEnd(station), section.getLineId());
+                if (nextCount < transfers.getOrDefault(next, Integer.MAX_VALUE)) {
+                    transfers.put(next, nextCount);
+                    if (sameLine) {
+                        deque.addFirst(next);
+                    } else {
+                        deque.addLast(next);
+                    }
+                }
+            }
+        }
+        return minimum;
+    }
+}
@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import wooteco.subway.domain.section.Section;
 import wooteco.subway.domain.station.Station;
 
@@ -84,4 +86,33 @@ class NavigatorTest {
         assertThatThrownBy(() -> navigator.calculateShortestPath(강남역, 잠실역))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @ParameterizedTest
+    @EnumSource(value = SearchStrategy.class, names = {"ALT", "CONTRACTION_HIERARCHIES", "DISTANCE_TABLE"})
+    void 구간_변경을_반영한_내비게이터는_선행_계산을_미루고_같은_최단경로를_반환(SearchStrategy strategy) {
+        Section 강남_역삼 = new Section(1L, 강남역, 역삼역, 10);
+        Section 역삼_잠실 = new Section(1L, 역삼역, 잠실역, 10);
+        Section 강남_잠실 = new Section(2L, 강남역, 잠실역, 5);
+        Navigator navigator = new Navigator(List.of(강남_역삼, 역삼_잠실), strategy);
+
+        Navigator patched = navigator.applySectionUpdates(List.of(), List.of(강남_잠실)).get();
+        Navigator preprocessed = patched.preprocess();
+
+        assertThat(patched.isPreprocessed()).isFalse();
+        assertThat(patched.calculateShortestPath(강남역, 잠실역)).containsExactly(강남_잠실);
+        assertThat(preprocessed.isPreprocessed()).isTrue();
+        assertThat(preprocessed.calculateShortestPath(강남역, 잠실역)).containsExactly(강남_잠실);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SearchStrategy.class, names = {"DIJKSTRA", "BIDIRECTIONAL_DIJKSTRA"})
+    void 선행_계산이_없는_탐색_방식은_구간_변경을_반영한_내비게이터를_바로_사용(SearchStrategy strategy) {
+        Navigator navigator = new Navigator(List.of(new Section(1L, 강남역, 역삼역, 10)), strategy);
+
+        Navigator patched = navigator.applySectionUpdates(List.of(), List.of(new Section(1L, 역삼역, 잠실역, 10)))
+                .get();
+
+        assertThat(patched.isPreprocessed()).isTrue();
+        assertThat(patched.preprocess()).isSameAs(patched);
+    }
 }
@@ -0,0 +1,160 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+import wooteco.subway.domain.line.Line;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@SuppressWarnings("NonAsciiCharacters")
+class ParetoRouteSearchTest {
+
+    private static final long SEED = 20220517L;
+    private static final int NETWORK_COUNT = 30;
+    private static final int LINE_COUNT = 5;
+    private static final int STATION_COUNT = 12;
+    private static final int AGE = 30;
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 역삼역 = new Station(2L, "역삼역");
+    private static final Station 선릉역 = new Station(3L, "선릉역");
+    private static final Station 잠실역 = new Station(4L, "잠실역");
+    private static final Station 양재역 = new Station(5L, "양재역");
+
+    private final Section 강남_역삼 = new Section(1L, 강남역, 역삼역, 10);
+    private final Section 역삼_선릉 = new Section(1L, 역삼역, 선릉역, 10);
+    private final Section 선릉_잠실 = new Section(1L, 선릉역, 잠실역, 10);
+    private final Section 강남_양재 = new Section(2L, 강남역, 양재역, 5);
+    private final Section 양재_잠실 = new Section(2L, 양재역, 잠실역, 5);
+    private final Section 역삼_잠실 = new Section(3L, 역삼역, 잠실역, 15);
+
+    @Test
+    void 더_길지만_요금이_저렴한_경로도_함께_반환() {
+        Navigator navigator = new Navigator(List.of(강남_역삼, 역삼_선릉, 선릉_잠실, 강남_양재, 양재_잠실));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0, 2L, 900));
+
+        List<Path> actual = navigator.calculateParetoPaths(강남역, 잠실역, lineFareTable, AgeDiscountPolicy.ADULT);
+
+        assertThat(actual).extracting(Path::getDistance).containsExactly(10, 30);
+        assertThat(actual).extracting((Path path) -> fareOf(path, lineFareTable)).containsExactly(2150, 1650);
+    }
+
+    @Test
+    void 거리_요금_환승_횟수가_모두_크거나_같은_경로는_제외() {
+        Navigator navigator = new Navigator(List.of(강남_역삼, 역삼_선릉, 선릉_잠실, 강남_양재, 양재_잠실, 역삼_잠실));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0, 2L, 900, 3L, 900));
+
+        List<Path> actual = navigator.calculateParetoPaths(강남역, 잠실역, lineFareTable, AgeDiscountPolicy.ADULT);
+
+        assertThat(actual).extracting(Path::toStations).containsExactly(
+                List.of(강남역, 양재역, 잠실역), List.of(강남역, 역삼역, 선릉역, 잠실역));
+    }
+
+    @Test
+    void 노선이_지정되지_않은_구간도_추가요금_없이_탐색() {
+        Navigator navigator = new Navigator(List.of(new Section(강남역, 역삼역, 10)));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 900));
+
+        List<Path> actual = navigator.calculateParetoPaths(강남역, 역삼역, lineFareTable, AgeDiscountPolicy.ADULT);
+
+        assertThat(actual).extracting(Path::getDistance).containsExactly(10);
+    }
+
+    @Test
+    void 연결되지_않은_역들_사이의_경로를_조회하려는_경우_예외발생() {
+        Navigator navigator = new Navigator(List.of(강남_역삼, 강남_양재, 선릉_잠실));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0, 2L, 0));
+
+        assertThatThrownBy(() -> navigator.calculateParetoPaths(강남역, 잠실역, lineFareTable, AgeDiscountPolicy.ADULT))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 무작위로_생성된_노선도에서_모든_단순_경로_중_파레토_최적인_경로들과_같은_값을_반환() {
+        for (int i = 0; i < NETWORK_COUNT; i++) {
+            SubwayNetwork network = new SubwayNetworkGenerator(SEED + i).generate(LINE_COUNT, STATION_COUNT);
+            List<Section> sections = network.toSections();
+            LineFareTable lineFareTable = LineFareTable.of(network.getLines()
+                    .stream()
+                    .collect(Collectors.toMap(Line::getId, Line::getExtraFare)));
+            Navigator navigator = new Navigator(sections);
+            Station source = network.getStations().get(0);
+            Station target = network.getStations().get(STATION_COUNT - 1);
+
+            List<List<Integer>> actual = navigator
+                    .calculateParetoPaths(source, target, lineFareTable, AgeDiscountPolicy.ADULT)
+                    .stream()
+                    .map(path -> criteriaOf(path, lineFareTable))
+                    .collect(Collectors.toList());
+            Set<List<Integer>> expected = paretoOptimal(allSimplePaths(sections, source, target).stream()
+                    .map(path -> criteriaOf(path, lineFareTable))
+                    .collect(Collectors.toSet()));
+
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private List<Integer> criteriaOf(Path path, LineFareTable lineFareTable) {
+        return List.of(path.getDistance(), fareOf(path, lineFareTable), path.getTransferCount());
+    }
+
+    private int fareOf(Path path, LineFareTable lineFareTable) {
+        return path.calculateFare(lineFareTable.findExtraFares(path.getPassingLineIds()), AGE);
+    }
+
+    private Set<List<Integer>> paretoOptimal(Set<List<Integer>> criteria) {
+        return criteria.stream()
+                .filter(candidate -> criteria.stream()
+                        .noneMatch(other -> !other.equals(candidate) && dominates(other, candidate)))
+                .collect(Collectors.toSet());
+    }
+
+    private boolean dominates(List<Integer> criteria, List<Integer> other) {
+        for (int i = 0; i < criteria.size(); i++) {
+            if (criteria.get(i) > other.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Path> allSimplePaths(List<Section> sections, Station source, Station target) {
+        List<Path> paths = new ArrayList<>();
+        Set<Station> visited = new HashSet<>();
+        visited.add(source);
+        collectPaths(sections, source, source, target, visited, new ArrayList<>(), paths);
+        return paths;
+    }
+
+    private void collectPaths(List<Section> sections, Station source, Station current, Station target,
+                              Set<Station> visited, List<Section> route, List<Path> paths) {
+        if (current.equals(target)) {
+            paths.add(new Path(source, target, List.copyOf(route)));
+            return;
+        }
+        for (Section section : sections) {
+            if (!section.hasStationOf(current)) {
+                continue;
+            }
+            Station next = section.getOppositeEnd(current);
+            if (visited.add(next)) {
+                route.add(section);
+                collectPaths(sections, source, next, target, visited, route, paths);
+                route.remove(route.size() - 1);
+                visited.remove(next);
+            }
+        }
+    }
+}
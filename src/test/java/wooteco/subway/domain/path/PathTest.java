@@ -59,6 +59,24 @@ class PathTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void getTransferCount_메서드는_경로에서_노선을_갈아타는_횟수를_반환() {
+        Path path = getPathOf(선릉역, 잠실역, NAVIGATOR);
+
+        int actual = path.getTransferCount();
+
+        assertThat(actual).isEqualTo(1);
+    }
+
+    @Test
+    void 최소_환승_방식으로_조회하면_환승이_적은_경로를_반환() {
+        Path path = new Path(선릉역, 잠실역, NAVIGATOR, RoutingMode.MIN_TRANSFER);
+
+        assertThat(path.toStations()).isEqualTo(List.of(선릉역, 잠실역));
+        assertThat(path.getDistance()).isEqualTo(100);
+        assertThat(path.getTransferCount()).isEqualTo(0);
+    }
+
     @Test
     void 노선에_구간으로_등록되지_않은_역에_대한_경로를_조회하려는_경우_예외_발생() {
         Station 미등록_역 = new Station(999L, "등록되지 않은 역");
@@ -0,0 +1,37 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.line.LineExtraFare;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+@SuppressWarnings("NonAsciiCharacters")
+class PricedRouteTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 선릉역 = new Station(2L, "선릉역");
+    private static final Navigator NAVIGATOR = new Navigator(List.of(new Section(1L, 강남역, 선릉역, 12)));
+    private static final Path PATH = new Path(강남역, 선릉역, NAVIGATOR);
+
+    @Test
+    void 나이와_무관한_경로_정보와_기본요금을_보관() {
+        PricedRoute route = PricedRoute.of(PATH, List.of(new LineExtraFare(200)));
+
+        assertThat(route.getStations()).isEqualTo(List.of(강남역, 선릉역));
+        assertThat(route.getDistance()).isEqualTo(12);
+        assertThat(route.getBaseFare().toInt()).isEqualTo(1250 + 100 + 200);
+    }
+
+    @Test
+    void 동일한_경로에_나이_할인만_다르게_적용하여_요금을_계산() {
+        List<LineExtraFare> extraFares = List.of(new LineExtraFare(200));
+        PricedRoute route = PricedRoute.of(PATH, extraFares);
+
+        assertThat(route.calculateFare(15)).isEqualTo(PATH.calculateFare(extraFares, 15));
+        assertThat(route.calculateFare(7)).isEqualTo(PATH.calculateFare(extraFares, 7));
+        assertThat(route.calculateFare(30)).isEqualTo(PATH.calculateFare(extraFares, 30));
+    }
+}
@@ -0,0 +1,249 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.line.Line;
+import wooteco.subway.domain.line.LineTimetable;
+import wooteco.subway.domain.line.Timetable;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@SuppressWarnings("NonAsciiCharacters")
+class RaptorSearchTest {
+
+    private static final long SEED = 20220517L;
+    private static final int NETWORK_COUNT = 30;
+    private static final int QUERY_COUNT = 20;
+    private static final int LINE_COUNT = 5;
+    private static final int STATION_COUNT = 12;
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 역삼역 = new Station(2L, "역삼역");
+    private static final Station 선릉역 = new Station(3L, "선릉역");
+    private static final Station 잠실역 = new Station(4L, "잠실역");
+    private static final Station 양재역 = new Station(5L, "양재역");
+
+    private final Section 강남_역삼 = new Section(1L, 강남역, 역삼역, 10);
+    private final Section 역삼_선릉 = new Section(1L, 역삼역, 선릉역, 10);
+    private final Section 선릉_잠실 = new Section(1L, 선릉역, 잠실역, 10);
+    private final Section 강남_양재 = new Section(2L, 강남역, 양재역, 5);
+    private final Section 양재_잠실 = new Section(2L, 양재역, 잠실역, 5);
+    private final Navigator navigator = new Navigator(List.of(강남_역삼, 역삼_선릉, 선릉_잠실, 강남_양재, 양재_잠실));
+
+    @Test
+    void 출발_시각_이후_가장_먼저_오는_열차를_타고_도착하는_시각을_반환() {
+        Timetable timetable = Timetable.of(List.of(lineTimetable(1L, "05:30", "23:00", 10, 60)));
+
+        ScheduledPath actual = navigator.calculateEarliestArrivalPath(강남역, 잠실역, DepartureTime.of("05:35"), timetable);
+
+        assertThat(actual.getPath().toStations()).containsExactly(강남역, 역삼역, 선릉역, 잠실역);
+        assertThat(actual.getDepartureTime()).isEqualTo(LocalTime.of(5, 40));
+        assertThat(actual.getArrivalTime()).isEqualTo(LocalTime.of(6, 10));
+    }
+
+    @Test
+    void 하행_종점에서_출발하는_열차도_같은_시간표로_운행() {
+        Timetable timetable = Timetable.of(List.of(lineTimetable(1L, "05:30", "23:00", 10, 60)));
+
+        ScheduledPath actual = navigator.calculateEarliestArrivalPath(잠실역, 역삼역, DepartureTime.of("05:30"), timetable);
+
+        assertThat(actual.getPath().toStations()).containsExactly(잠실역, 선릉역, 역삼역);
+        assertThat(actual.getDepartureTime()).isEqualTo(LocalTime.of(5, 30));
+        assertThat(actual.getArrivalTime()).isEqualTo(LocalTime.of(5, 50));
+    }
+
+    @Test
+    void 거리가_짧더라도_열차를_오래_기다려야_하면_먼저_도착하는_경로를_반환() {
+        Timetable timetable = Timetable.of(List.of(
+                lineTimetable(1L, "05:30", "23:00", 5, 60),
+                lineTimetable(2L, "06:30", "23:00", 30, 60)));
+
+        ScheduledPath actual = navigator.calculateEarliestArrivalPath(강남역, 잠실역, DepartureTime.of("05:30"), timetable);
+
+        assertThat(actual.getPath().toStations()).containsExactly(강남역, 역삼역, 선릉역, 잠실역);
+        assertThat(actual.getArrivalTime()).isEqualTo(LocalTime.of(6, 0));
+    }
+
+    @Test
+    void 시간표가_등록되지_않은_노선은_이용하지_않음() {
+        Timetable timetable = Timetable.of(List.of(lineTimetable(2L, "05:30", "23:00", 10, 60)));
+
+        assertThatThrownBy(() -> navigator
+                .calculateEarliestArrivalPath(강남역, 역삼역, DepartureTime.of("05:30"), timetable))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("출발 시각 이후 해당 역으로 이동하는 열차가 없습니다.");
+    }
+
+    @Test
+    void 노선이_지정되지_않은_구간은_이용하지_않음() {
+        Navigator navigator = new Navigator(List.of(new Section(1L, 강남역, 역삼역, 10), new Section(역삼역, 선릉역, 10)));
+        Timetable timetable = Timetable.of(List.of(lineTimetable(1L, "05:30", "23:00", 10, 60)));
+
+        ScheduledPath actual = navigator.calculateEarliestArrivalPath(강남역, 역삼역, DepartureTime.of("05:30"), timetable);
+
+        assertThat(actual.getPath().toStations()).containsExactly(강남역, 역삼역);
+        assertThatThrownBy(() -> navigator
+                .calculateEarliestArrivalPath(강남역, 선릉역, DepartureTime.of("05:30"), timetable))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 막차가_떠난_이후에_조회하는_경우_예외발생() {
+        Timetable timetable = Timetable.of(List.of(lineTimetable(1L, "05:30", "23:00", 10, 60)));
+
+        assertThatThrownBy(() -> navigator
+                .calculateEarliestArrivalPath(강남역, 잠실역, DepartureTime.of("23:01"), timetable))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("출발 시각 이후 해당 역으로 이동하는 열차가 없습니다.");
+    }
+
+    @Test
+    void 출발_시각의_형식이_올바르지_않은_경우_예외발생() {
+        assertThatThrownBy(() -> DepartureTime.of("5시 30분"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("출발 시각은 HH:mm 형식이어야 합니다.");
+    }
+
+    @Test
+    void 무작위로_생성된_노선도에서_모든_열차를_시각순으로_훑은_결과와_같은_도착_시각을_반환() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < NETWORK_COUNT; i++) {
+            SubwayNetwork network = new SubwayNetworkGenerator(SEED + i).generate(LINE_COUNT, STATION_COUNT);
+            List<Station> stations = network.getStations();
+            Map<Long, List<Station>> lines = network.getLines()
+                    .stream()
+                    .collect(Collectors.toMap(Line::getId, Line::getSortedStations));
+            List<Section> sections = network.toSections();
+            Timetable timetable = generateTimetable(random);
+            Navigator navigator = new Navigator(sections);
+            List<Connection> connections = toConnections(sections, lines, timetable);
+
+            for (int j = 0; j < QUERY_COUNT; j++) {
+                Station source = stations.get(random.nextInt(STATION_COUNT));
+                Station target = stations.get(random.nextInt(STATION_COUNT));
+                LocalTime departAt = LocalTime.of(4 + random.nextInt(20), random.nextInt(60));
+                if (source.equals(target) || !isRegistered(sections, source) || !isRegistered(sections, target)) {
+                    continue;
+                }
+                assertEarliestArrival(navigator, timetable, connections, source, target, departAt);
+            }
+        }
+    }
+
+    private void assertEarliestArrival(Navigator navigator, Timetable timetable, List<Connection> connections,
+                                       Station source, Station target, LocalTime departAt) {
+        int expected = scanConnections(connections, source, target, departAt.toSecondOfDay());
+        DepartureTime departureTime = DepartureTime.of(departAt.toString());
+        if (expected == Integer.MAX_VALUE) {
+            assertThatThrownBy(() -> navigator.calculateEarliestArrivalPath(source, target, departureTime, timetable))
+                    .isInstanceOf(IllegalArgumentException.class);
+            return;
+        }
+        ScheduledPath actual = navigator.calculateEarliestArrivalPath(source, target, departureTime, timetable);
+        List<Station> actualStations = actual.getPath().toStations();
+
+        assertThat(actual.getArrivalTime().toSecondOfDay()).isEqualTo(expected % (24 * 60 * 60));
+        assertThat(actual.getDepartureTime().isBefore(departAt)).isFalse();
+        assertThat(actualStations.get(actualStations.size() - 1)).isEqualTo(target);
+    }
+
+    private LineTimetable lineTimetable(Long lineId, String firstDeparture, String lastDeparture, int headway,
+                                        int speed) {
+        return new LineTimetable(lineId, LocalTime.parse(firstDeparture), LocalTime.parse(lastDeparture),
+                headway, speed);
+    }
+
+    // 마지막 노선은 시간표를 등록하지 않는다.
+    private Timetable generateTimetable(Random random) {
+        List<LineTimetable> lineTimetables = new ArrayList<>();
+        for (long lineId = 1; lineId < LINE_COUNT; lineId++) {
+            LocalTime firstDeparture = LocalTime.of(5, random.nextInt(60));
+            LocalTime lastDeparture = LocalTime.of(20 + random.nextInt(4), random.nextInt(60));
+            lineTimetables.add(new LineTimetable(lineId, firstDeparture, lastDeparture, 1 + random.nextInt(20),
+                    20 + random.nextInt(60)));
+        }
+        return Timetable.of(lineTimetables);
+    }
+
+    private boolean isRegistered(List<Section> sections, Station station) {
+        return sections.stream()
+                .anyMatch(section -> section.hasStationOf(station));
+    }
+
+    // 모든 열차가 정차역 사이를 지나는 구간들을 출발 시각 순서로 나열한다.
+    private List<Connection> toConnections(List<Section> sections, Map<Long, List<Station>> lines,
+                                           Timetable timetable) {
+        List<Connection> connections = new ArrayList<>();
+        lines.forEach((lineId, stations) -> timetable.findLineTimetable(lineId).ifPresent(lineTimetable -> {
+            List<Station> reversed = new ArrayList<>(stations);
+            Collections.reverse(reversed);
+            addConnections(connections, sections, lineId, stations, lineTimetable);
+            addConnections(connections, sections, lineId, reversed, lineTimetable);
+        }));
+        connections.sort(Comparator.comparingInt(connection -> connection.departure));
+        return connections;
+    }
+
+    private void addConnections(List<Connection> connections, List<Section> sections, Long lineId,
+                                List<Station> stations, LineTimetable lineTimetable) {
+        for (int trip = 0; trip < lineTimetable.getTripCount(); trip++) {
+            int time = lineTimetable.getFirstDepartureSecond() + trip * lineTimetable.getHeadwaySeconds();
+            for (int i = 1; i < stations.size(); i++) {
+                int distance = findDistance(sections, lineId, stations.get(i - 1), stations.get(i));
+                int arrival = time + lineTimetable.calculateRunningSeconds(distance);
+                connections.add(new Connection(stations.get(i - 1), stations.get(i), time, arrival));
+                time = arrival;
+            }
+        }
+    }
+
+    private int findDistance(List<Section> sections, Long lineId, Station from, Station to) {
+        return sections.stream()
+                .filter(section -> section.getLineId().equals(lineId))
+                .filter(section -> section.hasStationOf(from) && section.hasStationOf(to))
+                .findFirst()
+                .orElseThrow()
+                .getDistance();
+    }
+
+    private int scanConnections(List<Connection> connections, Station source, Station target, int departure) {
+        Map<Station, Integer> arrivals = new HashMap<>();
+        arrivals.put(source, departure);
+        for (Connection connection : connections) {
+            int reached = arrivals.getOrDefault(connection.from, Integer.MAX_VALUE);
+            if (reached <= connection.departure
+                    && connection.arrival < arrivals.getOrDefault(connection.to, Integer.MAX_VALUE)) {
+                arrivals.put(connection.to, connection.arrival);
+            }
+        }
+        return arrivals.getOrDefault(target, Integer.MAX_VALUE);
+    }
+
+    private static class Connection {
+
+        private final Station from;
+        private final Station to;
+        private final int departure;
+        private final int arrival;
+
+        Connection(Station from, Station to, int departure, int arrival) {
+            this.from = from;
+            this.to = to;
+            this.departure = departure;
+            this.arrival = arrival;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+class ReachabilityBudgetTest {
+
+    @Test
+    void 입력된_기준_이하의_거리와_요금만_허용() {
+        ReachabilityBudget budget = ReachabilityBudget.of(10, 1350);
+
+        assertThat(budget.allowsDistance(10)).isTrue();
+        assertThat(budget.allowsDistance(11)).isFalse();
+        assertThat(budget.allowsFare(1350)).isTrue();
+        assertThat(budget.allowsFare(1351)).isFalse();
+    }
+
+    @Test
+    void 입력되지_않은_기준은_제한하지_않음() {
+        ReachabilityBudget budget = ReachabilityBudget.of(null, 2000);
+
+        assertThat(budget.allowsDistance(Integer.MAX_VALUE)).isTrue();
+    }
+
+    @Test
+    void 거리와_요금이_모두_입력되지_않은_경우_예외발생() {
+        assertThatThrownBy(() -> ReachabilityBudget.of(null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 음수가_입력된_경우_예외발생() {
+        assertThatThrownBy(() -> ReachabilityBudget.of(-1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
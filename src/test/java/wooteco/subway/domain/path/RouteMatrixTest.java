@@ -0,0 +1,74 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+import wooteco.subway.domain.line.Line;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@SuppressWarnings("NonAsciiCharacters")
+class RouteMatrixTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 선릉역 = new Station(2L, "선릉역");
+    private static final Station 잠실역 = new Station(3L, "잠실역");
+    private static final Station 청계산입구역 = new Station(4L, "청계산입구역");
+    private static final Station 양재역 = new Station(5L, "양재역");
+    private static final AgeDiscountPolicy 성인 = AgeDiscountPolicy.of(30);
+
+    @Test
+    void 출발역과_도착역의_모든_쌍에_대해_거리와_요금을_계산() {
+        Navigator navigator = new Navigator(List.of(
+                new Section(1L, 강남역, 선릉역, 5),
+                new Section(2L, 선릉역, 잠실역, 7),
+                new Section(3L, 청계산입구역, 양재역, 3)));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0, 2L, 500, 3L, 0));
+
+        RouteMatrix actual = navigator.calculateRouteMatrix(List.of(강남역, 잠실역),
+                List.of(강남역, 잠실역, 청계산입구역, 잠실역), lineFareTable, 성인);
+
+        assertThat(actual.getDistances()).isEqualTo(new int[][]{{0, 12, -1, 12}, {12, 0, -1, 0}});
+        assertThat(actual.getFares()).isEqualTo(new int[][]{{0, 1850, -1, 1850}, {1850, 0, -1, 0}});
+        assertThat(actual.isReachable(0, 2)).isFalse();
+    }
+
+    @Test
+    void 개별로_조회한_최단경로와_같은_거리와_요금을_반환() {
+        SubwayNetwork network = new SubwayNetworkGenerator(15L).generate(8, 120);
+        Navigator navigator = new Navigator(network.toSections());
+        LineFareTable lineFareTable = LineFareTable.of(network.getLines()
+                .stream()
+                .collect(Collectors.toMap(Line::getId, Line::getExtraFare)));
+        List<Station> sources = network.getStations().subList(0, 10);
+        List<Station> targets = network.getStations().subList(50, 70);
+
+        RouteMatrix actual = navigator.calculateRouteMatrix(sources, targets, lineFareTable, AgeDiscountPolicy.of(15));
+
+        for (int row = 0; row < sources.size(); row++) {
+            for (int column = 0; column < targets.size(); column++) {
+                Path path = new Path(sources.get(row), targets.get(column), navigator);
+                int expectedFare = path.calculateFare(lineFareTable.findExtraFares(path.getPassingLineIds()), 15);
+                assertThat(actual.getDistance(row, column)).isEqualTo(path.getDistance());
+                assertThat(actual.getFare(row, column)).isEqualTo(expectedFare);
+            }
+        }
+    }
+
+    @Test
+    void 구간에_등록되지_않은_역이_포함된_경우_예외발생() {
+        Navigator navigator = new Navigator(List.of(new Section(1L, 강남역, 선릉역, 5)));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0));
+
+        assertThatThrownBy(() -> navigator.calculateRouteMatrix(List.of(강남역), List.of(잠실역), lineFareTable, 성인))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
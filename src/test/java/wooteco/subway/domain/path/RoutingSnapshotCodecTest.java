@@ -0,0 +1,88 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.line.LineExtraFare;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.line.LineTimetable;
+import wooteco.subway.domain.line.Timetable;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+@SuppressWarnings("NonAsciiCharacters")
+class RoutingSnapshotCodecTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 역삼역 = new Station(2L, "역삼역");
+    private static final Station 선릉역 = new Station(3L, "선릉역");
+    private static final Station 잠실역 = new Station(4L, "잠실역");
+
+    private final Section 강남_역삼 = new Section(1L, 강남역, 역삼역, 10);
+    private final Section 역삼_선릉 = new Section(1L, 역삼역, 선릉역, 5);
+    private final Section 강남_잠실 = new Section(2L, 강남역, 잠실역, 30);
+    private final RoutingSnapshot snapshot = RoutingSnapshot.of(1L, List.of(강남_역삼, 역삼_선릉, 강남_잠실),
+            LineFareTable.of(Map.of(1L, 0, 2L, 900)), SearchSettings.of(SearchStrategy.DIJKSTRA));
+
+    @Test
+    void 기록한_스냅샷을_읽으면_같은_경로와_요금표를_반환() {
+        RoutingSnapshot actual = decode(RoutingSnapshotCodec.encode(snapshot), 7L);
+
+        assertThat(actual.getVersion()).isEqualTo(7L);
+        assertThat(actual.getNavigator().calculateShortestPath(선릉역, 잠실역))
+                .isEqualTo(snapshot.getNavigator().calculateShortestPath(선릉역, 잠실역));
+        assertThat(actual.getLineFareTable().findExtraFares(List.of(1L, 2L)))
+                .containsExactly(new LineExtraFare(0), new LineExtraFare(900));
+    }
+
+    @Test
+    void 구간_변경이_반영된_스냅샷도_그대로_기록됨() {
+        RoutingSnapshot patched = snapshot.applySectionUpdates(2L, List.of(역삼_선릉), List.of()).get();
+
+        RoutingSnapshot actual = decode(RoutingSnapshotCodec.encode(patched), 2L);
+
+        assertThat(actual.getNavigator().calculateShortestPath(역삼역, 잠실역))
+                .containsExactly(강남_역삼, 강남_잠실);
+        assertThatThrownBy(() -> actual.getNavigator().calculateShortestPath(강남역, 선릉역))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 시간표가_등록된_스냅샷도_같은_시간표로_기록됨() {
+        Timetable timetable = Timetable.of(List.of(LineTimetable.of(1L, "05:30", "23:00", 10, 60)));
+        RoutingSnapshot scheduled = RoutingSnapshot.of(1L, List.of(강남_역삼, 역삼_선릉, 강남_잠실),
+                LineFareTable.of(Map.of(1L, 0, 2L, 900)), timetable, SearchSettings.of(SearchStrategy.DIJKSTRA));
+
+        RoutingSnapshot actual = decode(RoutingSnapshotCodec.encode(scheduled), 1L);
+
+        assertThat(actual.getTimetable().toLineTimetables()).isEqualTo(timetable.toLineTimetables());
+    }
+
+    @Test
+    void 체크섬이_맞지_않는_경우_예외발생() {
+        byte[] bytes = RoutingSnapshotCodec.encode(snapshot);
+        bytes[bytes.length - 1] ^= 1;
+
+        assertThatThrownBy(() -> decode(bytes, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("손상되었거나 호환되지 않는 스냅샷 파일입니다.");
+    }
+
+    @Test
+    void 일부만_기록된_경우_예외발생() {
+        byte[] bytes = RoutingSnapshotCodec.encode(snapshot);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+        assertThatThrownBy(() -> decode(truncated, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RoutingSnapshot decode(byte[] bytes, long version) {
+        return RoutingSnapshotCodec.decode(ByteBuffer.wrap(bytes), version, SearchSettings.of(SearchStrategy.DIJKSTRA));
+    }
+}
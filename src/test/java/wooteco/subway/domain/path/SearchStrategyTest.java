@@ -0,0 +1,114 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.WeightedMultigraph;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+@SuppressWarnings("NonAsciiCharacters")
+class SearchStrategyTest {
+
+    private static final long SEED = 20220517L;
+    private static final int NETWORK_COUNT = 50;
+    private static final int STATION_COUNT = 40;
+    private static final int SECTION_COUNT = 70;
+
+    // 기존에 사용하던 JGraphT의 다익스트라 탐색을 기준으로 비교한다.
+    @ParameterizedTest
+    @EnumSource(SearchStrategy.class)
+    void 무작위로_생성된_노선도에서_JGraphT_다익스트라_탐색과_같은_최단거리를_반환(SearchStrategy strategy) {
+        Random random = new Random(SEED);
+        for (int i = 0; i < NETWORK_COUNT; i++) {
+            List<Station> stations = generateStations();
+            List<Section> sections = generateSections(random, stations);
+            DijkstraShortestPath<Station, DefaultWeightedEdge> expected = toJGraphTDijkstra(sections);
+            Navigator actual = new Navigator(sections, strategy);
+
+            for (int j = 0; j < STATION_COUNT; j++) {
+                Station source = stations.get(random.nextInt(STATION_COUNT));
+                Station target = stations.get(random.nextInt(STATION_COUNT));
+                assertSameShortestDistance(expected, actual, source, target);
+            }
+        }
+    }
+
+    private List<Station> generateStations() {
+        List<Station> stations = new ArrayList<>();
+        for (long id = 1; id <= STATION_COUNT; id++) {
+            stations.add(new Station(id, "역" + id));
+        }
+        return stations;
+    }
+
+    private List<Section> generateSections(Random random, List<Station> stations) {
+        List<Section> sections = new ArrayList<>();
+        for (int i = 1; i < STATION_COUNT; i++) {
+            Station upStation = stations.get(random.nextInt(i));
+            sections.add(new Section(1L, upStation, stations.get(i), 1 + random.nextInt(20)));
+        }
+        while (sections.size() < SECTION_COUNT) {
+            Station upStation = stations.get(random.nextInt(STATION_COUNT));
+            Station downStation = stations.get(random.nextInt(STATION_COUNT));
+            if (!upStation.equals(downStation)) {
+                sections.add(new Section(2L, upStation, downStation, 1 + random.nextInt(20)));
+            }
+        }
+        return sections;
+    }
+
+    private DijkstraShortestPath<Station, DefaultWeightedEdge> toJGraphTDijkstra(List<Section> sections) {
+        WeightedMultigraph<Station, DefaultWeightedEdge> graph = new WeightedMultigraph<>(DefaultWeightedEdge.class);
+        for (Section section : sections) {
+            graph.addVertex(section.getUpStation());
+            graph.addVertex(section.getDownStation());
+            DefaultWeightedEdge edge = graph.addEdge(section.getUpStation(), section.getDownStation());
+            graph.setEdgeWeight(edge, section.getDistance());
+        }
+        return new DijkstraShortestPath<>(graph);
+    }
+
+    private void assertSameShortestDistance(DijkstraShortestPath<Station, DefaultWeightedEdge> expected,
+                                            Navigator actual, Station source, Station target) {
+        List<Section> actualPath = actual.calculateShortestPath(source, target);
+
+        assertThat(toDistance(actualPath)).isEqualTo((int) expected.getPathWeight(source, target));
+        assertThat(toLastStation(source, actualPath)).isEqualTo(target);
+    }
+
+    private int toDistance(List<Section> path) {
+        return path.stream()
+                .mapToInt(Section::getDistance)
+                .sum();
+    }
+
+    private Station toLastStation(Station source, List<Section> path) {
+        Station current = source;
+        for (Section section : path) {
+            current = section.getOppositeEnd(current);
+        }
+        return current;
+    }
+
+    @ParameterizedTest
+    @EnumSource(SearchStrategy.class)
+    void 도달할_수_없는_경로를_조회하려는_경우_예외_발생(SearchStrategy strategy) {
+        Station 강남역 = new Station(1L, "강남역");
+        Station 역삼역 = new Station(2L, "역삼역");
+        Station 잠실역 = new Station(3L, "잠실역");
+        Station 선릉역 = new Station(4L, "선릉역");
+        Navigator navigator = new Navigator(List.of(
+                new Section(강남역, 역삼역, 10), new Section(잠실역, 선릉역, 20)), strategy);
+
+        assertThatThrownBy(() -> navigator.calculateShortestPath(강남역, 잠실역))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,138 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@SuppressWarnings("NonAsciiCharacters")
+class SectionGraphTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 역삼역 = new Station(2L, "역삼역");
+    private static final Station 선릉역 = new Station(3L, "선릉역");
+    private static final Station 미등록역 = new Station(4L, "미등록역");
+
+    private final Section 강남_역삼 = new Section(1L, 강남역, 역삼역, 10);
+    private final Section 역삼_선릉 = new Section(1L, 역삼역, 선릉역, 5);
+    private final SectionGraph graph = SectionGraph.of(List.of(강남_역삼, 역삼_선릉));
+
+    @Test
+    void 구간에_등록된_역들에_0부터_시작하는_인덱스를_부여() {
+        assertThat(graph.getStationCount()).isEqualTo(3);
+        assertThat(graph.getStation(graph.indexOf(역삼역))).isEqualTo(역삼역);
+    }
+
+    @Test
+    void 등록되지_않은_역의_인덱스는_존재하지_않음() {
+        assertThat(graph.indexOf(미등록역)).isEqualTo(SectionGraph.NOT_FOUND);
+        assertThat(graph.indexOf(new Station(1L, "이름이_다른_역"))).isEqualTo(SectionGraph.NOT_FOUND);
+    }
+
+    @Test
+    void 각_구간은_양방향의_간선으로_저장() {
+        int 역삼 = graph.indexOf(역삼역);
+        List<Section> actual = new ArrayList<>();
+        for (int arc = graph.firstArc(역삼); arc < graph.endArc(역삼); arc++) {
+            actual.add(graph.getSectionOf(arc));
+        }
+
+        assertThat(graph.getArcCount()).isEqualTo(4);
+        assertThat(actual).containsExactlyInAnyOrder(강남_역삼, 역삼_선릉);
+    }
+
+    @Test
+    void 구간_변경을_반영한_그래프는_전체를_다시_구성한_그래프와_같음() {
+        SubwayNetwork network = new SubwayNetworkGenerator(17L).generate(6, 80);
+        List<Section> sections = network.toSections();
+        Section 삭제_구간 = sections.get(3);
+        Station 새로운역 = new Station(1000L, "새로운역");
+        List<Section> removedSections = List.of(삭제_구간, sections.get(40), sections.get(sections.size() - 1));
+        List<Section> addedSections = List.of(
+                new Section(99L, 삭제_구간.getUpStation(), 새로운역, 4),
+                new Section(99L, 새로운역, 삭제_구간.getDownStation(), 6));
+
+        SectionGraph actual = SectionGraph.of(sections).patch(removedSections, addedSections).get();
+
+        assertSameGraph(actual, withUpdates(sections, removedSections, addedSections));
+    }
+
+    @Test
+    void 연속된_구간_변경도_누적되어_반영됨() {
+        SubwayNetwork network = new SubwayNetworkGenerator(18L).generate(6, 80);
+        List<Section> sections = network.toSections();
+        Station 새로운역 = new Station(1000L, "새로운역");
+        Station 다른_새로운역 = new Station(1001L, "다른_새로운역");
+        List<Section> firstRemoved = List.of(sections.get(10));
+        List<Section> firstAdded = List.of(
+                new Section(99L, sections.get(10).getUpStation(), 새로운역, 4),
+                new Section(99L, 새로운역, sections.get(10).getDownStation(), 6),
+                new Section(99L, 새로운역, 다른_새로운역, 2));
+        List<Section> secondRemoved = List.of(firstAdded.get(2), sections.get(20), sections.get(21));
+        List<Section> secondAdded = List.of(new Section(98L, 다른_새로운역, sections.get(30).getUpStation(), 3));
+
+        SectionGraph actual = SectionGraph.of(sections)
+                .patch(firstRemoved, firstAdded).get()
+                .patch(secondRemoved, secondAdded).get();
+        List<Section> expected = new ArrayList<>(sections);
+        expected.removeAll(firstRemoved);
+        expected.addAll(firstAdded);
+
+        assertSameGraph(actual, withUpdates(expected, secondRemoved, secondAdded));
+    }
+
+    @Test
+    void 모든_구간이_삭제된_역은_등록되지_않은_역으로_취급() {
+        Optional<SectionGraph> actual = graph.patch(List.of(역삼_선릉), List.of());
+
+        assertThat(actual.get().indexOf(선릉역)).isEqualTo(SectionGraph.NOT_FOUND);
+        assertThat(actual.get().getArcCount()).isEqualTo(2);
+        assertThat(graph.indexOf(선릉역)).isNotEqualTo(SectionGraph.NOT_FOUND);
+    }
+
+    @Test
+    void 삭제할_구간이_그래프에_없는_경우_빈_값을_반환() {
+        Optional<SectionGraph> actual = graph.patch(List.of(new Section(1L, 강남역, 선릉역, 15)), List.of());
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 추가할_구간이_이미_그래프에_있는_경우_빈_값을_반환() {
+        Optional<SectionGraph> actual = graph.patch(List.of(), List.of(역삼_선릉));
+
+        assertThat(actual).isEmpty();
+    }
+
+    private SectionGraph withUpdates(List<Section> sections, List<Section> removedSections,
+                                     List<Section> addedSections) {
+        List<Section> updatedSections = new ArrayList<>(sections);
+        updatedSections.removeAll(removedSections);
+        updatedSections.addAll(addedSections);
+        return SectionGraph.of(updatedSections);
+    }
+
+    private void assertSameGraph(SectionGraph actual, SectionGraph expected) {
+        assertThat(actual.getArcCount()).isEqualTo(expected.getArcCount());
+        for (int vertex = 0; vertex < expected.getStationCount(); vertex++) {
+            int actualVertex = actual.indexOf(expected.getStation(vertex));
+            assertThat(actualVertex).isNotEqualTo(SectionGraph.NOT_FOUND);
+            assertThat(arcsOf(actual, actualVertex)).containsExactlyInAnyOrderElementsOf(arcsOf(expected, vertex));
+        }
+    }
+
+    private List<String> arcsOf(SectionGraph graph, int vertex) {
+        List<String> arcs = new ArrayList<>();
+        for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+            arcs.add(graph.getStation(graph.tailOf(arc)) + "->" + graph.getStation(graph.headOf(arc))
+                    + ":" + graph.weightOf(arc) + ":" + graph.getSectionOf(arc));
+        }
+        return arcs;
+    }
+}
@@ -0,0 +1,134 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.fare.AgeDiscountPolicy;
+import wooteco.subway.domain.line.Line;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.SubwayNetwork;
+import wooteco.subway.fixture.SubwayNetworkGenerator;
+
+@SuppressWarnings("NonAsciiCharacters")
+class ShortestPathTreeTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 선릉역 = new Station(2L, "선릉역");
+    private static final Station 잠실역 = new Station(3L, "잠실역");
+    private static final Station 청계산입구역 = new Station(4L, "청계산입구역");
+
+    @Test
+    void 출발역을_제외한_도달_가능한_역들을_가까운_순서대로_거리와_요금과_함께_전달() {
+        Navigator navigator = new Navigator(List.of(
+                new Section(1L, 강남역, 선릉역, 5),
+                new Section(2L, 선릉역, 잠실역, 7)));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0, 2L, 500));
+
+        List<ReachableStation> actual = toList(
+                navigator.calculateShortestPathTree(강남역, lineFareTable, AgeDiscountPolicy.of(30)));
+        List<ReachableStation> expected = List.of(
+                new ReachableStation(선릉역, 5, 1250),
+                new ReachableStation(잠실역, 12, 1250 + 100 + 500));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void 연결되지_않은_역은_결과에서_제외() {
+        Navigator navigator = new Navigator(List.of(
+                new Section(1L, 강남역, 선릉역, 5),
+                new Section(1L, 잠실역, 청계산입구역, 5)));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0));
+
+        List<ReachableStation> actual = toList(
+                navigator.calculateShortestPathTree(강남역, lineFareTable, AgeDiscountPolicy.of(30)));
+
+        assertThat(actual).extracting(ReachableStation::getStation)
+                .containsExactly(선릉역);
+    }
+
+    @Test
+    void 노선이_지정되지_않은_구간은_추가요금_없이_요금을_계산() {
+        Navigator navigator = new Navigator(List.of(new Section(강남역, 선릉역, 5)));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 500));
+
+        List<ReachableStation> actual = toList(
+                navigator.calculateShortestPathTree(강남역, lineFareTable, AgeDiscountPolicy.of(30)));
+
+        assertThat(actual).containsExactly(new ReachableStation(선릉역, 5, 1250));
+    }
+
+    @Test
+    void 역마다_개별로_조회한_최단경로와_같은_거리와_요금을_반환() {
+        SubwayNetwork network = new SubwayNetworkGenerator(14L).generate(8, 120);
+        Navigator navigator = new Navigator(network.toSections());
+        LineFareTable lineFareTable = LineFareTable.of(network.getLines()
+                .stream()
+                .collect(Collectors.toMap(Line::getId, Line::getExtraFare)));
+        Station source = network.getStations().get(0);
+
+        List<ReachableStation> actual = toList(
+                navigator.calculateShortestPathTree(source, lineFareTable, AgeDiscountPolicy.of(15)));
+
+        assertThat(actual).hasSize(network.getStations().size() - 1);
+        for (ReachableStation reachableStation : actual) {
+            Path path = new Path(source, reachableStation.getStation(), navigator);
+            int expectedFare = path.calculateFare(lineFareTable.findExtraFares(path.getPassingLineIds()), 15);
+            assertThat(reachableStation.getDistance()).isEqualTo(path.getDistance());
+            assertThat(reachableStation.getFare()).isEqualTo(expectedFare);
+        }
+    }
+
+    @Test
+    void 예산_이내의_역만_전달() {
+        Navigator navigator = new Navigator(List.of(
+                new Section(1L, 강남역, 선릉역, 5),
+                new Section(2L, 선릉역, 잠실역, 3),
+                new Section(1L, 잠실역, 청계산입구역, 10)));
+        LineFareTable lineFareTable = LineFareTable.of(Map.of(1L, 0, 2L, 500));
+        ShortestPathTree shortestPathTree =
+                navigator.calculateShortestPathTree(강남역, lineFareTable, AgeDiscountPolicy.of(30));
+
+        List<ReachableStation> withinDistance = new ArrayList<>();
+        shortestPathTree.forEachWithin(ReachabilityBudget.of(8, null), withinDistance::add);
+        List<ReachableStation> withinFare = new ArrayList<>();
+        shortestPathTree.forEachWithin(ReachabilityBudget.of(null, 1250), withinFare::add);
+
+        assertThat(withinDistance).extracting(ReachableStation::getStation)
+                .containsExactly(선릉역, 잠실역);
+        assertThat(withinFare).extracting(ReachableStation::getStation)
+                .containsExactly(선릉역);
+    }
+
+    @Test
+    void 예산을_적용한_결과는_전체_결과에서_예산을_넘는_역을_제외한_것과_같음() {
+        SubwayNetwork network = new SubwayNetworkGenerator(16L).generate(8, 120);
+        Navigator navigator = new Navigator(network.toSections());
+        LineFareTable lineFareTable = LineFareTable.of(network.getLines()
+                .stream()
+                .collect(Collectors.toMap(Line::getId, Line::getExtraFare)));
+        ShortestPathTree shortestPathTree = navigator.calculateShortestPathTree(
+                network.getStations().get(0), lineFareTable, AgeDiscountPolicy.of(30));
+
+        List<ReachableStation> actual = new ArrayList<>();
+        shortestPathTree.forEachWithin(ReachabilityBudget.of(40, 1650), actual::add);
+        List<ReachableStation> expected = toList(shortestPathTree).stream()
+                .filter(station -> station.getDistance() <= 40 && station.getFare() <= 1650)
+                .collect(Collectors.toList());
+
+        assertThat(actual).isNotEmpty();
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private List<ReachableStation> toList(ShortestPathTree shortestPathTree) {
+        List<ReachableStation> reachableStations = new ArrayList<>();
+        shortestPathTree.forEach(reachableStations::add);
+        return reachableStations;
+    }
+}
@@ -1,11 +1,14 @@
 package wooteco.subway.fixture;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.stereotype.Component;
 import wooteco.subway.domain.section.Section;
 import wooteco.subway.domain.station.Station;
@@ -41,4 +44,11 @@ public class DatabaseFixtureUtils {
 
         jdbcTemplate.batchUpdate(sql, SqlParameterSourceUtils.createBatch(sectionList));
     }
+
+    public void saveNetwork(SubwayNetwork network) {
+        byte[] script = network.toSqlScript().getBytes(StandardCharsets.UTF_8);
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ByteArrayResource(script));
+
+        populator.execute(jdbcTemplate.getJdbcTemplate().getDataSource());
+    }
 }
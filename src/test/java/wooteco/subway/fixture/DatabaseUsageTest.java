@@ -11,6 +11,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
+import wooteco.subway.domain.path.Disruption;
+import wooteco.subway.repository.RouteCacheRepository;
+import wooteco.subway.repository.RoutingSnapshotRepository;
+import wooteco.subway.repository.StationRepository;
 
 @SpringBootTest
 @TestInstance(Lifecycle.PER_CLASS)
@@ -25,6 +29,15 @@ public class DatabaseUsageTest {
     @Autowired
     protected DatabaseFixtureUtils databaseFixtureUtils;
 
+    @Autowired
+    protected RoutingSnapshotRepository routingSnapshotRepository;
+
+    @Autowired
+    protected RouteCacheRepository routeCacheRepository;
+
+    @Autowired
+    protected StationRepository stationRepository;
+
     @BeforeAll
     void setUpSchema() throws Exception {
         try (Connection connection = dataSource.getConnection()) {
@@ -37,5 +50,9 @@ public class DatabaseUsageTest {
         try (Connection connection = dataSource.getConnection()) {
             ScriptUtils.executeSqlScript(connection, new ClassPathResource("cleanse_test_db.sql"));
         }
+        routingSnapshotRepository.invalidate();
+        routingSnapshotRepository.changeDisruption(disruption -> Disruption.NONE);
+        routeCacheRepository.invalidateAll();
+        stationRepository.invalidateCache();
     }
 }
@@ -0,0 +1,75 @@
+package wooteco.subway.fixture;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import wooteco.subway.domain.line.Line;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+public class SubwayNetwork {
+
+    private static final int ROWS_PER_INSERT = 1000;
+
+    private final List<Station> stations;
+    private final List<Line> lines;
+
+    public SubwayNetwork(List<Station> stations, List<Line> lines) {
+        this.stations = List.copyOf(stations);
+        this.lines = List.copyOf(lines);
+    }
+
+    public List<Section> toSections() {
+        List<Section> sections = new ArrayList<>();
+        for (Line line : lines) {
+            sections.addAll(line.toSectionList());
+        }
+        return sections;
+    }
+
+    // schema.sql 로 생성된 빈 테이블에 그대로 적재할 수 있는 스크립트로, 이후 자동 생성되는 id 가 겹치지 않도록 시작값을 조정한다.
+    public String toSqlScript() {
+        StringBuilder script = new StringBuilder();
+        appendInserts(script, "station(id, name)", stations,
+                station -> String.format("(%d, '%s')", station.getId(), station.getName()));
+        appendInserts(script, "line(id, name, color, extra_fare)", lines,
+                line -> String.format("(%d, '%s', '%s', %d)",
+                        line.getId(), line.getName(), line.getColor(), line.getExtraFare()));
+        appendInserts(script, "section(line_id, up_station_id, down_station_id, distance)", toSections(),
+                section -> String.format("(%d, %d, %d, %d)", section.getLineId(),
+                        section.getUpStationId(), section.getDownStationId(), section.getDistance()));
+        script.append(String.format("ALTER TABLE station ALTER COLUMN id RESTART WITH %d;%n", stations.size() + 1));
+        script.append(String.format("ALTER TABLE line ALTER COLUMN id RESTART WITH %d;%n", lines.size() + 1));
+        return script.toString();
+    }
+
+    private <T> void appendInserts(StringBuilder script, String table, List<T> rows, Function<T, String> toValues) {
+        for (int start = 0; start < rows.size(); start += ROWS_PER_INSERT) {
+            List<T> chunk = rows.subList(start, Math.min(rows.size(), start + ROWS_PER_INSERT));
+            script.append("INSERT INTO ").append(table).append(" VALUES ");
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    script.append(", ");
+                }
+                script.append(toValues.apply(chunk.get(i)));
+            }
+            script.append(String.format(";%n"));
+        }
+    }
+
+    public void writeSqlScript(Path path) throws IOException {
+        Files.writeString(path, toSqlScript(), StandardCharsets.UTF_8);
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+}
@@ -0,0 +1,175 @@
+package wooteco.subway.fixture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import wooteco.subway.domain.line.Line;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.section.Sections;
+import wooteco.subway.domain.station.Station;
+
+public class SubwayNetworkGenerator {
+
+    private static final String INVALID_SIZE_EXCEPTION = "노선마다 두 개 이상의 지하철역이 필요합니다.";
+    private static final int MAX_DISTANCE = 10;
+    private static final int[] EXTRA_FARES = {0, 0, 0, 100, 200, 500, 900};
+    private static final String[] COLORS = {"bg-red-600", "bg-orange-600", "bg-yellow-600", "bg-green-600",
+            "bg-teal-600", "bg-blue-600", "bg-indigo-600", "bg-purple-600", "bg-pink-600", "bg-gray-600"};
+    private static final int BRANCH_INTERVAL = 4;
+    private static final int RING_INTERVAL = 5;
+    private static final int HUBS_PER_LINE = 2;
+
+    private final long seed;
+
+    public SubwayNetworkGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    // 환승역을 지나는 간선 노선, 기존 노선의 역에서 갈라지는 지선, 연결 노선으로 닫히는 순환선을 섞어 생성한다.
+    // 첫 노선 이후의 모든 노선은 이미 생성된 역을 하나 이상 지나므로, 생성된 노선도는 언제나 하나로 연결되어 있다.
+    public SubwayNetwork generate(int lineCount, int stationCount) {
+        validateSize(lineCount, stationCount);
+        Random random = new Random(seed);
+        List<Station> stations = createStations(stationCount);
+        Builder builder = new Builder(random, stations, Math.max(2, lineCount));
+        while (builder.lineCount() < lineCount) {
+            int lineIndex = builder.lineCount();
+            int remainingLines = lineCount - lineIndex;
+            int quota = builder.remainingStationCount() / remainingLines;
+            if (remainingLines == 1) {
+                quota = builder.remainingStationCount();
+            }
+            if (lineIndex % RING_INTERVAL == RING_INTERVAL - 1 && remainingLines >= 2 && quota >= 2) {
+                builder.addRingLine(quota);
+            } else if (lineIndex % BRANCH_INTERVAL == BRANCH_INTERVAL - 1) {
+                builder.addBranchLine(quota);
+            } else {
+                builder.addTrunkLine(quota);
+            }
+        }
+        return new SubwayNetwork(stations, builder.lines);
+    }
+
+    private void validateSize(int lineCount, int stationCount) {
+        if (lineCount < 1 || stationCount < lineCount * 2) {
+            throw new IllegalArgumentException(INVALID_SIZE_EXCEPTION);
+        }
+    }
+
+    private List<Station> createStations(int count) {
+        List<Station> stations = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            stations.add(new Station(id, "역" + id));
+        }
+        return stations;
+    }
+
+    private static class Builder {
+
+        final Random random;
+        final List<Station> stations;
+        final int maxHubCount;
+        final List<Line> lines = new ArrayList<>();
+        final List<Station> usedStations = new ArrayList<>();
+        final List<Station> hubs = new ArrayList<>();
+        final boolean[] used;
+        int nextFreshIndex = 0;
+
+        Builder(Random random, List<Station> stations, int maxHubCount) {
+            this.random = random;
+            this.stations = stations;
+            this.maxHubCount = maxHubCount;
+            this.used = new boolean[stations.size()];
+        }
+
+        int lineCount() {
+            return lines.size();
+        }
+
+        int remainingStationCount() {
+            return stations.size() - nextFreshIndex;
+        }
+
+        // 두 환승역을 지나는 노선으로, 첫 노선은 새로운 역들로만 이루어진다.
+        void addTrunkLine(int quota) {
+            if (hubs.size() < 2) {
+                addLine(takeFresh(Math.max(2, quota)));
+                return;
+            }
+            Station firstHub = pickHub();
+            Station secondHub = pickHub();
+            while (secondHub.equals(firstHub)) {
+                secondHub = pickHub();
+            }
+            int before = random.nextInt(quota + 1);
+            int between = random.nextInt(quota - before + 1);
+            List<Station> route = new ArrayList<>(takeFresh(before));
+            route.add(firstHub);
+            route.addAll(takeFresh(between));
+            route.add(secondHub);
+            route.addAll(takeFresh(quota - before - between));
+            addLine(route);
+        }
+
+        // 이미 사용된 임의의 역에서 갈라져 새로운 역들로만 이어지는 노선
+        void addBranchLine(int quota) {
+            if (quota < 1) {
+                addTrunkLine(quota);
+                return;
+            }
+            List<Station> route = new ArrayList<>();
+            route.add(usedStations.get(random.nextInt(usedStations.size())));
+            route.addAll(takeFresh(quota));
+            addLine(route);
+        }
+
+        // 구간 목록은 상행 종점이 있어야 하므로, 순환선의 마지막 구간은 별도의 연결 노선으로 닫는다.
+        void addRingLine(int quota) {
+            List<Station> route = new ArrayList<>();
+            route.add(pickHub());
+            route.addAll(takeFresh(quota));
+            addLine(route);
+            addLine(List.of(route.get(route.size() - 1), route.get(0)));
+        }
+
+        private Station pickHub() {
+            return hubs.get(random.nextInt(hubs.size()));
+        }
+
+        private List<Station> takeFresh(int count) {
+            List<Station> fresh = new ArrayList<>();
+            while (fresh.size() < count && nextFreshIndex < stations.size()) {
+                fresh.add(stations.get(nextFreshIndex++));
+            }
+            return fresh;
+        }
+
+        private void addLine(List<Station> route) {
+            long lineId = lines.size() + 1L;
+            List<Section> sections = new ArrayList<>();
+            for (int i = 0; i + 1 < route.size(); i++) {
+                sections.add(new Section(lineId, route.get(i), route.get(i + 1), 1 + random.nextInt(MAX_DISTANCE)));
+            }
+            String color = COLORS[random.nextInt(COLORS.length)];
+            int extraFare = EXTRA_FARES[random.nextInt(EXTRA_FARES.length)];
+            lines.add(new Line(lineId, lineId + "호선", color, extraFare, new Sections(sections)));
+            markUsed(route);
+        }
+
+        // 새로 추가된 역들 중 일부를 환승역으로 지정하여, 이후의 노선들이 환승역에 모이게 한다.
+        private void markUsed(List<Station> route) {
+            List<Station> fresh = new ArrayList<>();
+            for (Station station : route) {
+                int index = station.getId().intValue() - 1;
+                if (!used[index]) {
+                    used[index] = true;
+                    fresh.add(station);
+                }
+            }
+            usedStations.addAll(fresh);
+            for (int i = 0; i < HUBS_PER_LINE && hubs.size() < maxHubCount && !fresh.isEmpty(); i++) {
+                hubs.add(fresh.remove(random.nextInt(fresh.size())));
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package wooteco.subway.fixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import wooteco.subway.domain.line.Line;
+import wooteco.subway.domain.path.Navigator;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+@SuppressWarnings("NonAsciiCharacters")
+class SubwayNetworkGeneratorTest {
+
+    private static final long SEED = 20220517L;
+
+    @Test
+    void 동일한_시드로는_동일한_노선도를_생성() {
+        SubwayNetwork actual = new SubwayNetworkGenerator(SEED).generate(9, 300);
+        SubwayNetwork expected = new SubwayNetworkGenerator(SEED).generate(9, 300);
+
+        assertThat(actual.getLines()).isEqualTo(expected.getLines());
+        assertThat(actual.toSqlScript()).isEqualTo(expected.toSqlScript());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,2", "5,100", "9,300", "40,2000"})
+    void 모든_역이_하나로_연결된_노선도를_생성(int lineCount, int stationCount) {
+        SubwayNetwork network = new SubwayNetworkGenerator(SEED).generate(lineCount, stationCount);
+        List<Station> stations = network.getStations();
+        Navigator navigator = new Navigator(network.toSections());
+
+        assertThat(network.getLines()).hasSize(lineCount);
+        assertThat(toRegisteredStations(network.getLines())).hasSize(stationCount);
+        for (Station station : stations.subList(1, stations.size())) {
+            assertThat(navigator.calculateShortestPath(stations.get(0), station)).isNotEmpty();
+        }
+    }
+
+    private Set<Station> toRegisteredStations(List<Line> lines) {
+        Set<Station> stations = new HashSet<>();
+        for (Line line : lines) {
+            stations.addAll(line.getSortedStations());
+        }
+        return stations;
+    }
+
+    @Test
+    void 여러_노선이_지나는_환승역을_포함() {
+        SubwayNetwork network = new SubwayNetworkGenerator(SEED).generate(9, 300);
+
+        long transferStationCount = network.getStations()
+                .stream()
+                .filter(station -> countPassingLines(network, station) >= 3)
+                .count();
+
+        assertThat(transferStationCount).isGreaterThan(0L);
+    }
+
+    private long countPassingLines(SubwayNetwork network, Station station) {
+        return network.toSections()
+                .stream()
+                .filter(section -> section.hasStationOf(station))
+                .map(Section::getLineId)
+                .distinct()
+                .count();
+    }
+
+    @Test
+    void 노선마다_두_개_이상의_역을_배정할_수_없는_경우_예외발생() {
+        assertThatThrownBy(() -> new SubwayNetworkGenerator(SEED).generate(10, 19))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -11,7 +11,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import wooteco.subway.dao.LineDao;
 import wooteco.subway.dao.SectionDao;
-import wooteco.subway.domain.line.LineExtraFare;
 import wooteco.subway.domain.line.Line;
 import wooteco.subway.domain.section.Section;
 import wooteco.subway.domain.section.Sections;
@@ -61,19 +60,6 @@ class LineRepositoryTest extends DatabaseUsageTest {
         assertThat(actual).isEqualTo(expected);
     }
 
-    @Test
-    void findLineExtraFaresByIds_메서드는_id_목록에_해당되는_노선들의_추가요금_정보들을_조회하여_리스트로_반환() {
-        LineEntity 신분당선 = new LineEntity("신분당선", "색깔1", 1000);
-        LineEntity 분당선 = new LineEntity("분당선", "색깔2", 0);
-        LineEntity 수인선 = new LineEntity("수인선", "색깔3", 900);
-        databaseFixtureUtils.saveLines(신분당선, 분당선, 수인선);
-
-        List<LineExtraFare> actual = repository.findLineExtraFaresByIds(List.of(2L, 3L));
-        List<LineExtraFare> expected = List.of(new LineExtraFare(0), new LineExtraFare(900));
-
-        assertThat(actual).isEqualTo(expected);
-    }
-
     @DisplayName("findExistingLine 메서드는 id에 대응되는 노선을 조회")
     @Nested
     class FindExistingLineTest {
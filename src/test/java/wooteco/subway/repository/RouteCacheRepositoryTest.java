@@ -0,0 +1,135 @@
+package wooteco.subway.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import wooteco.subway.domain.fare.Fare;
+import wooteco.subway.domain.path.Disruption;
+import wooteco.subway.domain.path.PricedRoute;
+import wooteco.subway.domain.path.RoutingMode;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.fixture.DatabaseUsageTest;
+
+@SuppressWarnings("NonAsciiCharacters")
+class RouteCacheRepositoryTest extends DatabaseUsageTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 선릉역 = new Station(2L, "선릉역");
+    private static final Station 잠실역 = new Station(3L, "잠실역");
+    private static final PricedRoute 강남_선릉_경로 = new PricedRoute(List.of(강남역, 선릉역), 10, new Fare());
+
+    @Autowired
+    private RouteCacheRepository repository;
+
+    @Test
+    void 동일한_버전의_동일한_출발역과_도착역에_대해서는_캐싱된_경로를_재사용() {
+        AtomicInteger pricingCount = new AtomicInteger();
+
+        repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 선릉역, () -> countPricing(pricingCount));
+        PricedRoute actual = repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 선릉역,
+                () -> countPricing(pricingCount));
+
+        assertThat(actual).isEqualTo(강남_선릉_경로);
+        assertThat(pricingCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 노선도의_버전이_달라지면_경로를_다시_계산() {
+        AtomicInteger pricingCount = new AtomicInteger();
+
+        repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 선릉역, () -> countPricing(pricingCount));
+        repository.findPricedRoute(2L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 선릉역, () -> countPricing(pricingCount));
+
+        assertThat(pricingCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 경로_탐색_방식이_달라지면_경로를_다시_계산() {
+        AtomicInteger pricingCount = new AtomicInteger();
+
+        repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 선릉역, () -> countPricing(pricingCount));
+        repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.MIN_TRANSFER, 강남역, 선릉역, () -> countPricing(pricingCount));
+        repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.CHEAPEST, 강남역, 선릉역, () -> countPricing(pricingCount));
+
+        assertThat(pricingCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 새로_제외된_역을_지나지_않는_경로는_캐싱된_경로를_재사용() {
+        AtomicInteger pricingCount = new AtomicInteger();
+        Disruption disruption = Disruption.NONE.closeStation(잠실역.getId());
+
+        repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 선릉역,
+                () -> countPricing(pricingCount));
+        repository.findPricedRoute(1L, disruption, RoutingMode.DISTANCE, 강남역, 선릉역,
+                () -> countPricing(pricingCount));
+
+        assertThat(pricingCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 새로_제외된_역을_지나는_경로는_다시_계산() {
+        AtomicInteger pricingCount = new AtomicInteger();
+        Disruption disruption = Disruption.NONE.closeStation(선릉역.getId());
+
+        repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 선릉역,
+                () -> countPricing(pricingCount));
+        repository.findPricedRoute(1L, disruption, RoutingMode.DISTANCE, 강남역, 선릉역,
+                () -> countPricing(pricingCount));
+
+        assertThat(pricingCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 제외된_역이_다시_개방되면_제외된_동안_계산한_경로는_다시_계산() {
+        AtomicInteger pricingCount = new AtomicInteger();
+        Disruption disruption = Disruption.NONE.closeStation(잠실역.getId());
+
+        repository.findPricedRoute(1L, disruption, RoutingMode.DISTANCE, 강남역, 선릉역,
+                () -> countPricing(pricingCount));
+        repository.findPricedRoute(1L, disruption.reopenStation(잠실역.getId()), RoutingMode.DISTANCE, 강남역, 선릉역,
+                () -> countPricing(pricingCount));
+
+        assertThat(pricingCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 출발역과_도착역이_같은_경우_경로를_계산하거나_캐싱하지_않고_예외발생() {
+        AtomicInteger pricingCount = new AtomicInteger();
+
+        assertThatThrownBy(() -> repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 강남역,
+                () -> countPricing(pricingCount)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(pricingCount.get()).isZero();
+    }
+
+    @Test
+    void invalidateRoutesAffectedBy_메서드는_제외된_구간을_지나는_경로만_제거() {
+        AtomicInteger pricingCount = new AtomicInteger();
+        PricedRoute 강남_잠실_경로 = new PricedRoute(List.of(강남역, 잠실역), 20, new Fare());
+        repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 선릉역,
+                () -> countPricing(pricingCount));
+        repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 잠실역,
+                () -> 강남_잠실_경로);
+        Disruption disruption = Disruption.NONE.closeSection(new Section(1L, 강남역, 선릉역, 10));
+
+        repository.invalidateRoutesAffectedBy(disruption);
+        repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 선릉역,
+                () -> countPricing(pricingCount));
+        PricedRoute actual = repository.findPricedRoute(1L, Disruption.NONE, RoutingMode.DISTANCE, 강남역, 잠실역,
+                () -> countPricing(pricingCount));
+
+        assertThat(pricingCount.get()).isEqualTo(2);
+        assertThat(actual).isEqualTo(강남_잠실_경로);
+    }
+
+    private PricedRoute countPricing(AtomicInteger pricingCount) {
+        pricingCount.incrementAndGet();
+        return 강남_선릉_경로;
+    }
+}
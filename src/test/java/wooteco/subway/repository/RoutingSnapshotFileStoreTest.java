@@ -0,0 +1,112 @@
+package wooteco.subway.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import wooteco.subway.domain.line.LineFareTable;
+import wooteco.subway.domain.path.RoutingSnapshot;
+import wooteco.subway.domain.path.SearchSettings;
+import wooteco.subway.domain.path.SearchStrategy;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.station.Station;
+
+@SuppressWarnings("NonAsciiCharacters")
+class RoutingSnapshotFileStoreTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 선릉역 = new Station(2L, "선릉역");
+    private static final Station 잠실역 = new Station(3L, "잠실역");
+    private static final SearchSettings SETTINGS = SearchSettings.of(SearchStrategy.DIJKSTRA);
+    private static final int FORMAT_VERSION_OFFSET = Integer.BYTES;
+
+    private final List<Section> sections = List.of(
+            new Section(1L, 강남역, 선릉역, 10),
+            new Section(1L, 선릉역, 잠실역, 5));
+    private final RoutingSnapshot snapshot = RoutingSnapshot.of(1L, sections, LineFareTable.of(Map.of(1L, 900)),
+            SETTINGS);
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private RoutingSnapshotFileStore fileStore;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("routing-snapshot.bin");
+        fileStore = new RoutingSnapshotFileStore(file.toString());
+    }
+
+    @Test
+    void 저장한_스냅샷을_읽으면_주어진_버전의_같은_경로와_요금표를_반환() {
+        fileStore.save(snapshot);
+
+        RoutingSnapshot actual = fileStore.load(2L, SETTINGS).get();
+
+        assertThat(actual.getVersion()).isEqualTo(2L);
+        assertThat(actual.getNavigator().calculateShortestPath(강남역, 잠실역)).isEqualTo(sections);
+        assertThat(actual.getLineFareTable().toExtraFaresByLineId()).isEqualTo(Map.of(1L, 900));
+    }
+
+    @Test
+    void 백그라운드로_저장을_요청하면_종료_전까지_가장_최근의_스냅샷을_저장() {
+        RoutingSnapshot latest = RoutingSnapshot.of(2L, sections, LineFareTable.of(Map.of(1L, 500)), SETTINGS);
+
+        fileStore.saveInBackground(snapshot);
+        fileStore.saveInBackground(latest);
+        fileStore.close();
+        RoutingSnapshot actual = fileStore.load(3L, SETTINGS).get();
+
+        assertThat(actual.getLineFareTable().toExtraFaresByLineId()).isEqualTo(Map.of(1L, 500));
+    }
+
+    @Test
+    void 체크섬이_맞지_않는_파일은_빈_값을_반환() throws IOException {
+        fileStore.save(snapshot);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+
+        Optional<RoutingSnapshot> actual = fileStore.load(2L, SETTINGS);
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 형식_버전이_다른_파일은_빈_값을_반환() throws IOException {
+        fileStore.save(snapshot);
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(FORMAT_VERSION_OFFSET, Integer.MAX_VALUE);
+        Files.write(file, bytes);
+
+        Optional<RoutingSnapshot> actual = fileStore.load(2L, SETTINGS);
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 파일이_없는_경우_빈_값을_반환() {
+        Optional<RoutingSnapshot> actual = fileStore.load(2L, SETTINGS);
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 파일_경로가_지정되지_않은_경우_저장하지_않고_빈_값을_반환() {
+        RoutingSnapshotFileStore disabled = new RoutingSnapshotFileStore("");
+
+        disabled.save(snapshot);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.load(2L, SETTINGS)).isEmpty();
+    }
+}
@@ -0,0 +1,134 @@
+package wooteco.subway.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import wooteco.subway.domain.line.LineExtraFare;
+import wooteco.subway.domain.path.RoutingSnapshot;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.section.SectionUpdates;
+import wooteco.subway.domain.station.Station;
+import wooteco.subway.dto.request.CreateSectionRequest;
+import wooteco.subway.dto.request.UpdateLineRequest;
+import wooteco.subway.entity.LineEntity;
+import wooteco.subway.fixture.DatabaseUsageTest;
+import wooteco.subway.service.LineService;
+import wooteco.subway.service.SectionService;
+
+@SuppressWarnings("NonAsciiCharacters")
+class RoutingSnapshotRepositoryTest extends DatabaseUsageTest {
+
+    private static final Station 강남역 = new Station(1L, "강남역");
+    private static final Station 선릉역 = new Station(2L, "선릉역");
+    private static final Station 잠실역 = new Station(3L, "잠실역");
+
+    @Autowired
+    private RoutingSnapshotRepository repository;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private LineService lineService;
+
+    @BeforeEach
+    void setup() {
+        databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+        databaseFixtureUtils.saveLines(new LineEntity("노선", "색깔", 0));
+        databaseFixtureUtils.saveSections(new Section(1L, 강남역, 선릉역, 10));
+    }
+
+    @Test
+    void findCurrentSnapshot_메서드는_변경이_없는_동안_동일한_스냅샷을_재사용() {
+        RoutingSnapshot actual = repository.findCurrentSnapshot();
+        RoutingSnapshot expected = repository.findCurrentSnapshot();
+
+        assertThat(actual).isSameAs(expected);
+    }
+
+    @Test
+    void invalidate_메서드_호출시_새로운_버전의_스냅샷을_생성() {
+        RoutingSnapshot previous = repository.findCurrentSnapshot();
+        repository.invalidate();
+        RoutingSnapshot current = repository.findCurrentSnapshot();
+
+        assertThat(current).isNotSameAs(previous);
+        assertThat(current.getVersion()).isGreaterThan(previous.getVersion());
+    }
+
+    @Test
+    void 구간_변경이_커밋되면_변경된_구간이_반영된_스냅샷을_생성() {
+        RoutingSnapshot previous = repository.findCurrentSnapshot();
+        sectionService.save(1L, toCreateSectionRequest(선릉역, 잠실역, 5));
+        RoutingSnapshot current = repository.findCurrentSnapshot();
+
+        List<Section> actual = current.getNavigator().calculateShortestPath(강남역, 잠실역);
+        List<Section> expected = List.of(
+                new Section(1L, 강남역, 선릉역, 10),
+                new Section(1L, 선릉역, 잠실역, 5));
+
+        assertThat(current.getVersion()).isGreaterThan(previous.getVersion());
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void 구간_삭제가_커밋되면_다시_적재한_스냅샷과_같은_경로를_반환() {
+        sectionService.save(1L, toCreateSectionRequest(선릉역, 잠실역, 5));
+        repository.findCurrentSnapshot();
+        sectionService.delete(1L, 선릉역.getId());
+        RoutingSnapshot patched = repository.findCurrentSnapshot();
+        repository.invalidate();
+        RoutingSnapshot reloaded = repository.findCurrentSnapshot();
+
+        List<Section> actual = patched.getNavigator().calculateShortestPath(강남역, 잠실역);
+        List<Section> expected = reloaded.getNavigator().calculateShortestPath(강남역, 잠실역);
+
+        assertThat(actual).isEqualTo(List.of(new Section(1L, 강남역, 잠실역, 15)));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void 커밋_이후에_적재된_스냅샷에는_추가된_구간을_중복으로_반영하지_않음() {
+        Section 선릉_잠실 = new Section(선릉역, 잠실역, 5);
+        databaseFixtureUtils.saveSections(new Section(1L, 선릉_잠실));
+        repository.findCurrentSnapshot();
+        repository.applyAfterCommit(1L, new SectionUpdates(List.of(선릉_잠실), List.of()));
+        repository.applyAfterCommit(1L, new SectionUpdates(List.of(), List.of(선릉_잠실)));
+        RoutingSnapshot current = repository.findCurrentSnapshot();
+
+        assertThatThrownBy(() -> current.getNavigator().calculateShortestPath(강남역, 잠실역))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 노선의_추가요금이_변경되면_변경된_요금표가_반영된_스냅샷을_생성() {
+        RoutingSnapshot previous = repository.findCurrentSnapshot();
+        lineService.update(1L, toUpdateLineRequest("노선", "색깔", 700));
+        RoutingSnapshot current = repository.findCurrentSnapshot();
+
+        List<LineExtraFare> actual = current.getLineFareTable().findExtraFares(List.of(1L));
+
+        assertThat(previous.getLineFareTable().findExtraFares(List.of(1L))).containsExactly(new LineExtraFare(0));
+        assertThat(actual).containsExactly(new LineExtraFare(700));
+    }
+
+    private CreateSectionRequest toCreateSectionRequest(Station upStation, Station downStation, int distance) {
+        CreateSectionRequest request = new CreateSectionRequest();
+        request.setUpStationId(upStation.getId());
+        request.setDownStationId(downStation.getId());
+        request.setDistance(distance);
+        return request;
+    }
+
+    private UpdateLineRequest toUpdateLineRequest(String name, String color, int extraFare) {
+        UpdateLineRequest request = new UpdateLineRequest();
+        request.setName(name);
+        request.setColor(color);
+        request.setExtraFare(extraFare);
+        return request;
+    }
+}
@@ -0,0 +1,60 @@
+package wooteco.subway.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.station.Station;
+
+@SuppressWarnings("NonAsciiCharacters")
+class StationCacheTest {
+
+    private final StationCache cache = new StationCache();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private Optional<Station> load(Long id) {
+        loadCount.incrementAndGet();
+        if (id == 999L) {
+            return Optional.empty();
+        }
+        return Optional.of(new Station(id, "역" + id));
+    }
+
+    @Test
+    void 한번_조회된_역은_다시_조회하지_않음() {
+        cache.findById(1L, this::load);
+        Optional<Station> actual = cache.findById(1L, this::load);
+
+        assertThat(actual).isEqualTo(Optional.of(new Station(1L, "역1")));
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 초기_용량보다_큰_id의_역도_캐싱() {
+        cache.findById(500L, this::load);
+        cache.findById(1L, this::load);
+        cache.findById(500L, this::load);
+        cache.findById(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 존재하지_않는_역은_캐싱하지_않음() {
+        cache.findById(999L, this::load);
+        Optional<Station> actual = cache.findById(999L, this::load);
+
+        assertThat(actual).isEqualTo(Optional.empty());
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 무효화된_이후에는_다시_조회() {
+        cache.findById(1L, this::load);
+        cache.invalidate();
+        cache.findById(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
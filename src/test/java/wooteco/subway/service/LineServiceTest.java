@@ -11,9 +11,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import wooteco.subway.dao.LineDao;
 import wooteco.subway.dao.SectionDao;
+import wooteco.subway.dao.TimetableDao;
+import wooteco.subway.domain.line.LineTimetable;
 import wooteco.subway.domain.section.Section;
 import wooteco.subway.domain.station.Station;
 import wooteco.subway.dto.request.CreateLineRequest;
+import wooteco.subway.dto.request.TimetableRequest;
 import wooteco.subway.dto.request.UpdateLineRequest;
 import wooteco.subway.dto.response.LineResponse;
 import wooteco.subway.dto.response.StationResponse;
@@ -37,6 +40,9 @@ class LineServiceTest extends DatabaseUsageTest {
     @Autowired
     private SectionDao sectionDao;
 
+    @Autowired
+    private TimetableDao timetableDao;
+
     @DisplayName("findAll 및 find 메서드는 데이터를 조회한다")
     @Nested
     class FindMethodsTest {
@@ -237,6 +243,45 @@ class LineServiceTest extends DatabaseUsageTest {
         }
     }
 
+    @DisplayName("updateTimetable 메서드는 노선의 시간표를 등록하거나 수정한다")
+    @Nested
+    class UpdateTimetableTest {
+
+        @Test
+        void 이미_시간표가_등록된_노선이라면_새로운_시간표로_수정() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+
+            service.updateTimetable(1L, new TimetableRequest("05:30", "23:00", 10, 35));
+            service.updateTimetable(1L, new TimetableRequest("06:00", "22:00", 5, 40));
+            List<LineTimetable> actual = timetableDao.findAll();
+            List<LineTimetable> expected = List.of(LineTimetable.of(1L, "06:00", "22:00", 5, 40));
+
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        @Test
+        void 존재하지_않는_노선의_시간표를_등록하려는_경우_예외발생() {
+            TimetableRequest request = new TimetableRequest("05:30", "23:00", 10, 35);
+
+            assertThatThrownBy(() -> service.updateTimetable(99999L, request))
+                    .isInstanceOf(NotFoundException.class);
+        }
+
+        @Test
+        void 막차가_첫차보다_먼저_출발하는_경우_예외발생() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            TimetableRequest request = new TimetableRequest("23:00", "05:30", 10, 35);
+
+            assertThatThrownBy(() -> service.updateTimetable(1L, request))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("막차 출발 시각은 첫차 출발 시각보다 이를 수 없습니다.");
+        }
+    }
+
     @DisplayName("delete 메서드는 노선과 모든 구간 데이터를 삭제한다")
     @Nested
     class DeleteTest {
@@ -3,14 +3,21 @@ package wooteco.subway.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import wooteco.subway.domain.path.ReachableStation;
+import wooteco.subway.domain.path.RouteMatrix;
 import wooteco.subway.domain.section.Section;
 import wooteco.subway.domain.station.Station;
+import wooteco.subway.dto.request.PathQueryRequest;
+import wooteco.subway.dto.response.BatchPathResponse;
 import wooteco.subway.dto.response.PathResponse;
+import wooteco.subway.dto.response.PathResultResponse;
+import wooteco.subway.dto.response.ReachableStationResponse;
 import wooteco.subway.dto.response.StationResponse;
 import wooteco.subway.entity.LineEntity;
 import wooteco.subway.exception.NotFoundException;
@@ -95,6 +102,215 @@ class PathServiceTest extends DatabaseUsageTest {
         }
     }
 
+    @DisplayName("findAlternativePaths 메서드는 최단경로부터 거리 순서대로 여러 경로를 조회한다")
+    @Nested
+    class FindAlternativePathsTest {
+
+        @Test
+        void 경로마다_지하철역들의_목록과_거리_및_요금_정보를_반환() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveLineTestFixture("급행노선", "색깔2", 900);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 5);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 5);
+            saveSectionTestFixture(2L, 강남역, 잠실역, 12);
+
+            List<PathResponse> actual = service.findAlternativePaths(1L, 3L, 3, 30);
+            List<PathResponse> expected = List.of(
+                    new PathResponse(List.of(new StationResponse(1L, "강남역"), new StationResponse(2L, "선릉역"),
+                            new StationResponse(3L, "잠실역")), 10, 1250),
+                    new PathResponse(List.of(new StationResponse(1L, "강남역"),
+                            new StationResponse(3L, "잠실역")), 12, 2250));
+
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        @Test
+        void 경로의_개수가_범위를_벗어나면_예외발생() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+
+            assertThatThrownBy(() -> service.findAlternativePaths(1L, 2L, 11, 30))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("findParetoPaths 메서드는 거리, 요금, 환승 횟수에 대한 파레토 최적 경로들을 조회한다")
+    @Nested
+    class FindParetoPathsTest {
+
+        @Test
+        void 더_길지만_요금이_저렴한_경로를_환승_횟수와_함께_반환() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveLineTestFixture("급행노선", "색깔2", 900);
+            saveLineTestFixture("지선", "색깔3", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(3L, 선릉역, 잠실역, 10);
+            saveSectionTestFixture(2L, 강남역, 잠실역, 12);
+
+            List<PathResponse> actual = service.findParetoPaths(1L, 3L, 30);
+            List<PathResponse> expected = List.of(
+                    new PathResponse(List.of(new StationResponse(1L, "강남역"),
+                            new StationResponse(3L, "잠실역")), 12, 2250, 0),
+                    new PathResponse(List.of(new StationResponse(1L, "강남역"), new StationResponse(2L, "선릉역"),
+                            new StationResponse(3L, "잠실역")), 20, 1450, 1));
+
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        @Test
+        void 나이가_범위를_벗어나면_예외발생() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+
+            assertThatThrownBy(() -> service.findParetoPaths(1L, 2L, -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("findShortestPathTree 메서드는 출발역에서 모든 역까지의 최단경로 트리를 조회한다")
+    @Nested
+    class FindShortestPathTreeTest {
+
+        @Test
+        void 도달_가능한_역마다_개별_최단경로와_같은_거리와_요금을_반환() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색깔", 300);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 8);
+
+            List<ReachableStation> actual = new ArrayList<>();
+            service.findShortestPathTree(1L, 15).forEach(actual::add);
+
+            assertThat(actual).extracting(ReachableStation::getStation)
+                    .containsExactly(선릉역, 잠실역);
+            assertThat(actual.get(1).getDistance())
+                    .isEqualTo(service.findShortestPath(1L, 3L, 15).getDistance());
+            assertThat(actual.get(1).getFare())
+                    .isEqualTo(service.findShortestPath(1L, 3L, 15).getFare());
+        }
+
+        @Test
+        void 존재하지_않는_지하철역을_입력한_경우_예외발생() {
+            assertThatThrownBy(() -> service.findShortestPathTree(9999999999L, 15))
+                    .isInstanceOf(NotFoundException.class);
+        }
+
+        @Test
+        void 구간에_등록되지_않은_지하철역이_입력된_경우_예외발생() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+
+            assertThatThrownBy(() -> service.findShortestPathTree(3L, 15))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("findReachableStations 메서드는 예산 이내로 도달 가능한 역들을 조회한다")
+    @Nested
+    class FindReachableStationsTest {
+
+        @Test
+        void 최대_요금_이내로_도달_가능한_역들만_반환() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 8);
+
+            List<ReachableStationResponse> actual = service.findReachableStations(1L, null, 1250, 30);
+            List<ReachableStationResponse> expected = List.of(
+                    new ReachableStationResponse(new StationResponse(2L, "선릉역"), 10, 1250));
+
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        @Test
+        void 최대_거리와_최대_요금이_모두_입력되지_않은_경우_예외발생() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+
+            assertThatThrownBy(() -> service.findReachableStations(1L, null, null, 30))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("findRouteMatrix 메서드는 출발역과 도착역의 모든 쌍에 대한 거리와 요금을 계산한다")
+    @Nested
+    class FindRouteMatrixTest {
+
+        @Test
+        void 각_칸에_개별_최단경로와_같은_거리와_요금을_반환() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역);
+            saveLineTestFixture("노선", "색깔", 300);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 8);
+
+            RouteMatrix actual = service.findRouteMatrix(List.of(1L, 2L), List.of(3L), 15);
+
+            assertThat(actual.getDistance(0, 0)).isEqualTo(service.findShortestPath(1L, 3L, 15).getDistance());
+            assertThat(actual.getFare(0, 0)).isEqualTo(service.findShortestPath(1L, 3L, 15).getFare());
+            assertThat(actual.getFare(1, 0)).isEqualTo(service.findShortestPath(2L, 3L, 15).getFare());
+        }
+
+        @Test
+        void 존재하지_않는_지하철역을_입력한_경우_예외발생() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 10);
+
+            assertThatThrownBy(() -> service.findRouteMatrix(List.of(1L), List.of(9999999999L), 15))
+                    .isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @DisplayName("findShortestPaths 메서드는 여러 경로를 하나의 스냅샷에서 조회한다")
+    @Nested
+    class FindShortestPathsTest {
+
+        @Test
+        void 요청_순서대로_경로별_조회_결과를_반환() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역, 청계산입구역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 5);
+            saveSectionTestFixture(1L, 선릉역, 잠실역, 5);
+
+            BatchPathResponse actual = service.findShortestPaths(List.of(
+                    new PathQueryRequest(1L, 3L, 25),
+                    new PathQueryRequest(3L, 2L, 25)));
+
+            assertThat(actual.getResults())
+                    .extracting(PathResultResponse::getStatus)
+                    .containsExactly(200, 200);
+            assertThat(actual.getResults().get(0).getPath())
+                    .isEqualTo(service.findShortestPath(1L, 3L, 25));
+            assertThat(actual.getResults().get(1).getPath())
+                    .isEqualTo(service.findShortestPath(3L, 2L, 25));
+        }
+
+        @Test
+        void 조회에_실패한_경로는_해당_항목에만_상태코드와_메시지가_담김() {
+            databaseFixtureUtils.saveStations(강남역, 선릉역, 잠실역, 청계산입구역);
+            saveLineTestFixture("노선", "색깔", 0);
+            saveSectionTestFixture(1L, 강남역, 선릉역, 5);
+
+            BatchPathResponse actual = service.findShortestPaths(List.of(
+                    new PathQueryRequest(1L, 2L, 25),
+                    new PathQueryRequest(1L, 9999999999L, 25),
+                    new PathQueryRequest(1L, 3L, 25)));
+
+            assertThat(actual.getResults())
+                    .extracting(PathResultResponse::getStatus)
+                    .containsExactly(200, 404, 400);
+            assertThat(actual.getResults().get(1).getPath()).isNull();
+            assertThat(actual.getResults().get(1).getMessage()).isNotBlank();
+        }
+    }
+
     private void saveLineTestFixture(String name, String color, int extraFare) {
         databaseFixtureUtils.saveLines(new LineEntity(name, color, extraFare));
     }
@@ -1,6 +1,7 @@
 TRUNCATE TABLE station;
 TRUNCATE TABLE line;
 TRUNCATE TABLE section;
+TRUNCATE TABLE timetable;
 
 ALTER TABLE station ALTER COLUMN id RESTART WITH 1;
 ALTER TABLE line ALTER COLUMN id RESTART WITH 1;
@@ -1,6 +1,7 @@
 DROP TABLE station IF EXISTS;
 DROP TABLE line IF EXISTS;
 DROP TABLE section IF EXISTS;
+DROP TABLE timetable IF EXISTS;
 
 CREATE TABLE station
 (
@@ -28,3 +29,13 @@ CREATE TABLE section
     PRIMARY KEY (id),
     UNIQUE KEY unique_section (line_id, up_station_id, down_station_id)
 );
+
+CREATE TABLE timetable
+(
+    line_id         BIGINT NOT NULL,
+    first_departure TIME   NOT NULL,
+    last_departure  TIME   NOT NULL,
+    headway         INT    NOT NULL,
+    speed           INT    NOT NULL,
+    PRIMARY KEY (line_id)
+);